@@ -0,0 +1,60 @@
+package com.innowise.orderservice.client;
+
+import feign.RetryableException;
+import feign.Retryer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Feign retryer with the backoff of {@link Retryer.Default} that retries only while {@link RetryBudget} allows it.
+ * Attempts and the budget are checked before sleeping, so a denied retry fails right away.
+ */
+@Slf4j
+public class BudgetedRetryer implements Retryer {
+
+    private final RetryBudget retryBudget;
+    private final long period;
+    private final long maxPeriod;
+    private final int maxAttempts;
+
+    private int attempt = 1;
+
+    public BudgetedRetryer(RetryBudget retryBudget, long period, long maxPeriod, int maxAttempts) {
+        this.retryBudget = retryBudget;
+        this.period = period;
+        this.maxPeriod = maxPeriod;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Override
+    public void continueOrPropagate(RetryableException e) {
+        if (attempt++ >= maxAttempts) {
+            throw e;
+        }
+        if (!retryBudget.tryRetry()) {
+            log.warn("User Service retry budget is exhausted, not retrying {}: {}", e.method(), e.getMessage());
+            throw e;
+        }
+
+        try {
+            Thread.sleep(interval(e));
+        } catch (InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+    }
+
+    /**
+     * Honors Retry-After up to max period, otherwise backs off by 1.5x per attempt
+     */
+    private long interval(RetryableException e) {
+        if (e.retryAfter() != null) {
+            return Math.clamp(e.retryAfter() - System.currentTimeMillis(), 0, maxPeriod);
+        }
+        return Math.min((long) (period * Math.pow(1.5, attempt - 1)), maxPeriod);
+    }
+
+    @Override
+    public Retryer clone() {
+        return new BudgetedRetryer(retryBudget, period, maxPeriod, maxAttempts);
+    }
+}
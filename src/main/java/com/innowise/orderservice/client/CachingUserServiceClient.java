@@ -0,0 +1,218 @@
+package com.innowise.orderservice.client;
+
+import com.innowise.orderservice.client.dto.UserInfoDto;
+import com.innowise.orderservice.config.AsyncConfig;
+import com.innowise.orderservice.config.CacheConfig;
+import com.innowise.orderservice.exception.BatchLookupNotSupportedException;
+import com.innowise.orderservice.exception.UserNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Caching decorator for UserServiceClient. Cache misses go through {@link ProjectedUserServiceClient}.
+ * While User Service is unavailable, lookups are answered from {@link LastKnownUserStore}, such answers
+ * are never cached. The first answer of User Service itself after that, reported by {@link UserServiceAvailability}
+ * rather than a projection hit, refreshes the users served stale in the background.
+ */
+@Component
+@Primary
+@Slf4j
+public class CachingUserServiceClient implements UserServiceClient {
+
+    private final UserServiceClient delegate;
+    private final Cache usersCache;
+    private final Executor userLookupExecutor;
+    private final LastKnownUserStore lastKnownUserStore;
+
+    private final boolean batchLookupEnabled;
+    private final Duration batchLookupRetryInterval;
+
+    private volatile Instant batchLookupRetryAt = Instant.MIN;
+
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    public CachingUserServiceClient(
+            @Qualifier(UserServiceClient.PROJECTED_QUALIFIER) UserServiceClient delegate,
+            CacheManager cacheManager,
+            @Qualifier(AsyncConfig.USER_LOOKUP_EXECUTOR) Executor userLookupExecutor,
+            LastKnownUserStore lastKnownUserStore,
+            UserServiceAvailability userServiceAvailability,
+            @Value("${user.service.batch-lookup.enabled:true}") boolean batchLookupEnabled,
+            @Value("${user.service.batch-lookup.retry-interval:10m}") Duration batchLookupRetryInterval
+    ) {
+        this.delegate = delegate;
+        this.usersCache = cacheManager.getCache(CacheConfig.USERS_CACHE);
+        this.userLookupExecutor = userLookupExecutor;
+        this.lastKnownUserStore = lastKnownUserStore;
+        this.batchLookupEnabled = batchLookupEnabled;
+        this.batchLookupRetryInterval = batchLookupRetryInterval;
+        userServiceAvailability.addListener(this::onAvailable);
+    }
+
+    @Override
+    public UserInfoDto getUserById(Long id) {
+        UserInfoDto cached = usersCache.get(id, UserInfoDto.class);
+        if (cached != null) {
+            return cached;
+        }
+        return load(id);
+    }
+
+    /**
+     * Returns cached users and fetches the rest with one batch request.
+     * If User Service has no batch route, falls back to parallel single lookups
+     * bounded by the user lookup executor and probes the batch route again after retry interval.
+     */
+    @Override
+    public List<UserInfoDto> getUsersByIds(Collection<Long> ids) {
+        List<UserInfoDto> users = new ArrayList<>();
+        Set<Long> missingIds = new LinkedHashSet<>();
+
+        for (Long id : ids) {
+            UserInfoDto cached = usersCache.get(id, UserInfoDto.class);
+            if (cached != null) {
+                users.add(cached);
+            } else {
+                missingIds.add(id);
+            }
+        }
+
+        if (missingIds.isEmpty()) {
+            return users;
+        }
+
+        users.addAll(fetchUsers(missingIds));
+        return users;
+    }
+
+    private List<UserInfoDto> fetchUsers(Set<Long> ids) {
+        if (batchLookupEnabled && !Instant.now().isBefore(batchLookupRetryAt)) {
+            try {
+                List<UserInfoDto> fetched = delegate.getUsersByIds(ids);
+                fetched.forEach(this::remember);
+                return fetched;
+            } catch (BatchLookupNotSupportedException e) {
+                log.warn("Batch user lookup is not available, using single lookups for {}: {}",
+                        batchLookupRetryInterval, e.getMessage());
+                batchLookupRetryAt = Instant.now().plus(batchLookupRetryInterval);
+            } catch (RuntimeException e) {
+                log.warn("Batch user lookup failed, serving last known users {}: {}", ids, e.getMessage());
+                return ids.stream()
+                        .map(lastKnownUserStore::serveStale)
+                        .toList();
+            }
+        }
+
+        List<CompletableFuture<UserInfoDto>> futures = ids.stream()
+                .map(id -> CompletableFuture.supplyAsync(() -> load(id), userLookupExecutor))
+                .toList();
+
+        List<UserInfoDto> users = new ArrayList<>();
+        for (CompletableFuture<UserInfoDto> future : futures) {
+            try {
+                users.add(future.join());
+            } catch (CompletionException e) {
+                // unknown ids are absent from the result, as with the batch route
+                if (!(e.getCause() instanceof UserNotFoundException)) {
+                    throw unwrap(e);
+                }
+            }
+        }
+        return users;
+    }
+
+    /**
+     * Rethrows the lookup failure as is, so callers see the same exceptions as with a direct call
+     */
+    private static RuntimeException unwrap(CompletionException e) {
+        if (e.getCause() instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (e.getCause() instanceof Error error) {
+            throw error;
+        }
+        return e;
+    }
+
+    /**
+     * Single lookup past the cache. A missing user is an answer, any other failure means User Service is degraded.
+     */
+    private UserInfoDto load(Long id) {
+        UserInfoDto user;
+        try {
+            user = delegate.getUserById(id);
+        } catch (UserNotFoundException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            log.warn("User lookup failed, serving last known user {}: {}", id, e.getMessage());
+            return lastKnownUserStore.serveStale(id);
+        }
+
+        remember(user);
+        return user;
+    }
+
+    private void remember(UserInfoDto user) {
+        if (user == null) {
+            return;
+        }
+        usersCache.put(user.id(), user);
+        lastKnownUserStore.remember(user);
+    }
+
+    /**
+     * User Service answered, revalidates users served stale during the outage, one refresh at a time
+     */
+    private void onAvailable() {
+        if (!lastKnownUserStore.hasStale() || !refreshing.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            userLookupExecutor.execute(() -> {
+                try {
+                    refreshStale();
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            refreshing.set(false);
+            log.warn("Could not schedule refresh of stale users: {}", e.getMessage());
+        }
+    }
+
+    private void refreshStale() {
+        List<Long> staleIds = lastKnownUserStore.staleIds();
+        log.info("User Service is available again, refreshing {} users served stale", staleIds.size());
+
+        for (Long id : staleIds) {
+            try {
+                remember(delegate.getUserById(id));
+            } catch (UserNotFoundException e) {
+                log.warn("User {} served stale no longer exists", id);
+                lastKnownUserStore.forget(id);
+            } catch (RuntimeException e) {
+                log.warn("Stopped refreshing stale users, User Service failed again: {}", e.getMessage());
+                return;
+            }
+        }
+    }
+}
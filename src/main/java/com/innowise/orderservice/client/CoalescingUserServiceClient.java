@@ -0,0 +1,105 @@
+package com.innowise.orderservice.client;
+
+import com.innowise.orderservice.client.dto.UserInfoDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Single-flight decorator for UserServiceClient: concurrent lookups of the same user share one call.
+ * The first caller runs the request on its own thread, callers arriving while it is in flight wait for
+ * its result or failure. When the in-flight table is full, lookups go straight to the delegate.
+ */
+@Component
+@Qualifier(UserServiceClient.COALESCING_QUALIFIER)
+@Slf4j
+public class CoalescingUserServiceClient implements UserServiceClient {
+
+    public static final String LOOKUPS_METRIC = "user.lookup.coalescing";
+    public static final String IN_FLIGHT_METRIC = "user.lookup.in-flight";
+
+    private final UserServiceClient delegate;
+    private final int maxInFlight;
+
+    private final Map<Long, CompletableFuture<UserInfoDto>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter executed;
+    private final Counter collapsed;
+    private final Counter bypassed;
+
+    public CoalescingUserServiceClient(
+            @Qualifier(UserServiceClient.HEDGING_QUALIFIER) UserServiceClient delegate,
+            MeterRegistry meterRegistry,
+            @Value("${user.service.coalescing.max-in-flight:1000}") int maxInFlight
+    ) {
+        this.delegate = delegate;
+        this.maxInFlight = maxInFlight;
+
+        this.executed = meterRegistry.counter(LOOKUPS_METRIC, "result", "executed");
+        this.collapsed = meterRegistry.counter(LOOKUPS_METRIC, "result", "collapsed");
+        this.bypassed = meterRegistry.counter(LOOKUPS_METRIC, "result", "bypassed");
+        meterRegistry.gaugeMapSize(IN_FLIGHT_METRIC, List.of(), inFlight);
+    }
+
+    @Override
+    public UserInfoDto getUserById(Long id) {
+        if (inFlight.size() >= maxInFlight) {
+            bypassed.increment();
+            return delegate.getUserById(id);
+        }
+
+        CompletableFuture<UserInfoDto> call = new CompletableFuture<>();
+        CompletableFuture<UserInfoDto> existing = inFlight.putIfAbsent(id, call);
+        if (existing != null) {
+            collapsed.increment();
+            return await(existing);
+        }
+
+        executed.increment();
+        try {
+            UserInfoDto user = delegate.getUserById(id);
+            call.complete(user);
+            return user;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(id, call);
+        }
+    }
+
+    /**
+     * Batch lookups are not coalesced, they already fetch each id once
+     */
+    @Override
+    public List<UserInfoDto> getUsersByIds(Collection<Long> ids) {
+        return delegate.getUsersByIds(ids);
+    }
+
+    /**
+     * Rethrows the shared failure as is, so waiting callers see the same exception as the caller that made the request
+     */
+    private static UserInfoDto await(CompletableFuture<UserInfoDto> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
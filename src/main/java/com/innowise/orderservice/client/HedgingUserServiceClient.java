@@ -0,0 +1,208 @@
+package com.innowise.orderservice.client;
+
+import com.innowise.orderservice.client.dto.UserInfoDto;
+import com.innowise.orderservice.config.AsyncConfig;
+import com.innowise.orderservice.exception.ServiceUnavailableException;
+import com.innowise.orderservice.exception.UserNotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hedging decorator for UserServiceClient, enabled with user.service.hedging.enabled=true.
+ * If a single lookup has not answered within the tracked latency percentile, a second request
+ * is sent and whichever answers first wins. Hedges spend {@link RetryBudget} tokens, so they
+ * stop once User Service is slow for everyone. A missing user is an answer, not a failure.
+ */
+@Component
+@Qualifier(UserServiceClient.HEDGING_QUALIFIER)
+@Slf4j
+public class HedgingUserServiceClient implements UserServiceClient {
+
+    public static final String HEDGING_METRIC = "user.lookup.hedging";
+    public static final String HEDGE_DELAY_METRIC = "user.lookup.hedge-delay";
+
+    private final UserServiceClient delegate;
+    private final Executor userHedgeExecutor;
+    private final RetryBudget retryBudget;
+    private final boolean enabled;
+    private final long minDelayNanos;
+    private final long maxDelayNanos;
+    private final LatencyTracker latencyTracker;
+
+    private final Counter sent;
+    private final Counter won;
+    private final Counter denied;
+
+    public HedgingUserServiceClient(
+            @Qualifier(UserServiceClient.FEIGN_QUALIFIER) UserServiceClient delegate,
+            @Qualifier(AsyncConfig.USER_HEDGE_EXECUTOR) Executor userHedgeExecutor,
+            RetryBudget retryBudget,
+            MeterRegistry meterRegistry,
+            @Value("${user.service.hedging.enabled:false}") boolean enabled,
+            @Value("${user.service.hedging.percentile:0.95}") double percentile,
+            @Value("${user.service.hedging.window-size:1000}") int windowSize,
+            @Value("${user.service.hedging.min-samples:100}") int minSamples,
+            @Value("${user.service.hedging.min-delay:10ms}") Duration minDelay,
+            @Value("${user.service.hedging.max-delay:1s}") Duration maxDelay
+    ) {
+        this.delegate = delegate;
+        this.userHedgeExecutor = userHedgeExecutor;
+        this.retryBudget = retryBudget;
+        this.enabled = enabled;
+        this.minDelayNanos = minDelay.toNanos();
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.latencyTracker = new LatencyTracker(windowSize, percentile, minSamples);
+
+        this.sent = meterRegistry.counter(HEDGING_METRIC, "result", "sent");
+        this.won = meterRegistry.counter(HEDGING_METRIC, "result", "won");
+        this.denied = meterRegistry.counter(HEDGING_METRIC, "result", "denied");
+        meterRegistry.gauge(HEDGE_DELAY_METRIC, this, client -> client.hedgeDelayNanos() / 1_000_000.0);
+    }
+
+    /**
+     * Every lookup is credited to the retry budget once, its hedge is not
+     */
+    @Override
+    public UserInfoDto getUserById(Long id) {
+        retryBudget.onRequest();
+        if (!enabled) {
+            return delegate.getUserById(id);
+        }
+
+        CompletableFuture<UserInfoDto> primary = call(id);
+        long hedgeDelayNanos = hedgeDelayNanos();
+        if (hedgeDelayNanos < 0) {
+            return await(primary);
+        }
+
+        try {
+            return primary.get(hedgeDelayNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // no answer within the percentile, hedge below
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Interrupted while waiting for User Service");
+        }
+
+        if (!retryBudget.tryRetry()) {
+            denied.increment();
+            return await(primary);
+        }
+
+        sent.increment();
+        log.debug("User {} lookup exceeded {} ms, sending hedged request", id, hedgeDelayNanos / 1_000_000);
+        return await(firstAnswer(primary, call(id)));
+    }
+
+    /**
+     * Batch lookups are not hedged
+     */
+    @Override
+    public List<UserInfoDto> getUsersByIds(Collection<Long> ids) {
+        retryBudget.onRequest();
+        return delegate.getUsersByIds(ids);
+    }
+
+    /**
+     * Starts a lookup on the hedge executor, latencies of answers feed the percentile
+     */
+    private CompletableFuture<UserInfoDto> call(Long id) {
+        return CompletableFuture.supplyAsync(() -> {
+            long start = System.nanoTime();
+            try {
+                UserInfoDto user = delegate.getUserById(id);
+                latencyTracker.record(System.nanoTime() - start);
+                return user;
+            } catch (UserNotFoundException e) {
+                latencyTracker.record(System.nanoTime() - start);
+                throw e;
+            }
+        }, userHedgeExecutor);
+    }
+
+    /**
+     * Completes with the first answer, fails only when both requests failed
+     */
+    private CompletableFuture<UserInfoDto> firstAnswer(CompletableFuture<UserInfoDto> primary,
+                                                       CompletableFuture<UserInfoDto> hedge) {
+        CompletableFuture<UserInfoDto> answer = new CompletableFuture<>();
+        AtomicBoolean settled = new AtomicBoolean();
+        AtomicInteger failures = new AtomicInteger();
+
+        primary.whenComplete((user, failure) -> complete(answer, settled, user, failure, failures, null));
+        hedge.whenComplete((user, failure) -> complete(answer, settled, user, failure, failures, won));
+        return answer;
+    }
+
+    /**
+     * Settles the answer once, counting the win before the waiting caller is released
+     */
+    private static void complete(CompletableFuture<UserInfoDto> answer, AtomicBoolean settled, UserInfoDto user,
+                                 Throwable failure, AtomicInteger failures, Counter winCounter) {
+        boolean decisive = failure == null
+                || unwrap(failure) instanceof UserNotFoundException
+                || failures.incrementAndGet() == 2;
+        if (!decisive || !settled.compareAndSet(false, true)) {
+            return;
+        }
+        if (winCounter != null) {
+            winCounter.increment();
+        }
+        if (failure == null) {
+            answer.complete(user);
+        } else {
+            answer.completeExceptionally(failure);
+        }
+    }
+
+    private long hedgeDelayNanos() {
+        long percentileNanos = latencyTracker.percentileNanos();
+        if (percentileNanos < 0) {
+            return -1;
+        }
+        return Math.clamp(percentileNanos, minDelayNanos, maxDelayNanos);
+    }
+
+    private static UserInfoDto await(CompletableFuture<UserInfoDto> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    /**
+     * Rethrows the failure as is, so callers see the same exceptions as with a direct call
+     */
+    private static RuntimeException unwrap(Throwable failure) {
+        Throwable cause = failure;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new CompletionException(cause);
+    }
+}
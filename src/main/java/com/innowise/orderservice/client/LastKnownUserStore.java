@@ -0,0 +1,103 @@
+package com.innowise.orderservice.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.innowise.orderservice.client.dto.UserInfoDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Last known good copies of user info, kept much longer than the users cache.
+ * Served while User Service is unavailable, ids served this way are tracked so they can be
+ * revalidated once User Service answers again.
+ */
+@Component
+public class LastKnownUserStore {
+
+    public static final String DEGRADED_METRIC = "user.lookup.degraded";
+    public static final String SIZE_METRIC = "user.lookup.last-known.size";
+
+    private final Cache<Long, UserInfoDto> users;
+    private final Set<Long> servedStale = ConcurrentHashMap.newKeySet();
+
+    private final Counter staleServed;
+    private final Counter unknownServed;
+
+    public LastKnownUserStore(
+            MeterRegistry meterRegistry,
+            @Value("${user.service.last-known.ttl:7d}") Duration ttl,
+            @Value("${user.service.last-known.max-size:100000}") long maxSize
+    ) {
+        this.users = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+
+        this.staleServed = meterRegistry.counter(DEGRADED_METRIC, "result", "stale");
+        this.unknownServed = meterRegistry.counter(DEGRADED_METRIC, "result", "unknown");
+        Gauge.builder(SIZE_METRIC, users, Cache::estimatedSize).register(meterRegistry);
+    }
+
+    /**
+     * Placeholder for a user whose details could not be loaded, every field but id is null
+     */
+    public static UserInfoDto unknownUser(Long id) {
+        return UserInfoDto.builder().id(id).build();
+    }
+
+    /**
+     * @return true if user details are unknown, active is null only on placeholders
+     */
+    public static boolean isUnknown(UserInfoDto user) {
+        return user == null || user.active() == null;
+    }
+
+    /**
+     * Stores a response received from User Service
+     */
+    public void remember(UserInfoDto user) {
+        if (user == null || user.id() == null) {
+            return;
+        }
+        users.put(user.id(), user);
+        servedStale.remove(user.id());
+    }
+
+    /**
+     * @return last known copy of the user, or a placeholder if there is none
+     */
+    public UserInfoDto serveStale(Long id) {
+        UserInfoDto user = users.getIfPresent(id);
+        if (user == null) {
+            unknownServed.increment();
+            return unknownUser(id);
+        }
+        staleServed.increment();
+        servedStale.add(id);
+        return user;
+    }
+
+    public void forget(Long id) {
+        users.invalidate(id);
+        servedStale.remove(id);
+    }
+
+    /**
+     * @return ids served stale since they were last refreshed
+     */
+    public List<Long> staleIds() {
+        return List.copyOf(servedStale);
+    }
+
+    public boolean hasStale() {
+        return !servedStale.isEmpty();
+    }
+}
@@ -0,0 +1,48 @@
+package com.innowise.orderservice.client;
+
+import java.util.Arrays;
+
+/**
+ * Percentile of the latest latencies in a fixed size window.
+ * The percentile is recomputed every few samples, reads never block.
+ */
+class LatencyTracker {
+
+    private static final int RECOMPUTE_INTERVAL = 16;
+
+    private final long[] window;
+    private final double percentile;
+    private final int minSamples;
+
+    private int next;
+    private int size;
+    private int sinceRecompute;
+
+    private volatile long percentileNanos = -1;
+
+    LatencyTracker(int windowSize, double percentile, int minSamples) {
+        this.window = new long[windowSize];
+        this.percentile = percentile;
+        this.minSamples = Math.min(minSamples, windowSize);
+    }
+
+    synchronized void record(long nanos) {
+        window[next] = nanos;
+        next = (next + 1) % window.length;
+        size = Math.min(size + 1, window.length);
+
+        if (size >= minSamples && (percentileNanos < 0 || ++sinceRecompute >= RECOMPUTE_INTERVAL)) {
+            sinceRecompute = 0;
+            long[] samples = Arrays.copyOf(window, size);
+            Arrays.sort(samples);
+            percentileNanos = samples[Math.min(size - 1, (int) Math.ceil(percentile * size) - 1)];
+        }
+    }
+
+    /**
+     * @return percentile in nanoseconds, or -1 until min samples were recorded
+     */
+    long percentileNanos() {
+        return percentileNanos;
+    }
+}
@@ -0,0 +1,149 @@
+package com.innowise.orderservice.client;
+
+import com.innowise.orderservice.client.dto.UserInfoDto;
+import com.innowise.orderservice.config.AsyncConfig;
+import com.innowise.orderservice.service.UserProjectionService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+/**
+ * Local projection decorator for UserServiceClient: users are read from the user_projection table,
+ * kept current by user change events. Only users missing from it go to User Service, and those are
+ * backfilled on the user lookup executor so the caller never waits for the write.
+ */
+@Component
+@Qualifier(UserServiceClient.PROJECTED_QUALIFIER)
+@Slf4j
+public class ProjectedUserServiceClient implements UserServiceClient {
+
+    public static final String LOOKUPS_METRIC = "user.projection.lookups";
+
+    private final UserServiceClient delegate;
+    private final UserProjectionService userProjectionService;
+    private final Executor userLookupExecutor;
+    private final UserServiceAvailability userServiceAvailability;
+    private final boolean enabled;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public ProjectedUserServiceClient(
+            @Qualifier(UserServiceClient.COALESCING_QUALIFIER) UserServiceClient delegate,
+            UserProjectionService userProjectionService,
+            @Qualifier(AsyncConfig.USER_LOOKUP_EXECUTOR) Executor userLookupExecutor,
+            UserServiceAvailability userServiceAvailability,
+            MeterRegistry meterRegistry,
+            @Value("${user.projection.enabled:false}") boolean enabled
+    ) {
+        this.delegate = delegate;
+        this.userProjectionService = userProjectionService;
+        this.userLookupExecutor = userLookupExecutor;
+        this.userServiceAvailability = userServiceAvailability;
+        this.enabled = enabled;
+
+        this.hits = meterRegistry.counter(LOOKUPS_METRIC, "result", "hit");
+        this.misses = meterRegistry.counter(LOOKUPS_METRIC, "result", "miss");
+    }
+
+    @Override
+    public UserInfoDto getUserById(Long id) {
+        if (!enabled) {
+            return remoteUser(id);
+        }
+
+        UserInfoDto projected = findProjected(List.of(id)).get(id);
+        if (projected != null) {
+            hits.increment();
+            return projected;
+        }
+
+        misses.increment();
+        UserInfoDto user = remoteUser(id);
+        if (user != null) {
+            backfill(List.of(user));
+        }
+        return user;
+    }
+
+    @Override
+    public List<UserInfoDto> getUsersByIds(Collection<Long> ids) {
+        if (!enabled) {
+            return remoteUsers(ids);
+        }
+
+        Map<Long, UserInfoDto> projected = findProjected(ids);
+        List<UserInfoDto> users = new ArrayList<>(projected.values());
+        Set<Long> missingIds = new LinkedHashSet<>(ids);
+        missingIds.removeAll(projected.keySet());
+
+        hits.increment(projected.size());
+        if (missingIds.isEmpty()) {
+            return users;
+        }
+
+        misses.increment(missingIds.size());
+        List<UserInfoDto> fetched = remoteUsers(missingIds);
+        backfill(fetched);
+        users.addAll(fetched);
+        return users;
+    }
+
+    private UserInfoDto remoteUser(Long id) {
+        UserInfoDto user = delegate.getUserById(id);
+        userServiceAvailability.answered();
+        return user;
+    }
+
+    private List<UserInfoDto> remoteUsers(Collection<Long> ids) {
+        List<UserInfoDto> users = delegate.getUsersByIds(ids);
+        userServiceAvailability.answered();
+        return users;
+    }
+
+    /**
+     * The projection is an optimization, if it cannot be read every user is treated as a miss
+     */
+    private Map<Long, UserInfoDto> findProjected(Collection<Long> ids) {
+        try {
+            return userProjectionService.findFresh(ids);
+        } catch (RuntimeException e) {
+            log.warn("User projection read failed, falling back to User Service for {}: {}", ids, e.getMessage());
+            return Map.of();
+        }
+    }
+
+    /**
+     * Each user is written in its own transaction on the executor, outside of the caller transaction
+     */
+    private void backfill(List<UserInfoDto> users) {
+        if (users.isEmpty()) {
+            return;
+        }
+
+        try {
+            userLookupExecutor.execute(() -> users.forEach(this::save));
+        } catch (RuntimeException e) {
+            log.warn("Could not schedule user projection backfill: {}", e.getMessage());
+        }
+    }
+
+    private void save(UserInfoDto user) {
+        try {
+            userProjectionService.save(user);
+        } catch (RuntimeException e) {
+            log.warn("User projection backfill failed for user {}: {}", user.id(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.innowise.orderservice.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Global budget for extra User Service calls, shared by Feign retries and hedged requests.
+ * Every first call earns ratio of a token and every retry or hedge spends a whole one, so extra calls
+ * stay under ratio of the traffic and cannot multiply the load on a failing User Service.
+ * Calls are credited by {@link HedgingUserServiceClient}, the last decorator before Feign.
+ * Up to max-tokens unspent tokens are kept for bursts, the budget starts full.
+ */
+@Component
+public class RetryBudget {
+
+    public static final String RETRIES_METRIC = "user.service.retries";
+    public static final String TOKENS_METRIC = "user.service.retry-budget.tokens";
+
+    private static final long TOKEN = 1_000;
+
+    private final boolean enabled;
+    private final long deposit;
+    private final long maxBalance;
+
+    /**
+     * Balance in thousandths of a token
+     */
+    private final AtomicLong balance;
+
+    private final Counter allowed;
+    private final Counter denied;
+
+    public RetryBudget(
+            MeterRegistry meterRegistry,
+            @Value("${user.service.retry-budget.enabled:true}") boolean enabled,
+            @Value("${user.service.retry-budget.ratio:0.1}") double ratio,
+            @Value("${user.service.retry-budget.max-tokens:10}") int maxTokens
+    ) {
+        this.enabled = enabled;
+        this.deposit = Math.round(ratio * TOKEN);
+        this.maxBalance = maxTokens * TOKEN;
+        this.balance = new AtomicLong(maxBalance);
+
+        this.allowed = meterRegistry.counter(RETRIES_METRIC, "result", "allowed");
+        this.denied = meterRegistry.counter(RETRIES_METRIC, "result", "denied");
+        meterRegistry.gauge(TOKENS_METRIC, balance, value -> (double) value.get() / TOKEN);
+    }
+
+    /**
+     * Credits one first attempt
+     */
+    public void onRequest() {
+        balance.accumulateAndGet(deposit, (current, amount) -> Math.min(maxBalance, current + amount));
+    }
+
+    /**
+     * @return true if an extra call may be made, its token is spent
+     */
+    public boolean tryRetry() {
+        if (!enabled) {
+            allowed.increment();
+            return true;
+        }
+
+        long current;
+        do {
+            current = balance.get();
+            if (current < TOKEN) {
+                denied.increment();
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - TOKEN));
+
+        allowed.increment();
+        return true;
+    }
+}
@@ -0,0 +1,38 @@
+package com.innowise.orderservice.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Decides whether a user with unknown details may create orders. A user is unknown when
+ * User Service is unavailable and {@link LastKnownUserStore} has no copy of them.
+ */
+@Component
+@Slf4j
+public class UnknownUserPolicy {
+
+    public static final String DECISIONS_METRIC = "user.unknown.orders";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean allowOrders;
+
+    public UnknownUserPolicy(
+            MeterRegistry meterRegistry,
+            @Value("${user.service.degraded.allow-unknown-user-orders:false}") boolean allowOrders
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.allowOrders = allowOrders;
+    }
+
+    public boolean allowsOrders(Long userId) {
+        if (allowOrders) {
+            log.warn("User Service is unavailable, accepting order for unverified user {}", userId);
+        } else {
+            log.warn("User Service is unavailable, rejecting order for unverified user {}", userId);
+        }
+        meterRegistry.counter(DECISIONS_METRIC, "decision", allowOrders ? "allowed" : "rejected").increment();
+        return allowOrders;
+    }
+}
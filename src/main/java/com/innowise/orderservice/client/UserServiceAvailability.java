@@ -0,0 +1,24 @@
+package com.innowise.orderservice.client;
+
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Signals that User Service itself answered a lookup. Decorators above {@link ProjectedUserServiceClient}
+ * cannot tell a remote answer from a projection hit, so the projection reports remote answers here.
+ */
+@Component
+public class UserServiceAvailability {
+
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+
+    public void addListener(Runnable listener) {
+        listeners.add(listener);
+    }
+
+    public void answered() {
+        listeners.forEach(Runnable::run);
+    }
+}
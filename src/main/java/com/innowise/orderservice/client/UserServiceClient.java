@@ -5,15 +5,49 @@ import com.innowise.orderservice.config.FeignConfig;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.Collection;
+import java.util.List;
 
 @FeignClient(
         name = "user-service",
         url = "${user.service.url}",
+        qualifiers = UserServiceClient.FEIGN_QUALIFIER,
+        primary = false,
         configuration = FeignConfig.class,
         fallbackFactory = UserServiceClientFallbackFactory.class
 )
 public interface UserServiceClient {
 
+    /**
+     * Qualifier of the raw Feign client, other beans get the caching decorator
+     */
+    String FEIGN_QUALIFIER = "userServiceFeignClient";
+
+    /**
+     * Qualifier of the single-flight decorator over the hedging decorator
+     */
+    String COALESCING_QUALIFIER = "coalescingUserServiceClient";
+
+    /**
+     * Qualifier of the local projection decorator over the single-flight decorator
+     */
+    String PROJECTED_QUALIFIER = "projectedUserServiceClient";
+
+    /**
+     * Qualifier of the hedging decorator over the Feign client
+     */
+    String HEDGING_QUALIFIER = "hedgingUserServiceClient";
+
     @GetMapping("/internal/users/{id}")
     UserInfoDto getUserById(@PathVariable("id") Long id);
+
+    /**
+     * Get several users in one request, unknown ids are absent from the result
+     * @param ids user ids
+     * @return found users
+     */
+    @GetMapping("/internal/users")
+    List<UserInfoDto> getUsersByIds(@RequestParam("ids") Collection<Long> ids);
 }
\ No newline at end of file
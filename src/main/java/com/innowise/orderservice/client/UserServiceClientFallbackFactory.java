@@ -1,12 +1,21 @@
 package com.innowise.orderservice.client;
 
 import com.innowise.orderservice.client.dto.UserInfoDto;
+import com.innowise.orderservice.exception.BatchLookupNotSupportedException;
+import com.innowise.orderservice.exception.ServiceUnavailableException;
+import com.innowise.orderservice.exception.UserNotFoundException;
+import feign.FeignException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cloud.openfeign.FallbackFactory;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
- * Circuit breaker fallback for UserServiceClient
+ * Circuit breaker fallback for UserServiceClient. Failures are translated, not hidden:
+ * a missing user stays a UserNotFoundException, anything else becomes a ServiceUnavailableException
+ * that {@link CachingUserServiceClient} answers from {@link LastKnownUserStore}.
  */
 @Component
 @Slf4j
@@ -17,16 +26,51 @@ public class UserServiceClientFallbackFactory implements FallbackFactory<UserSer
         return new UserServiceClient() {
             @Override
             public UserInfoDto getUserById(Long id) {
+                UserNotFoundException notFound = findCause(throwable, UserNotFoundException.class);
+                if (notFound != null) {
+                    throw notFound;
+                }
+
                 log.error("Fallback for getUserById({}): {}", id,  throwable.getMessage());
 
-                return UserInfoDto.builder()
-                        .id(id)
-                        .name("Unavailable")
-                        .surname("Unavailable")
-                        .email("Unavailable@unavailable.com")
-                        .active(true)
-                        .build();
+                throw unavailable(throwable);
+            }
+
+            @Override
+            public List<UserInfoDto> getUsersByIds(Collection<Long> ids) {
+                if (isRouteMissing(throwable)) {
+                    throw new BatchLookupNotSupportedException("User Service does not support batch user lookup");
+                }
+
+                log.error("Fallback for getUsersByIds({}): {}", ids, throwable.getMessage());
+
+                throw unavailable(throwable);
             }
         };
     }
-}
\ No newline at end of file
+
+    private static ServiceUnavailableException unavailable(Throwable throwable) {
+        ServiceUnavailableException unavailable = findCause(throwable, ServiceUnavailableException.class);
+        return unavailable != null
+                ? unavailable
+                : new ServiceUnavailableException("User Service is unavailable: " + throwable.getMessage());
+    }
+
+    /**
+     * Batch route answers 200 with found users only, so 404/405/501 mean the route itself is missing
+     */
+    private static boolean isRouteMissing(Throwable throwable) {
+        return findCause(throwable, UserNotFoundException.class) != null
+                || findCause(throwable, FeignException.MethodNotAllowed.class) != null
+                || findCause(throwable, FeignException.NotImplemented.class) != null;
+    }
+
+    private static <T extends Throwable> T findCause(Throwable throwable, Class<T> type) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (type.isInstance(cause)) {
+                return type.cast(cause);
+            }
+        }
+        return null;
+    }
+}
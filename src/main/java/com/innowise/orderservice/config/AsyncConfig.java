@@ -0,0 +1,75 @@
+package com.innowise.orderservice.config;
+
+import com.innowise.orderservice.kafka.consumer.KeyOrderedExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    public static final String USER_LOOKUP_EXECUTOR = "userLookupExecutor";
+    public static final String PAYMENT_EVENT_EXECUTOR = "paymentEventExecutor";
+    public static final String ORDER_USER_LOOKUP_EXECUTOR = "orderUserLookupExecutor";
+    public static final String USER_HEDGE_EXECUTOR = "userHedgeExecutor";
+
+    /**
+     * Executor for parallel single user lookups, pool size bounds concurrent calls to User Service.
+     * Lookups get the caller Authorization header captured at submit time.
+     */
+    @Bean(name = USER_LOOKUP_EXECUTOR)
+    public ThreadPoolTaskExecutor userLookupExecutor(
+            @Value("${user.service.lookup.parallelism:8}") int parallelism
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setThreadNamePrefix("user-lookup-");
+        executor.setTaskDecorator(ForwardedAuthorization::propagate);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Workers for parallel payment event processing, events of one order always land on the same worker.
+     * Threads are started lazily, so the bean costs nothing while parallel mode is off.
+     */
+    @Bean(name = PAYMENT_EVENT_EXECUTOR, destroyMethod = "close")
+    public KeyOrderedExecutor paymentEventExecutor(
+            @Value("${kafka.consumer.payment-events.parallel.workers:8}") int workers,
+            @Value("${kafka.consumer.payment-events.parallel.virtual-threads:true}") boolean virtualThreads
+    ) {
+        Thread.Builder threadBuilder = virtualThreads ? Thread.ofVirtual() : Thread.ofPlatform();
+        return new KeyOrderedExecutor(workers, threadBuilder.name("payment-worker-", 0).factory());
+    }
+
+    /**
+     * Runs the createOrder user lookup next to item loading, one virtual thread per lookup
+     */
+    @Bean(name = ORDER_USER_LOOKUP_EXECUTOR)
+    public SimpleAsyncTaskExecutor orderUserLookupExecutor() {
+        return requestScopedVirtualThreadExecutor("order-user-lookup-");
+    }
+
+    /**
+     * Runs primary and hedged User Service calls, one virtual thread per call
+     */
+    @Bean(name = USER_HEDGE_EXECUTOR)
+    public SimpleAsyncTaskExecutor userHedgeExecutor() {
+        return requestScopedVirtualThreadExecutor("user-hedge-");
+    }
+
+    /**
+     * Tasks get the caller Authorization header captured at submit time, never the live request,
+     * a losing hedge may still be running after the request has completed
+     */
+    private static SimpleAsyncTaskExecutor requestScopedVirtualThreadExecutor(String threadNamePrefix) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setTaskDecorator(ForwardedAuthorization::propagate);
+        return executor;
+    }
+}
@@ -1,5 +1,7 @@
 package com.innowise.orderservice.config;
 
+import com.innowise.orderservice.client.BudgetedRetryer;
+import com.innowise.orderservice.client.RetryBudget;
 import com.innowise.orderservice.exception.ServiceUnavailableException;
 import com.innowise.orderservice.exception.UserNotFoundException;
 import feign.Logger;
@@ -11,9 +13,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 
 @Configuration
@@ -23,6 +24,21 @@ public class FeignConfig {
     @Value("${service.api.key:service-key}")
     private String apiKey;
 
+    @Value("${user.service.timeouts.connect:5s}")
+    private Duration connectTimeout;
+
+    @Value("${user.service.timeouts.read:10s}")
+    private Duration readTimeout;
+
+    @Value("${user.service.retry.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${user.service.retry.interval:100ms}")
+    private Duration retryInterval;
+
+    @Value("${user.service.retry.max-interval:1s}")
+    private Duration maxRetryInterval;
+
     @Bean
     public Logger.Level feignLoggerLevel() {
         return Logger.Level.FULL;
@@ -35,13 +51,9 @@ public class FeignConfig {
             requestTemplate.header("X-Service-Name", "order-service");
             requestTemplate.header("Content-Type", "application/json");
 
-            var attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
-            if (attributes != null) {
-                String authorizationHeader = attributes.getRequest().getHeader("Authorization");
-
-                if (authorizationHeader != null) {
-                    requestTemplate.header("Authorization", authorizationHeader);
-                }
+            String authorizationHeader = ForwardedAuthorization.current();
+            if (authorizationHeader != null) {
+                requestTemplate.header("Authorization", authorizationHeader);
             }
 
             log.debug("Feign request to: {} {}",
@@ -68,22 +80,24 @@ public class FeignConfig {
         };
     }
 
+    /**
+     * Per attempt timeouts, all attempts together should fit into the circuit breaker time limiter
+     */
     @Bean
     public Request.Options requestOptions() {
         return new Request.Options(
-                5000, TimeUnit.MILLISECONDS,  // connection timeout
-                10000, TimeUnit.MILLISECONDS, // read timeout
-                true                          // follow redirects
+                connectTimeout.toMillis(), TimeUnit.MILLISECONDS,
+                readTimeout.toMillis(), TimeUnit.MILLISECONDS,
+                true // follow redirects
         );
     }
 
+    /**
+     * Retries with backoff while the global {@link RetryBudget} has tokens
+     */
     @Bean
-    public Retryer retryer() {
-        return new Retryer.Default(
-                100,   // initial retry interval (ms)
-                1000,  // max retry interval (ms)
-                3      // max attempts
-        );
+    public Retryer retryer(RetryBudget retryBudget) {
+        return new BudgetedRetryer(retryBudget, retryInterval.toMillis(), maxRetryInterval.toMillis(), maxAttempts);
     }
 
 }
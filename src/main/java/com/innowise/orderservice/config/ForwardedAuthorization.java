@@ -0,0 +1,100 @@
+package com.innowise.orderservice.config;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Caller Authorization header forwarded to User Service. On the request thread it is read from the
+ * current request, tasks decorated with {@link #propagate(Runnable)} get only the header value captured
+ * at submit time, never the live request, so they stay safe after the request has completed.
+ */
+public final class ForwardedAuthorization {
+
+    private ForwardedAuthorization() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * @return Authorization header of the current caller, null if there is none
+     */
+    public static String current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            return servletAttributes.getRequest().getHeader(HttpHeaders.AUTHORIZATION);
+        }
+        if (attributes instanceof CapturedAuthorization captured) {
+            return captured.authorization;
+        }
+        return null;
+    }
+
+    /**
+     * Task decorator, captures the Authorization header on the submitting thread.
+     * Detached attributes are installed so Feign circuit breaker threads pick the value up as well.
+     */
+    public static Runnable propagate(Runnable task) {
+        String authorization = current();
+        return () -> {
+            RequestAttributes previous = RequestContextHolder.getRequestAttributes();
+            RequestContextHolder.setRequestAttributes(
+                    authorization == null ? null : new CapturedAuthorization(authorization));
+            try {
+                task.run();
+            } finally {
+                RequestContextHolder.setRequestAttributes(previous);
+            }
+        };
+    }
+
+    /**
+     * Request attributes holding nothing but the captured header value
+     */
+    private static final class CapturedAuthorization implements RequestAttributes {
+
+        private final String authorization;
+
+        private CapturedAuthorization(String authorization) {
+            this.authorization = authorization;
+        }
+
+        @Override
+        public Object getAttribute(String name, int scope) {
+            return null;
+        }
+
+        @Override
+        public void setAttribute(String name, Object value, int scope) {
+            throw new UnsupportedOperationException("Captured authorization attributes are read only");
+        }
+
+        @Override
+        public void removeAttribute(String name, int scope) {
+        }
+
+        @Override
+        public String[] getAttributeNames(int scope) {
+            return new String[0];
+        }
+
+        @Override
+        public void registerDestructionCallback(String name, Runnable callback, int scope) {
+        }
+
+        @Override
+        public Object resolveReference(String key) {
+            return null;
+        }
+
+        @Override
+        public String getSessionId() {
+            throw new IllegalStateException("No session for captured authorization");
+        }
+
+        @Override
+        public Object getSessionMutex() {
+            throw new IllegalStateException("No session for captured authorization");
+        }
+    }
+}
@@ -2,8 +2,21 @@ package com.innowise.orderservice.config;
 
 import com.innowise.orderservice.dto.order.OrderCreatedEventDto;
 import com.innowise.orderservice.dto.payment.PaymentEventDto;
+import com.innowise.orderservice.dto.user.UserChangedEventDto;
+import com.innowise.orderservice.kafka.consumer.PaymentStatusPreFilter;
+import com.innowise.orderservice.kafka.consumer.SkippedPaymentEventFilter;
+import com.innowise.orderservice.kafka.serialization.AvroEventDeserializer;
+import com.innowise.orderservice.kafka.serialization.AvroEventSerializer;
+import com.innowise.orderservice.kafka.serialization.AvroSchemaRegistry;
+import com.innowise.orderservice.kafka.serialization.EventFormat;
+import com.innowise.orderservice.kafka.serialization.FormatAwareDeserializer;
+import com.innowise.orderservice.kafka.serialization.JsonEventSerializer;
+import com.innowise.orderservice.kafka.serialization.OrderCreatedEventAvroMapper;
+import com.innowise.orderservice.kafka.serialization.PaymentEventAvroMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
@@ -12,57 +25,156 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.*;
+import org.springframework.kafka.support.serializer.DelegatingByTypeSerializer;
 import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 @Configuration
 @EnableKafka
 public class KafkaConfig {
 
+    public static final String PAYMENT_EVENT_KAFKA_TEMPLATE = "paymentEventKafkaTemplate";
+    public static final String USER_EVENT_LISTENER_CONTAINER_FACTORY = "userEventListenerContainerFactory";
+
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
     @Value("${spring.kafka.consumer.group-id}")
     private String groupId;
 
+    @Value("${kafka.consumer.user-events.group-id:order-service-user-events}")
+    private String userEventsGroupId;
+
+    @Value("${kafka.consumer.payment-events.batch-listener:false}")
+    private boolean batchListener;
+
+    @Value("${kafka.consumer.payment-events.parallel.enabled:false}")
+    private boolean parallel;
+
+    @Value("${kafka.consumer.payment-events.max-poll-records:500}")
+    private int maxPollRecords;
+
+    @Value("${kafka.consumer.payment-events.filter.ignored-statuses:PENDING,PROCESSING,CANCELLED}")
+    private Set<String> ignoredPaymentStatuses;
+
+    @Value("${kafka.producer.order-events.profile:default}")
+    private String orderEventsProducerProfile;
+
+    @Value("${kafka.producer.order-events.linger-ms:#{null}}")
+    private Integer orderEventsLingerMs;
+
+    @Value("${kafka.producer.order-events.batch-size:#{null}}")
+    private Integer orderEventsBatchSize;
+
+    @Value("${kafka.producer.order-events.compression-type:#{null}}")
+    private String orderEventsCompressionType;
+
+    @Value("${kafka.serialization.order-events.format:json}")
+    private String orderEventsFormat;
+
+    /**
+     * Payment events may arrive as JSON or Avro, chosen per record by the event-format header.
+     * The ErrorHandlingDeserializer wrapper turns a malformed record into a DeserializationException
+     * for the error handler instead of failing every poll.
+     * Records with ignored payment statuses are dropped by {@link PaymentStatusPreFilter} before that.
+     * Kafka client metrics, including per partition records lag, are bound to the meter registry.
+     */
     @Bean
-    public ConsumerFactory<String, PaymentEventDto> paymentEventConsumerFactory() {
+    public ConsumerFactory<String, PaymentEventDto> paymentEventConsumerFactory(
+            AvroSchemaRegistry schemaRegistry,
+            PaymentEventAvroMapper paymentEventAvroMapper,
+            MeterRegistry meterRegistry
+    ) {
         Map<String, Object> config = new HashMap<>();
 
         config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         config.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
-        config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
-        config.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class.getName());
-        config.put(JsonDeserializer.VALUE_DEFAULT_TYPE, PaymentEventDto.class.getName());
-        config.put(JsonDeserializer.TRUSTED_PACKAGES, "com.innowise.*");
         config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
         config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
 
-        return new DefaultKafkaConsumerFactory<>(
+        DefaultKafkaConsumerFactory<String, PaymentEventDto> factory = new DefaultKafkaConsumerFactory<>(
                 config,
                 new StringDeserializer(),
-                new JsonDeserializer<>(PaymentEventDto.class, false)
+                new ErrorHandlingDeserializer<>(new PaymentStatusPreFilter<>(
+                        new FormatAwareDeserializer<>(
+                                new JsonDeserializer<>(PaymentEventDto.class, false),
+                                new AvroEventDeserializer<>(schemaRegistry, paymentEventAvroMapper)
+                        ),
+                        ignoredPaymentStatuses
+                ))
         );
+        factory.addListener(new MicrometerConsumerListener<>(meterRegistry));
+        return factory;
     }
 
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, PaymentEventDto> kafkaListenerContainerFactory() {
+    public ConcurrentKafkaListenerContainerFactory<String, PaymentEventDto> kafkaListenerContainerFactory(
+            ConsumerFactory<String, PaymentEventDto> paymentEventConsumerFactory,
+            SkippedPaymentEventFilter skippedPaymentEventFilter
+    ) {
         ConcurrentKafkaListenerContainerFactory<String, PaymentEventDto> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
-        factory.setConsumerFactory(paymentEventConsumerFactory());
+        factory.setConsumerFactory(paymentEventConsumerFactory);
+        factory.setBatchListener(batchListener);
+        factory.setRecordFilterStrategy(skippedPaymentEventFilter);
+        factory.setAckDiscarded(true);
         factory.getContainerProperties().setAckMode(
                 org.springframework.kafka.listener.ContainerProperties.AckMode.MANUAL
         );
+        // parallel workers acknowledge out of order; the container commits per partition
+        // only the contiguous acknowledged prefix and pauses polling until the poll is fully acknowledged
+        factory.getContainerProperties().setAsyncAcks(parallel && !batchListener);
         return factory;
     }
 
+    /**
+     * User change events from User Service feed the local user projection
+     */
     @Bean
-    public ProducerFactory<String, OrderCreatedEventDto> orderEventProducerFactory() {
+    public ConsumerFactory<String, UserChangedEventDto> userEventConsumerFactory(MeterRegistry meterRegistry) {
+        Map<String, Object> config = new HashMap<>();
+
+        config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        config.put(ConsumerConfig.GROUP_ID_CONFIG, userEventsGroupId);
+        config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+
+        DefaultKafkaConsumerFactory<String, UserChangedEventDto> factory = new DefaultKafkaConsumerFactory<>(
+                config,
+                new StringDeserializer(),
+                new ErrorHandlingDeserializer<>(new JsonDeserializer<>(UserChangedEventDto.class, false))
+        );
+        factory.addListener(new MicrometerConsumerListener<>(meterRegistry));
+        return factory;
+    }
+
+    @Bean(name = USER_EVENT_LISTENER_CONTAINER_FACTORY)
+    public ConcurrentKafkaListenerContainerFactory<String, UserChangedEventDto> userEventListenerContainerFactory(
+            ConsumerFactory<String, UserChangedEventDto> userEventConsumerFactory
+    ) {
+        ConcurrentKafkaListenerContainerFactory<String, UserChangedEventDto> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(userEventConsumerFactory);
+        factory.getContainerProperties().setAckMode(
+                org.springframework.kafka.listener.ContainerProperties.AckMode.MANUAL
+        );
+        return factory;
+    }
+
+    /**
+     * Order events are written as JSON or Avro depending on kafka.serialization.order-events.format
+     */
+    @Bean
+    public ProducerFactory<String, OrderCreatedEventDto> orderEventProducerFactory(
+            AvroSchemaRegistry schemaRegistry,
+            OrderCreatedEventAvroMapper orderCreatedEventAvroMapper
+    ) {
         Map<String, Object> config = new HashMap<>();
 
         config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
@@ -71,12 +183,56 @@ public class KafkaConfig {
         config.put(ProducerConfig.ACKS_CONFIG, "all");
         config.put(ProducerConfig.RETRIES_CONFIG, 3);
         config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        KafkaProducerProfile.from(orderEventsProducerProfile).applyTo(
+                config, orderEventsLingerMs, orderEventsBatchSize, orderEventsCompressionType);
 
+        if (EventFormat.from(orderEventsFormat) == EventFormat.AVRO) {
+            return new DefaultKafkaProducerFactory<>(
+                    config,
+                    new StringSerializer(),
+                    new AvroEventSerializer<>(schemaRegistry, orderCreatedEventAvroMapper)
+            );
+        }
         return new DefaultKafkaProducerFactory<>(config);
     }
 
     @Bean
-    public KafkaTemplate<String, OrderCreatedEventDto> orderEventKafkaTemplate() {
-        return new KafkaTemplate<>(orderEventProducerFactory());
+    public KafkaTemplate<String, OrderCreatedEventDto> orderEventKafkaTemplate(
+            ProducerFactory<String, OrderCreatedEventDto> orderEventProducerFactory
+    ) {
+        return new KafkaTemplate<>(orderEventProducerFactory);
+    }
+
+    /**
+     * Forwards payment events to retry topics and the DLT. Records that failed deserialization
+     * are forwarded as the original bytes with their original headers, the rest as JSON.
+     */
+    @Bean
+    public ProducerFactory<String, Object> paymentEventProducerFactory() {
+        Map<String, Object> config = new HashMap<>();
+
+        config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        config.put(ProducerConfig.ACKS_CONFIG, "all");
+        config.put(ProducerConfig.RETRIES_CONFIG, 3);
+        config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+
+        JsonSerializer<Object> jsonSerializer = new JsonEventSerializer<>();
+        jsonSerializer.setAddTypeInfo(false);
+
+        return new DefaultKafkaProducerFactory<>(
+                config,
+                new StringSerializer(),
+                new DelegatingByTypeSerializer(Map.of(
+                        byte[].class, new ByteArraySerializer(),
+                        PaymentEventDto.class, jsonSerializer
+                ))
+        );
+    }
+
+    @Bean(name = PAYMENT_EVENT_KAFKA_TEMPLATE)
+    public KafkaTemplate<String, Object> paymentEventKafkaTemplate(
+            ProducerFactory<String, Object> paymentEventProducerFactory
+    ) {
+        return new KafkaTemplate<>(paymentEventProducerFactory);
     }
 }
\ No newline at end of file
@@ -0,0 +1,68 @@
+package com.innowise.orderservice.config;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Batching and compression presets for Kafka producers.
+ * Larger linger and batch trade per-record latency for fewer, denser requests.
+ */
+public enum KafkaProducerProfile {
+
+    /**
+     * Kafka client defaults: no linger, 16 KB batches, no compression
+     */
+    DEFAULT(0, 16_384, "none"),
+
+    /**
+     * Sends immediately, cheap lz4 compression of whatever is already batched
+     */
+    LOW_LATENCY(0, 16_384, "lz4"),
+
+    /**
+     * Waits up to 5 ms to fill 64 KB batches compressed with lz4
+     */
+    BALANCED(5, 65_536, "lz4"),
+
+    /**
+     * Waits up to 20 ms to fill 256 KB batches compressed with zstd
+     */
+    THROUGHPUT(20, 262_144, "zstd");
+
+    private final int lingerMs;
+    private final int batchSize;
+    private final String compressionType;
+
+    KafkaProducerProfile(int lingerMs, int batchSize, String compressionType) {
+        this.lingerMs = lingerMs;
+        this.batchSize = batchSize;
+        this.compressionType = compressionType;
+    }
+
+    /**
+     * @param name profile name, case-insensitive, dashes allowed (e.g. "low-latency")
+     */
+    public static KafkaProducerProfile from(String name) {
+        return valueOf(name.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+    }
+
+    /**
+     * Puts linger.ms, batch.size and compression.type of this profile into producer config,
+     * non-null overrides win over profile values
+     */
+    public void applyTo(Map<String, Object> config, Integer lingerMsOverride, Integer batchSizeOverride,
+                        String compressionTypeOverride) {
+        config.put(ProducerConfig.LINGER_MS_CONFIG, lingerMsOverride != null ? lingerMsOverride : lingerMs);
+        config.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSizeOverride != null ? batchSizeOverride : batchSize);
+        config.put(ProducerConfig.COMPRESSION_TYPE_CONFIG,
+                compressionTypeOverride != null && !compressionTypeOverride.isBlank()
+                        ? compressionTypeOverride
+                        : compressionType);
+    }
+
+    public void applyTo(Map<String, Object> config) {
+        applyTo(config, null, null, null);
+    }
+}
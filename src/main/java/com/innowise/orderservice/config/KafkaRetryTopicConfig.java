@@ -0,0 +1,28 @@
+package com.innowise.orderservice.config;
+
+import com.innowise.orderservice.kafka.consumer.MeteredDeadLetterPublishingRecoverer;
+import com.innowise.orderservice.kafka.consumer.PaymentEventMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.retrytopic.DeadLetterPublishingRecovererFactory;
+import org.springframework.kafka.retrytopic.RetryTopicConfigurationSupport;
+import org.springframework.kafka.retrytopic.RetryTopicConstants;
+
+import java.util.function.Consumer;
+
+/**
+ * Infrastructure of non-blocking retries declared with {@code @RetryableTopic}
+ */
+@Configuration
+@RequiredArgsConstructor
+public class KafkaRetryTopicConfig extends RetryTopicConfigurationSupport {
+
+    private final PaymentEventMetrics paymentEventMetrics;
+
+    @Override
+    protected Consumer<DeadLetterPublishingRecovererFactory> configureDeadLetterPublishingContainerFactory() {
+        return factory -> factory.setDeadLetterPublisherCreator((templateResolver, destinationResolver) ->
+                new MeteredDeadLetterPublishingRecoverer(templateResolver, destinationResolver,
+                        paymentEventMetrics, RetryTopicConstants.DEFAULT_DLT_SUFFIX));
+    }
+}
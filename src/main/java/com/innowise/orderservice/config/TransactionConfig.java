@@ -0,0 +1,31 @@
+package com.innowise.orderservice.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration
+public class TransactionConfig {
+
+    public static final String READ_ONLY_TRANSACTION_TEMPLATE = "readOnlyTransactionTemplate";
+
+    @Bean
+    @Primary
+    public TransactionTemplate transactionTemplate(PlatformTransactionManager transactionManager) {
+        return new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Read-only template for read paths that call remote services after the transaction is closed
+     */
+    @Bean(name = READ_ONLY_TRANSACTION_TEMPLATE)
+    @Qualifier(READ_ONLY_TRANSACTION_TEMPLATE)
+    public TransactionTemplate readOnlyTransactionTemplate(PlatformTransactionManager transactionManager) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        return transactionTemplate;
+    }
+}
@@ -1,7 +1,10 @@
 package com.innowise.orderservice.controller;
 
+import com.innowise.orderservice.dto.order.OrderBatchRequestDto;
+import com.innowise.orderservice.dto.order.OrderBatchResponseDto;
 import com.innowise.orderservice.dto.order.OrderRequestDto;
 import com.innowise.orderservice.dto.order.OrderResponseDto;
+import com.innowise.orderservice.dto.order.OrderScrollResponseDto;
 import com.innowise.orderservice.dto.order.OrderUpdateDto;
 import com.innowise.orderservice.enums.OrderStatus;
 import com.innowise.orderservice.service.OrderService;
@@ -44,6 +47,19 @@ public class OrderController {
                 .body(createdOrder);
     }
 
+    /**
+     * Create many orders in one request (only ADMIN)
+     * @param batchRequestDto orders with their owners
+     * @return result for every order, failed orders don't reject the whole batch
+     */
+    @PostMapping("/batch")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<OrderBatchResponseDto> createOrders(
+            @Valid @RequestBody OrderBatchRequestDto batchRequestDto) {
+        OrderBatchResponseDto result = orderService.createOrders(batchRequestDto.orders());
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * Get order by id (only ADMIN or owner of order)
      * @param id order id
@@ -86,6 +102,38 @@ public class OrderController {
         return ResponseEntity.ok(orders);
     }
 
+    /**
+     * Get all orders with optional filters using keyset pagination, no total count (only ADMIN)
+     * @param dateFrom filter by creation date from
+     * @param dateTo filter by creation date to
+     * @param statuses filter by order statuses
+     * @param cursor continuation token from previous page
+     * @param size page size
+     * @return orders with user info and token of the next page
+     */
+    @GetMapping("/scroll")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<OrderScrollResponseDto> scrollAllOrders(
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime dateFrom,
+
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime dateTo,
+
+            @RequestParam(required = false)
+            List<OrderStatus> statuses,
+
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        OrderScrollResponseDto orders = orderService.scrollAllOrders(
+                dateFrom, dateTo, statuses, cursor, size
+        );
+        return ResponseEntity.ok(orders);
+    }
+
     /**
      * Get orders by user id (only ADMIN or owner of orders)
      * @param userId user id
@@ -102,6 +150,24 @@ public class OrderController {
         return ResponseEntity.ok(orders);
     }
 
+    /**
+     * Get orders by user id using keyset pagination, no total count (only ADMIN or owner of orders)
+     * @param userId user id
+     * @param cursor continuation token from previous page
+     * @param size page size
+     * @return user`s orders with user info and token of the next page
+     */
+    @GetMapping("/user/{userId}/scroll")
+    @PreAuthorize("hasRole('ADMIN') or #userId == authentication.principal")
+    public ResponseEntity<OrderScrollResponseDto> scrollOrdersByUserId(
+            @PathVariable(name = "userId") Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        OrderScrollResponseDto orders = orderService.scrollOrdersByUserId(userId, cursor, size);
+        return ResponseEntity.ok(orders);
+    }
+
     /**
      * Update order
      * @param id order id
@@ -0,0 +1,28 @@
+package com.innowise.orderservice.controller;
+
+import com.innowise.orderservice.dto.outbox.OutboxRequeueResponseDto;
+import com.innowise.orderservice.service.OrderOutboxService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/admin/outbox")
+@RequiredArgsConstructor
+public class OutboxController {
+
+    private final OrderOutboxService orderOutboxService;
+
+    /**
+     * Put outbox events that exhausted their attempts back into the relay queue (only ADMIN)
+     * @return 200 OK with number of requeued events
+     */
+    @PostMapping("/failed/requeue")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<OutboxRequeueResponseDto> requeueFailedEvents() {
+        return ResponseEntity.ok(OutboxRequeueResponseDto.builder()
+                .requeued(orderOutboxService.requeueFailedEvents())
+                .build());
+    }
+}
@@ -0,0 +1,38 @@
+package com.innowise.orderservice.controller;
+
+import com.innowise.orderservice.service.UserCacheService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/admin/user-cache")
+@RequiredArgsConstructor
+public class UserCacheController {
+
+    private final UserCacheService userCacheService;
+
+    /**
+     * Invalidate cached user info (only ADMIN)
+     * @param userId user id
+     * @return 204 NO CONTENT
+     */
+    @DeleteMapping("/{userId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> evictUser(@PathVariable(name = "userId") Long userId) {
+        userCacheService.evictUser(userId);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Invalidate all cached user info (only ADMIN)
+     * @return 204 NO CONTENT
+     */
+    @DeleteMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> evictAll() {
+        userCacheService.evictAll();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,16 @@
+package com.innowise.orderservice.dto.order;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+
+@Builder
+public record OrderBatchEntryDto (
+        @NotNull(message = "User id is required")
+        Long userId,
+
+        @NotNull(message = "Order is required")
+        @Valid
+        OrderRequestDto order
+) {
+}
@@ -0,0 +1,17 @@
+package com.innowise.orderservice.dto.order;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record OrderBatchRequestDto (
+        @NotEmpty(message = "Batch must contain at least 1 order")
+        @Size(max = 1000, message = "Batch must contain at most 1000 orders")
+        @Valid
+        List<OrderBatchEntryDto> orders
+) {
+}
@@ -0,0 +1,13 @@
+package com.innowise.orderservice.dto.order;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record OrderBatchResponseDto (
+        int created,
+        int failed,
+        List<OrderBatchResultDto> results
+) {
+}
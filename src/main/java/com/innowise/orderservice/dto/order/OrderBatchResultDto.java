@@ -0,0 +1,16 @@
+package com.innowise.orderservice.dto.order;
+
+import lombok.Builder;
+
+import java.math.BigDecimal;
+
+@Builder
+public record OrderBatchResultDto (
+        int index,
+        Long userId,
+        boolean success,
+        Long orderId,
+        BigDecimal totalPrice,
+        String error
+) {
+}
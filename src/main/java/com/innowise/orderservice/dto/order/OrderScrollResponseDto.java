@@ -0,0 +1,14 @@
+package com.innowise.orderservice.dto.order;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record OrderScrollResponseDto (
+        List<OrderResponseDto> content,
+        int size,
+        boolean hasNext,
+        String nextCursor
+) {
+}
@@ -0,0 +1,16 @@
+package com.innowise.orderservice.dto.order;
+
+import com.innowise.orderservice.enums.OrderStatus;
+import lombok.Builder;
+
+/**
+ * Outcome of a conditional status update, currentStatus is null when order doesn't exist or is deleted
+ */
+@Builder
+public record OrderStatusUpdateResultDto (
+        Long orderId,
+        OrderStatus requestedStatus,
+        OrderStatus currentStatus,
+        boolean applied
+) {
+}
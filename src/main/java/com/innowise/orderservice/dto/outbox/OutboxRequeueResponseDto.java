@@ -0,0 +1,12 @@
+package com.innowise.orderservice.dto.outbox;
+
+import lombok.Builder;
+
+/**
+ * Number of FAILED outbox events put back into the relay queue
+ */
+@Builder
+public record OutboxRequeueResponseDto (
+        int requeued
+) {
+}
@@ -0,0 +1,23 @@
+package com.innowise.orderservice.dto.user;
+
+import com.innowise.orderservice.client.dto.UserInfoDto;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+/**
+ * User change published by User Service, user is null for deletions
+ */
+@Builder
+public record UserChangedEventDto(
+        Long userId,
+        EventType eventType,
+        UserInfoDto user,
+        LocalDateTime timestamp
+) {
+    public enum EventType {
+        USER_CREATED,
+        USER_UPDATED,
+        USER_DELETED
+    }
+}
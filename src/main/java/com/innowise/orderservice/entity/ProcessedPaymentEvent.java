@@ -0,0 +1,43 @@
+package com.innowise.orderservice.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Payment event already applied to orders, rows are only inserted so save() always persists without a select
+ */
+@Entity
+@Table(name = "processed_payment_events")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProcessedPaymentEvent implements Persistable<String> {
+
+    @Id
+    @Column(name = "payment_id", nullable = false, length = 100)
+    private String paymentId;
+
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    @Column(name = "processed_at", nullable = false)
+    private LocalDateTime processedAt;
+
+    @Override
+    public String getId() {
+        return paymentId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
@@ -1,9 +1,33 @@
 package com.innowise.orderservice.enums;
 
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
 public enum OrderStatus {
     PENDING,
     PROCESSING,
     SHIPPED,
     DELIVERED,
-    CANCELLED
+    CANCELLED;
+
+    public boolean canTransitionTo(OrderStatus newStatus) {
+        return switch (this) {
+            case PENDING -> newStatus == PROCESSING || newStatus == CANCELLED;
+            case PROCESSING -> newStatus == SHIPPED || newStatus == CANCELLED;
+            case SHIPPED -> newStatus == DELIVERED;
+            case DELIVERED, CANCELLED -> false;
+        };
+    }
+
+    /**
+     * @return statuses an order may be in to move to this status
+     */
+    public Set<OrderStatus> allowedPredecessors() {
+        Set<OrderStatus> predecessors = EnumSet.noneOf(OrderStatus.class);
+        Arrays.stream(values())
+                .filter(status -> status.canTransitionTo(this))
+                .forEach(predecessors::add);
+        return predecessors;
+    }
 }
@@ -0,0 +1,7 @@
+package com.innowise.orderservice.enums;
+
+public enum OutboxStatus {
+    PENDING,
+    SENT,
+    FAILED
+}
@@ -0,0 +1,7 @@
+package com.innowise.orderservice.exception;
+
+public class BatchLookupNotSupportedException extends RuntimeException {
+    public BatchLookupNotSupportedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.innowise.orderservice.exception;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,66 @@
+package com.innowise.orderservice.kafka.consumer;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs tasks on a fixed set of single-threaded lanes chosen by key hash:
+ * tasks with the same key run one after another in submission order, different keys run in parallel.
+ * Lane queues are unbounded, callers bound the backlog (the listener container pauses until a poll is acknowledged).
+ */
+@Slf4j
+public class KeyOrderedExecutor implements AutoCloseable {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final ExecutorService[] lanes;
+
+    public KeyOrderedExecutor(int lanes, ThreadFactory threadFactory) {
+        if (lanes < 1) {
+            throw new IllegalArgumentException("Lane count must be positive: " + lanes);
+        }
+        this.lanes = new ExecutorService[lanes];
+        for (int i = 0; i < lanes; i++) {
+            this.lanes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(), threadFactory);
+        }
+    }
+
+    public void execute(Object key, Runnable task) {
+        lanes[laneOf(key)].execute(task);
+    }
+
+    public int laneOf(Object key) {
+        return Math.floorMod(Objects.hashCode(key), lanes.length);
+    }
+
+    public int laneCount() {
+        return lanes.length;
+    }
+
+    /**
+     * Lets queued tasks finish, unfinished work is redelivered because its offsets were never committed
+     */
+    @Override
+    public void close() {
+        Arrays.stream(lanes).forEach(ExecutorService::shutdown);
+        try {
+            for (ExecutorService lane : lanes) {
+                if (!lane.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    log.warn("Key ordered lane did not finish in {}s, interrupting", SHUTDOWN_TIMEOUT_SECONDS);
+                    lane.shutdownNow();
+                }
+            }
+        } catch (InterruptedException e) {
+            Arrays.stream(lanes).forEach(ExecutorService::shutdownNow);
+            Thread.currentThread().interrupt();
+        }
+    }
+}
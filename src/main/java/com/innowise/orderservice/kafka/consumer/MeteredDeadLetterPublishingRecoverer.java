@@ -0,0 +1,53 @@
+package com.innowise.orderservice.kafka.consumer;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.support.KafkaHeaders;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Counts every record forwarded by the retry topic machinery, either to the next retry topic or to the DLT.
+ * Counting on the publishing side also covers records that cannot be deserialized on the DLT.
+ */
+public class MeteredDeadLetterPublishingRecoverer extends DeadLetterPublishingRecoverer {
+
+    private final PaymentEventMetrics metrics;
+    private final String dltTopicSuffix;
+
+    public MeteredDeadLetterPublishingRecoverer(
+            Function<ProducerRecord<?, ?>, KafkaOperations<?, ?>> templateResolver,
+            BiFunction<ConsumerRecord<?, ?>, Exception, TopicPartition> destinationResolver,
+            PaymentEventMetrics metrics,
+            String dltTopicSuffix
+    ) {
+        super(templateResolver, destinationResolver);
+        this.metrics = metrics;
+        this.dltTopicSuffix = dltTopicSuffix;
+    }
+
+    @Override
+    protected void publish(ProducerRecord<Object, Object> outRecord, KafkaOperations<Object, Object> kafkaTemplate,
+                           ConsumerRecord<?, ?> inRecord) {
+        super.publish(outRecord, kafkaTemplate, inRecord);
+
+        // the cause header carries the listener exception unwrapped from ListenerExecutionFailedException
+        Header exceptionHeader = outRecord.headers().lastHeader(KafkaHeaders.DLT_EXCEPTION_CAUSE_FQCN);
+        if (exceptionHeader == null) {
+            exceptionHeader = outRecord.headers().lastHeader(KafkaHeaders.DLT_EXCEPTION_FQCN);
+        }
+        String exception = exceptionHeader == null ? null : new String(exceptionHeader.value(), StandardCharsets.UTF_8);
+
+        if (outRecord.topic().endsWith(dltTopicSuffix)) {
+            metrics.recordDeadLetter(outRecord.topic(), exception);
+        } else {
+            metrics.recordRetry(outRecord.topic(), exception);
+        }
+    }
+}
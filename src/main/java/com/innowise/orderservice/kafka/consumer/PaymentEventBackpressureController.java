@@ -0,0 +1,210 @@
+package com.innowise.orderservice.kafka.consumer;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pauses payment event listener containers while the database is saturated, so polling
+ * does not pile more work onto the connection pool that HTTP requests also need.
+ * Pauses as soon as pool utilization, threads waiting for a connection or average transaction
+ * time cross the high watermarks, resumes only after utilization and transaction time stay
+ * under the low watermarks with no waiting threads for several consecutive checks.
+ */
+@Component
+@Slf4j
+public class PaymentEventBackpressureController {
+
+    public static final String PAUSED_METRIC = "payment.events.backpressure.paused";
+    public static final String POOL_UTILIZATION_METRIC = "payment.events.backpressure.pool.utilization";
+    public static final String TRANSACTION_TIME_METRIC = "payment.events.backpressure.transaction.time";
+    public static final String TRANSITIONS_METRIC = "payment.events.backpressure.transitions";
+
+    private final DataSource dataSource;
+    private final KafkaListenerEndpointRegistry listenerEndpointRegistry;
+
+    private final boolean enabled;
+    private final String paymentEventsTopic;
+    private final double pauseUtilization;
+    private final double resumeUtilization;
+    private final Duration pauseTransactionTime;
+    private final Duration resumeTransactionTime;
+    private final int pauseWaitingThreads;
+    private final int resumeChecks;
+
+    private final Counter pauses;
+    private final Counter resumes;
+
+    private final LongAdder transactionNanos = new LongAdder();
+    private final LongAdder transactions = new LongAdder();
+
+    private volatile boolean paused;
+    private volatile double poolUtilization;
+    private volatile double averageTransactionMillis;
+    private int healthyChecks;
+
+    public PaymentEventBackpressureController(
+            DataSource dataSource,
+            KafkaListenerEndpointRegistry listenerEndpointRegistry,
+            MeterRegistry meterRegistry,
+            @Value("${kafka.consumer.payment-events.backpressure.enabled:false}") boolean enabled,
+            @Value("${kafka.topics.payment-events}") String paymentEventsTopic,
+            @Value("${kafka.consumer.payment-events.backpressure.pause-utilization:0.9}") double pauseUtilization,
+            @Value("${kafka.consumer.payment-events.backpressure.resume-utilization:0.6}") double resumeUtilization,
+            @Value("${kafka.consumer.payment-events.backpressure.pause-transaction-time:500ms}") Duration pauseTransactionTime,
+            @Value("${kafka.consumer.payment-events.backpressure.resume-transaction-time:200ms}") Duration resumeTransactionTime,
+            @Value("${kafka.consumer.payment-events.backpressure.pause-waiting-threads:3}") int pauseWaitingThreads,
+            @Value("${kafka.consumer.payment-events.backpressure.resume-checks:3}") int resumeChecks
+    ) {
+        if (resumeUtilization > pauseUtilization || resumeTransactionTime.compareTo(pauseTransactionTime) > 0) {
+            throw new IllegalArgumentException("Backpressure resume watermarks must not exceed pause watermarks");
+        }
+        if (pauseWaitingThreads < 1) {
+            throw new IllegalArgumentException("Backpressure waiting threads watermark must be at least 1");
+        }
+
+        this.dataSource = dataSource;
+        this.listenerEndpointRegistry = listenerEndpointRegistry;
+        this.enabled = enabled;
+        this.paymentEventsTopic = paymentEventsTopic;
+        this.pauseUtilization = pauseUtilization;
+        this.resumeUtilization = resumeUtilization;
+        this.pauseTransactionTime = pauseTransactionTime;
+        this.resumeTransactionTime = resumeTransactionTime;
+        this.pauseWaitingThreads = pauseWaitingThreads;
+        this.resumeChecks = resumeChecks;
+
+        Gauge.builder(PAUSED_METRIC, this, controller -> controller.paused ? 1 : 0)
+                .description("1 while payment event consumption is paused by backpressure")
+                .register(meterRegistry);
+        Gauge.builder(POOL_UTILIZATION_METRIC, this, controller -> controller.poolUtilization)
+                .description("Active to maximum connections ratio seen by the last backpressure check")
+                .register(meterRegistry);
+        Gauge.builder(TRANSACTION_TIME_METRIC, this, controller -> controller.averageTransactionMillis)
+                .description("Average payment event transaction time since the previous backpressure check")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        this.pauses = meterRegistry.counter(TRANSITIONS_METRIC, "action", "pause");
+        this.resumes = meterRegistry.counter(TRANSITIONS_METRIC, "action", "resume");
+    }
+
+    /**
+     * Feeds the transaction time signal, called once per processed payment event
+     */
+    public void recordTransaction(long nanos) {
+        recordTransactions(nanos, 1);
+    }
+
+    /**
+     * Feeds the transaction time of a transaction that applied several payment events,
+     * counted per event so the average stays comparable with single event transactions
+     */
+    public void recordTransactions(long nanos, int events) {
+        if (events <= 0) {
+            return;
+        }
+        transactionNanos.add(nanos);
+        transactions.add(events);
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    @Scheduled(fixedDelayString = "${kafka.consumer.payment-events.backpressure.check-interval:1s}")
+    public synchronized void check() {
+        if (!enabled) {
+            return;
+        }
+
+        long count = transactions.sumThenReset();
+        long nanos = transactionNanos.sumThenReset();
+        averageTransactionMillis = count == 0 ? 0 : (double) TimeUnit.NANOSECONDS.toMillis(nanos) / count;
+
+        HikariPoolMXBean pool = hikariPool();
+        int waiting = 0;
+        if (pool != null) {
+            int maximum = Math.max(pool.getTotalConnections(), maximumPoolSize());
+            poolUtilization = maximum == 0 ? 0 : (double) pool.getActiveConnections() / maximum;
+            waiting = pool.getThreadsAwaitingConnection();
+        }
+
+        if (!paused) {
+            if (poolUtilization >= pauseUtilization || waiting >= pauseWaitingThreads
+                    || averageTransactionMillis >= pauseTransactionTime.toMillis()) {
+                log.warn("Pausing payment event consumption: pool utilization={}, waiting threads={}, "
+                        + "average transaction time={}ms", poolUtilization, waiting, averageTransactionMillis);
+                setPaused(true);
+            }
+            return;
+        }
+
+        // a paused consumer produces no transaction samples, so an empty window counts as healthy
+        boolean healthy = poolUtilization <= resumeUtilization && waiting == 0
+                && averageTransactionMillis <= resumeTransactionTime.toMillis();
+        healthyChecks = healthy ? healthyChecks + 1 : 0;
+        if (healthyChecks >= resumeChecks) {
+            log.info("Resuming payment event consumption: pool utilization={}", poolUtilization);
+            setPaused(false);
+        }
+    }
+
+    private void setPaused(boolean paused) {
+        this.paused = paused;
+        this.healthyChecks = 0;
+        (paused ? pauses : resumes).increment();
+
+        for (MessageListenerContainer container : listenerEndpointRegistry.getListenerContainers()) {
+            if (!consumesPaymentEvents(container)) {
+                continue;
+            }
+            if (paused) {
+                container.pause();
+            } else {
+                container.resume();
+            }
+        }
+    }
+
+    /**
+     * Main topic and retry topics, the DLT listener does not touch the database
+     */
+    private boolean consumesPaymentEvents(MessageListenerContainer container) {
+        String[] topics = container.getContainerProperties().getTopics();
+        return topics != null && Arrays.stream(topics)
+                .anyMatch(topic -> topic.equals(paymentEventsTopic) || topic.startsWith(paymentEventsTopic + "-retry"));
+    }
+
+    private HikariPoolMXBean hikariPool() {
+        HikariDataSource hikari = hikariDataSource();
+        return hikari == null ? null : hikari.getHikariPoolMXBean();
+    }
+
+    private int maximumPoolSize() {
+        HikariDataSource hikari = hikariDataSource();
+        return hikari == null ? 0 : hikari.getMaximumPoolSize();
+    }
+
+    private HikariDataSource hikariDataSource() {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
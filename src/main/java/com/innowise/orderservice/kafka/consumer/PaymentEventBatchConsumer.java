@@ -0,0 +1,144 @@
+package com.innowise.orderservice.kafka.consumer;
+
+import com.innowise.orderservice.dto.payment.PaymentEventDto;
+import com.innowise.orderservice.enums.OrderStatus;
+import com.innowise.orderservice.service.OrderService;
+import com.innowise.orderservice.service.ProcessedPaymentEventService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Batch mode of payment events consumer, enabled with kafka.consumer.payment-events.batch-listener=true.
+ * Drops already processed payments, keeps the last event per order, applies the whole poll
+ * with set-based updates in one transaction and acknowledges it once.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "kafka.consumer.payment-events.batch-listener", havingValue = "true")
+public class PaymentEventBatchConsumer {
+
+    private final OrderService orderService;
+    private final ProcessedPaymentEventService processedPaymentEventService;
+    private final TransactionTemplate transactionTemplate;
+    private final PaymentEventBackpressureController backpressureController;
+
+    @KafkaListener(
+            topics = "${kafka.topics.payment-events}",
+            groupId = "${spring.kafka.consumer.group-id}",
+            containerFactory = "kafkaListenerContainerFactory"
+    )
+    public void handlePaymentEvents(
+            List<ConsumerRecord<String, PaymentEventDto>> records,
+            Acknowledgment acknowledgment
+    ) {
+        log.info("Received batch of {} payment events", records.size());
+
+        Set<String> processedPaymentIds = processedPaymentEventService.findProcessed(records.stream()
+                .map(ConsumerRecord::value)
+                .filter(Objects::nonNull)
+                .map(PaymentEventDto::paymentId)
+                .toList());
+
+        Map<Long, ConsumerRecord<String, PaymentEventDto>> lastRecordByOrderId = new LinkedHashMap<>();
+        Map<String, PaymentEventDto> newEventsByPaymentId = new LinkedHashMap<>();
+        for (ConsumerRecord<String, PaymentEventDto> consumerRecord : records) {
+            PaymentEventDto event = consumerRecord.value();
+            if (event == null || event.orderId() == null) {
+                log.warn("Skipping payment event without order: partition={}, offset={}",
+                        consumerRecord.partition(), consumerRecord.offset());
+                continue;
+            }
+            if (event.paymentId() != null) {
+                if (processedPaymentIds.contains(event.paymentId())
+                        || newEventsByPaymentId.putIfAbsent(event.paymentId(), event) != null) {
+                    log.debug("Skipping duplicate payment event: paymentId={}", event.paymentId());
+                    continue;
+                }
+            }
+            // re-insert so iteration order follows the offset of the last event per order
+            lastRecordByOrderId.remove(event.orderId());
+            lastRecordByOrderId.put(event.orderId(), consumerRecord);
+        }
+
+        Map<Long, OrderStatus> statusesByOrderId = new LinkedHashMap<>();
+        lastRecordByOrderId.forEach((orderId, consumerRecord) -> {
+            OrderStatus newStatus = PaymentEvents.targetOrderStatus(consumerRecord.value().status());
+            if (newStatus == null) {
+                log.warn("Unexpected payment status {} for orderId={}, skipping update",
+                        consumerRecord.value().status(), orderId);
+            } else {
+                statusesByOrderId.put(orderId, newStatus);
+            }
+        });
+
+        if (!statusesByOrderId.isEmpty()) {
+            try {
+                int updated = applyInOneTransaction(newEventsByPaymentId, statusesByOrderId);
+                log.info("Payment batch applied: {} records, {} orders, {} updated",
+                        records.size(), statusesByOrderId.size(), updated);
+            } catch (Exception e) {
+                log.warn("Bulk status update failed, applying payment events one by one: {}", e.getMessage());
+                applyOneByOne(lastRecordByOrderId, statusesByOrderId);
+            }
+        }
+
+        acknowledgment.acknowledge();
+    }
+
+    /**
+     * Whole batch transaction time feeds the backpressure controller, counted per applied order
+     */
+    private int applyInOneTransaction(Map<String, PaymentEventDto> newEventsByPaymentId,
+                                      Map<Long, OrderStatus> statusesByOrderId) {
+        long transactionStartedAt = System.nanoTime();
+        try {
+            return transactionTemplate.execute(status -> {
+                processedPaymentEventService.markProcessed(newEventsByPaymentId.values());
+                return orderService.compareAndSetStatuses(statusesByOrderId);
+            });
+        } finally {
+            backpressureController.recordTransactions(System.nanoTime() - transactionStartedAt,
+                    statusesByOrderId.size());
+        }
+    }
+
+    /**
+     * Applies events in offset order, the first failing record is reported to the error handler
+     * which commits offsets before it and redelivers the rest of the batch
+     */
+    private void applyOneByOne(Map<Long, ConsumerRecord<String, PaymentEventDto>> lastRecordByOrderId,
+                               Map<Long, OrderStatus> statusesByOrderId) {
+        statusesByOrderId.forEach((orderId, newStatus) -> {
+            ConsumerRecord<String, PaymentEventDto> consumerRecord = lastRecordByOrderId.get(orderId);
+            PaymentEventDto event = consumerRecord.value();
+            long transactionStartedAt = System.nanoTime();
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    if (processedPaymentEventService.markProcessed(event.paymentId(), orderId)) {
+                        orderService.compareAndSetStatus(orderId, newStatus);
+                    }
+                });
+            } catch (Exception e) {
+                log.error("Error processing payment event for orderId={}, partition={}, offset={}",
+                        orderId, consumerRecord.partition(), consumerRecord.offset(), e);
+                throw new BatchListenerFailedException("Failed to process payment event", e, consumerRecord);
+            } finally {
+                backpressureController.recordTransaction(System.nanoTime() - transactionStartedAt);
+            }
+        });
+    }
+}
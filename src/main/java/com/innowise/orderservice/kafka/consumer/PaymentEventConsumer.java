@@ -1,24 +1,98 @@
 package com.innowise.orderservice.kafka.consumer;
 
+import com.innowise.orderservice.config.KafkaConfig;
 import com.innowise.orderservice.dto.payment.PaymentEventDto;
 import com.innowise.orderservice.enums.OrderStatus;
+import com.innowise.orderservice.exception.InvalidOrderStateException;
+import com.innowise.orderservice.exception.ResourceNotFoundException;
 import com.innowise.orderservice.service.OrderService;
+import com.innowise.orderservice.service.ProcessedPaymentEventService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Headers;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.DltHandler;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.retrytopic.DltStrategy;
+import org.springframework.kafka.retrytopic.RetryTopicConstants;
+import org.springframework.kafka.retrytopic.TopicSuffixingStrategy;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies payment events one record at a time. Failed records move through delayed retry topics
+ * to the DLT, so a failing event does not hold back its partition. In parallel mode records are handed to
+ * {@link KeyOrderedExecutor} lanes by orderId and acknowledged out of order, the container
+ * commits each partition only up to its lowest offset that is not yet acknowledged.
+ */
 @Component
 @Slf4j
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "kafka.consumer.payment-events.batch-listener", havingValue = "false", matchIfMissing = true)
 public class PaymentEventConsumer {
 
+    private static final long DLT_SEND_TIMEOUT_SECONDS = 10;
+
+    /**
+     * Deterministic failures, dead-lettered without retries. Keep in sync with the {@link RetryableTopic} exclude list
+     */
+    private static final List<Class<? extends Throwable>> NOT_RETRYABLE =
+            List.of(InvalidOrderStateException.class, ResourceNotFoundException.class);
+
     private final OrderService orderService;
+    private final ProcessedPaymentEventService processedPaymentEventService;
+    private final TransactionTemplate transactionTemplate;
+    private final KeyOrderedExecutor paymentEventExecutor;
+    private final PaymentEventMetrics paymentEventMetrics;
+    private final PaymentEventBackpressureController backpressureController;
+
+    @Qualifier(KafkaConfig.PAYMENT_EVENT_KAFKA_TEMPLATE)
+    private final KafkaTemplate<String, Object> paymentEventKafkaTemplate;
+
+    @Value("${kafka.topics.payment-events}")
+    private String paymentEventsTopic;
+
+    @Value("${kafka.consumer.payment-events.parallel.enabled:false}")
+    private boolean parallel;
+
+    @Value("${kafka.consumer.payment-events.parallel.max-attempts:10}")
+    private int maxAttempts;
 
+    @Value("${kafka.consumer.payment-events.parallel.retry-backoff:500ms}")
+    private Duration retryBackoff;
+
+    @RetryableTopic(
+            attempts = "${kafka.consumer.payment-events.retry.attempts:4}",
+            backoff = @Backoff(
+                    delayExpression = "${kafka.consumer.payment-events.retry.delay:1000}",
+                    multiplierExpression = "${kafka.consumer.payment-events.retry.multiplier:2.0}",
+                    maxDelayExpression = "${kafka.consumer.payment-events.retry.max-delay:30000}"
+            ),
+            autoCreateTopics = "${kafka.consumer.payment-events.retry.auto-create-topics:true}",
+            kafkaTemplate = KafkaConfig.PAYMENT_EVENT_KAFKA_TEMPLATE,
+            topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE,
+            dltStrategy = DltStrategy.FAIL_ON_ERROR,
+            exclude = {InvalidOrderStateException.class, ResourceNotFoundException.class},
+            traversingCauses = "true"
+    )
     @KafkaListener(
             topics = "${kafka.topics.payment-events}",
             groupId = "${spring.kafka.consumer.group-id}",
@@ -26,6 +100,7 @@ public class PaymentEventConsumer {
     )
     public void handlePaymentEvent(
             @Payload PaymentEventDto event,
+            @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
             @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
             @Header(KafkaHeaders.OFFSET) long offset,
             Acknowledgment acknowledgment
@@ -33,37 +108,202 @@ public class PaymentEventConsumer {
         log.info("Received PAYMENT_CREATED event: orderId={}, userId={}, partition={}, offset={}",
                 event.orderId(), event.userId(), partition, offset);
 
+        if (parallel) {
+            long dispatchedAt = System.nanoTime();
+            paymentEventExecutor.execute(event.orderId(), () -> {
+                paymentEventMetrics.recordStage(PaymentEventMetrics.Stage.LANE_WAIT, System.nanoTime() - dispatchedAt);
+                processWithRetry(event, topic, partition, offset, acknowledgment);
+            });
+            return;
+        }
+
         try {
-            OrderStatus newOrderStatus = switch (event.status()) {
-                case SUCCESS -> {
-                    log.info("Payment successful for orderId={}, updating order to PROCESSING status",
-                            event.orderId());
-                    yield OrderStatus.PROCESSING;
-                }
-                case FAILED -> {
-                    log.warn("Payment failed for orderId={}, updating order to CANCELLED status",
-                            event.orderId());
-                    yield OrderStatus.CANCELLED;
+            process(event);
+            acknowledge(event, topic, acknowledgment);
+        } catch (RuntimeException e) {
+            paymentEventMetrics.recordOutcome(PaymentEventMetrics.Outcome.FAILED);
+            log.warn("Error processing PAYMENT_CREATED event for orderId={}, forwarding to retry: {}",
+                    event.orderId(), e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * Records land here after retry topics are exhausted or on a non-retryable failure,
+     * forwarding is already counted by {@link MeteredDeadLetterPublishingRecoverer}
+     */
+    @DltHandler
+    public void handleDeadLetter(
+            @Payload PaymentEventDto event,
+            @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
+            @Header(KafkaHeaders.OFFSET) long offset,
+            Acknowledgment acknowledgment
+    ) {
+        log.error("PAYMENT_CREATED event dead-lettered: orderId={}, paymentId={}, status={}, topic={}, offset={}",
+                event.orderId(), event.paymentId(), event.status(), topic, offset);
+        acknowledgment.acknowledge();
+    }
+
+    /**
+     * Worker side of parallel mode. Failures never reach the container error handler,
+     * so the lane retries in place (blocking later events of the same orders) and forwards
+     * the record to the DLT once attempts are exhausted or on a non-retryable failure.
+     * The record is acknowledged only once it is applied or dead-lettered.
+     */
+    private void processWithRetry(PaymentEventDto event, String topic, int partition, long offset,
+                                  Acknowledgment acknowledgment) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                process(event);
+                break;
+            } catch (Exception e) {
+                paymentEventMetrics.recordOutcome(PaymentEventMetrics.Outcome.FAILED);
+                if (attempt >= maxAttempts || !isRetryable(e)) {
+                    log.error("Giving up on PAYMENT_CREATED event for orderId={} after {} attempts, partition={}, offset={}",
+                            event.orderId(), attempt, partition, offset, e);
+                    if (!publishToDeadLetterTopic(event, e, topic, partition, offset)) {
+                        // not dead-lettered: leave the record unacknowledged so it is redelivered
+                        return;
+                    }
+                    break;
                 }
-                default -> {
-                    log.warn("Unexpected order status {} for orderId={}, skipping update",
-                            event.status(), event.orderId());
-                    acknowledgment.acknowledge();
-                    yield null;
+                log.warn("Attempt {} failed for PAYMENT_CREATED event orderId={}: {}",
+                        attempt, event.orderId(), e.getMessage());
+                if (!sleep(retryBackoff)) {
+                    // shutting down: leave the record unacknowledged so it is redelivered
+                    return;
                 }
-            };
+            }
+        }
+        acknowledge(event, topic, acknowledgment);
+    }
 
-            if (newOrderStatus != null) {
-                orderService.updateOrderStatus(event.orderId(), newOrderStatus);
-                log.info("Order status updated successfully: orderId={}, new status={}",
-                        event.orderId(), newOrderStatus);
+    private void acknowledge(PaymentEventDto event, String topic, Acknowledgment acknowledgment) {
+        acknowledgment.acknowledge();
+        paymentEventMetrics.recordEndToEnd(topic, event.timestamp());
+    }
+
+    private static boolean isRetryable(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            Throwable current = cause;
+            if (NOT_RETRYABLE.stream().anyMatch(type -> type.isInstance(current))) {
+                return false;
             }
+        }
+        return true;
+    }
 
-            acknowledgment.acknowledge();
-            log.info("PAYMENT_CREATED event processed successfully for orderId={}", event.orderId());
+    /**
+     * Sends the event to the DLT with the exception and original record headers
+     * {@link org.springframework.kafka.listener.DeadLetterPublishingRecoverer} adds in sequential mode
+     * @return whether the broker acknowledged the DLT record
+     */
+    private boolean publishToDeadLetterTopic(PaymentEventDto event, Exception exception,
+                                             String topic, int partition, long offset) {
+        String dltTopic = paymentEventsTopic + RetryTopicConstants.DEFAULT_DLT_SUFFIX;
+        ProducerRecord<String, Object> record = new ProducerRecord<>(dltTopic, String.valueOf(event.orderId()), event);
+        addDeadLetterHeaders(record.headers(), exception, topic, partition, offset);
+        try {
+            paymentEventKafkaTemplate.send(record).get(DLT_SEND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            paymentEventMetrics.recordDeadLetter(dltTopic, exception.getClass().getName());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Interrupted while dead-lettering payment event for orderId={}", event.orderId());
         } catch (Exception e) {
-            log.error("Error processing PAYMENT_CREATED event for orderId={}", event.orderId(), e);
-            throw new RuntimeException("Failed to process payment event", e);
+            log.error("Failed to dead-letter payment event for orderId={}, paymentId={}: {}",
+                    event.orderId(), event.paymentId(), e.getMessage());
+        }
+        return false;
+    }
+
+    private static void addDeadLetterHeaders(Headers headers, Exception exception,
+                                             String topic, int partition, long offset) {
+        headers.add(KafkaHeaders.DLT_ORIGINAL_TOPIC, topic.getBytes(StandardCharsets.UTF_8));
+        headers.add(KafkaHeaders.DLT_ORIGINAL_PARTITION, ByteBuffer.allocate(Integer.BYTES).putInt(partition).array());
+        headers.add(KafkaHeaders.DLT_ORIGINAL_OFFSET, ByteBuffer.allocate(Long.BYTES).putLong(offset).array());
+        headers.add(KafkaHeaders.DLT_EXCEPTION_FQCN, exception.getClass().getName().getBytes(StandardCharsets.UTF_8));
+        if (exception.getCause() != null) {
+            headers.add(KafkaHeaders.DLT_EXCEPTION_CAUSE_FQCN,
+                    exception.getCause().getClass().getName().getBytes(StandardCharsets.UTF_8));
+        }
+        if (exception.getMessage() != null) {
+            headers.add(KafkaHeaders.DLT_EXCEPTION_MESSAGE, exception.getMessage().getBytes(StandardCharsets.UTF_8));
+        }
+        StringWriter stackTrace = new StringWriter();
+        exception.printStackTrace(new PrintWriter(stackTrace));
+        headers.add(KafkaHeaders.DLT_EXCEPTION_STACKTRACE, stackTrace.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Applies the event in its own transaction and records the outcome and stage timings,
+     * the whole transaction time, failed or not, feeds the backpressure controller
+     */
+    private void process(PaymentEventDto event) {
+        long transactionStartedAt = System.nanoTime();
+        try {
+            processInTransaction(event);
+        } finally {
+            backpressureController.recordTransaction(System.nanoTime() - transactionStartedAt);
+        }
+    }
+
+    private void processInTransaction(PaymentEventDto event) {
+        long[] commitStartedAt = new long[1];
+        PaymentEventMetrics.Outcome outcome = transactionTemplate.execute(status -> {
+            long startedAt = System.nanoTime();
+            boolean processed = processedPaymentEventService.isProcessed(event.paymentId());
+            long dedupedAt = System.nanoTime();
+            paymentEventMetrics.recordStage(PaymentEventMetrics.Stage.DEDUPE, dedupedAt - startedAt);
+
+            PaymentEventMetrics.Outcome result = processed ? duplicate(event) : apply(event);
+
+            commitStartedAt[0] = System.nanoTime();
+            paymentEventMetrics.recordStage(PaymentEventMetrics.Stage.UPDATE, commitStartedAt[0] - dedupedAt);
+            return result;
+        });
+        paymentEventMetrics.recordStage(PaymentEventMetrics.Stage.COMMIT, System.nanoTime() - commitStartedAt[0]);
+        paymentEventMetrics.recordOutcome(outcome);
+    }
+
+    private PaymentEventMetrics.Outcome duplicate(PaymentEventDto event) {
+        log.info("Skipping duplicate payment event: paymentId={}, orderId={}", event.paymentId(), event.orderId());
+        return PaymentEventMetrics.Outcome.DUPLICATE;
+    }
+
+    private PaymentEventMetrics.Outcome apply(PaymentEventDto event) {
+        OrderStatus newOrderStatus = PaymentEvents.targetOrderStatus(event.status());
+        if (newOrderStatus == OrderStatus.PROCESSING) {
+            log.info("Payment successful for orderId={}, updating order to PROCESSING status", event.orderId());
+        } else if (newOrderStatus == OrderStatus.CANCELLED) {
+            log.warn("Payment failed for orderId={}, updating order to CANCELLED status", event.orderId());
+        } else {
+            log.warn("Unexpected order status {} for orderId={}, skipping update", event.status(), event.orderId());
+        }
+
+        if (newOrderStatus == null) {
+            return PaymentEventMetrics.Outcome.SKIPPED;
+        }
+
+        if (!processedPaymentEventService.markProcessed(event.paymentId(), event.orderId())) {
+            log.info("Payment event {} was processed concurrently, skipping", event.paymentId());
+            return PaymentEventMetrics.Outcome.DUPLICATE;
+        }
+
+        orderService.transitionStatus(event.orderId(), newOrderStatus);
+        log.info("Order status updated successfully: orderId={}, new status={}",
+                event.orderId(), newOrderStatus);
+        log.info("PAYMENT_CREATED event processed successfully for orderId={}", event.orderId());
+        return PaymentEventMetrics.Outcome.APPLIED;
+    }
+
+    private static boolean sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
         }
     }
 }
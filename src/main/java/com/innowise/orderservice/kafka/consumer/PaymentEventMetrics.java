@@ -0,0 +1,164 @@
+package com.innowise.orderservice.kafka.consumer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer meters of the payment events pipeline.
+ * Per partition lag and consumed records per second come from the Kafka client metrics
+ * ({@code kafka.consumer.fetch.manager.records.lag}, {@code kafka.consumer.fetch.manager.records.consumed.rate})
+ * bound in {@link com.innowise.orderservice.config.KafkaConfig}.
+ */
+@Component
+public class PaymentEventMetrics {
+
+    public static final String RETRY_METRIC = "payment.events.retry";
+    public static final String DLT_METRIC = "payment.events.dlt";
+    public static final String PROCESSED_METRIC = "payment.events.processed";
+    public static final String LATENCY_METRIC = "payment.events.latency";
+    public static final String STAGE_METRIC = "payment.events.stage";
+    public static final String FILTERED_METRIC = "payment.events.filtered";
+
+    private static final String UNKNOWN = "unknown";
+
+    /**
+     * Result of handling one payment event
+     */
+    public enum Outcome {
+        /** order status was changed */
+        APPLIED,
+        /** event status does not change the order */
+        SKIPPED,
+        /** payment was already processed */
+        DUPLICATE,
+        /** processing attempt failed */
+        FAILED;
+
+        String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * Processing stages timed separately
+     */
+    public enum Stage {
+        /** parallel mode: waiting for the order's lane */
+        LANE_WAIT,
+        /** processed payment lookup */
+        DEDUPE,
+        /** processed payment insert and order status update */
+        UPDATE,
+        /** transaction commit */
+        COMMIT;
+
+        String tag() {
+            return name().toLowerCase(Locale.ROOT).replace('_', '-');
+        }
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final ZoneId eventZone;
+
+    private final Map<Outcome, Counter> outcomes = new EnumMap<>(Outcome.class);
+    private final Map<Stage, Timer> stages = new EnumMap<>(Stage.class);
+    private final Map<String, Timer> latencies = new ConcurrentHashMap<>();
+
+    public PaymentEventMetrics(MeterRegistry meterRegistry) {
+        this(meterRegistry, ZoneId.systemDefault());
+    }
+
+    /**
+     * @param eventZone zone of {@code PaymentEventDto.timestamp}, the payment service writes local time
+     */
+    PaymentEventMetrics(MeterRegistry meterRegistry, ZoneId eventZone) {
+        this.meterRegistry = meterRegistry;
+        this.eventZone = eventZone;
+
+        for (Outcome outcome : Outcome.values()) {
+            outcomes.put(outcome, Counter.builder(PROCESSED_METRIC)
+                    .description("Payment events handled, by outcome")
+                    .tag("outcome", outcome.tag())
+                    .register(meterRegistry));
+        }
+        for (Stage stage : Stage.values()) {
+            stages.put(stage, Timer.builder(STAGE_METRIC)
+                    .description("Time spent in one stage of payment event processing")
+                    .tag("stage", stage.tag())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * @param topic retry topic the record was forwarded to
+     * @param exception simple or fully qualified class name of the failure, may be null
+     */
+    public void recordRetry(String topic, String exception) {
+        meterRegistry.counter(RETRY_METRIC, "topic", topic, "exception", simpleName(exception)).increment();
+    }
+
+    /**
+     * @param topic dead-letter topic the record was forwarded to
+     * @param exception simple or fully qualified class name of the failure, may be null
+     */
+    public void recordDeadLetter(String topic, String exception) {
+        meterRegistry.counter(DLT_METRIC, "topic", topic, "exception", simpleName(exception)).increment();
+    }
+
+    /**
+     * @param status payment status of a record dropped before deserialization
+     */
+    public void recordFiltered(String status) {
+        meterRegistry.counter(FILTERED_METRIC, "status", status).increment();
+    }
+
+    public void recordOutcome(Outcome outcome) {
+        outcomes.get(outcome).increment();
+    }
+
+    public void recordStage(Stage stage, long nanos) {
+        stages.get(stage).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records time from the event timestamp until its offset is acknowledged,
+     * events without a timestamp or stamped in the future are ignored
+     */
+    public void recordEndToEnd(String topic, LocalDateTime eventTimestamp) {
+        if (eventTimestamp == null) {
+            return;
+        }
+
+        Duration latency = Duration.between(eventTimestamp.atZone(eventZone).toInstant(), Instant.now());
+        if (latency.isNegative()) {
+            return;
+        }
+
+        latencies.computeIfAbsent(topic, t -> Timer.builder(LATENCY_METRIC)
+                        .description("Time from payment event creation until its offset is acknowledged")
+                        .tag("topic", t)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry))
+                .record(latency);
+    }
+
+    private static String simpleName(String className) {
+        if (className == null || className.isBlank()) {
+            return UNKNOWN;
+        }
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+}
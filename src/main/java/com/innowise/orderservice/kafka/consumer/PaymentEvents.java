@@ -0,0 +1,25 @@
+package com.innowise.orderservice.kafka.consumer;
+
+import com.innowise.orderservice.dto.payment.PaymentEventDto;
+import com.innowise.orderservice.enums.OrderStatus;
+
+final class PaymentEvents {
+
+    private PaymentEvents() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * @return order status for a final payment status, null if payment status doesn't change the order
+     */
+    static OrderStatus targetOrderStatus(PaymentEventDto.PaymentStatus paymentStatus) {
+        if (paymentStatus == null) {
+            return null;
+        }
+        return switch (paymentStatus) {
+            case SUCCESS -> OrderStatus.PROCESSING;
+            case FAILED -> OrderStatus.CANCELLED;
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,155 @@
+package com.innowise.orderservice.kafka.consumer;
+
+import com.innowise.orderservice.kafka.serialization.EventFormat;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Drops payment events with statuses the order service ignores before the payload is deserialized.
+ * The status is taken from the {@value #STATUS_HEADER} header or, for JSON records, from a scan of the
+ * raw payload for the {@code "status"} string of the top level object. Skipped records come back with
+ * a null value and the {@value #SKIPPED_HEADER} header, which {@link SkippedPaymentEventFilter} discards
+ * on the container.
+ * Records whose status cannot be found cheaply go to the delegate as usual.
+ */
+public class PaymentStatusPreFilter<T> implements Deserializer<T> {
+
+    public static final String STATUS_HEADER = "payment-status";
+    public static final String SKIPPED_HEADER = "payment-event-skipped";
+
+    private static final byte[] STATUS_KEY = "\"status\"".getBytes(StandardCharsets.UTF_8);
+
+    private final Deserializer<T> delegate;
+    private final Set<String> ignoredStatuses;
+
+    public PaymentStatusPreFilter(Deserializer<T> delegate, Set<String> ignoredStatuses) {
+        this.delegate = delegate;
+        this.ignoredStatuses = Set.copyOf(ignoredStatuses);
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        delegate.configure(configs, isKey);
+    }
+
+    @Override
+    public T deserialize(String topic, byte[] data) {
+        return delegate.deserialize(topic, data);
+    }
+
+    @Override
+    public T deserialize(String topic, Headers headers, byte[] data) {
+        String status = status(headers, data);
+        if (status != null && ignoredStatuses.contains(status)) {
+            headers.add(SKIPPED_HEADER, status.getBytes(StandardCharsets.UTF_8));
+            return null;
+        }
+        return delegate.deserialize(topic, headers, data);
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    private static String status(Headers headers, byte[] data) {
+        Header header = headers.lastHeader(STATUS_HEADER);
+        if (header != null && header.value() != null) {
+            return new String(header.value(), StandardCharsets.UTF_8);
+        }
+        if (data == null || EventFormat.of(headers) != EventFormat.JSON) {
+            return null;
+        }
+        return jsonStatus(data);
+    }
+
+    /**
+     * Finds {@code "status" : "VALUE"} of the top level object without parsing the payload.
+     * Strings are skipped as a whole and brackets are counted, so a {@code "status"} property of a
+     * nested object or array is never taken for the event's own. Any unexpected byte means the status
+     * is unknown and the record is deserialized normally.
+     */
+    static String jsonStatus(byte[] data) {
+        int depth = 0;
+        int i = 0;
+        while (i < data.length) {
+            byte b = data[i];
+            if (b == '"') {
+                int end = stringEnd(data, i);
+                if (end < 0) {
+                    return null;
+                }
+                if (depth == 1 && isStatusKey(data, i, end)) {
+                    return statusValue(data, end + 1);
+                }
+                i = end + 1;
+                continue;
+            }
+            if (b == '{' || b == '[') {
+                depth++;
+            } else if (b == '}' || b == ']') {
+                depth--;
+            }
+            i++;
+        }
+        return null;
+    }
+
+    private static boolean isStatusKey(byte[] data, int start, int end) {
+        if (end - start + 1 != STATUS_KEY.length) {
+            return false;
+        }
+        for (int j = 0; j < STATUS_KEY.length; j++) {
+            if (data[start + j] != STATUS_KEY[j]) {
+                return false;
+            }
+        }
+        int i = skipWhitespace(data, end + 1);
+        return i < data.length && data[i] == ':';
+    }
+
+    private static String statusValue(byte[] data, int from) {
+        int i = skipWhitespace(data, skipWhitespace(data, from) + 1);
+        if (i >= data.length || data[i] != '"') {
+            return null;
+        }
+
+        int start = i + 1;
+        for (int end = start; end < data.length; end++) {
+            if (data[end] == '\\') {
+                return null;
+            }
+            if (data[end] == '"') {
+                return new String(data, start, end - start, StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return index of the quote closing the string opened at {@code start}, -1 if it is not closed
+     */
+    private static int stringEnd(byte[] data, int start) {
+        for (int i = start + 1; i < data.length; i++) {
+            if (data[i] == '\\') {
+                i++;
+            } else if (data[i] == '"') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int skipWhitespace(byte[] data, int from) {
+        int i = from;
+        while (i < data.length && (data[i] == ' ' || data[i] == '\t' || data[i] == '\n' || data[i] == '\r')) {
+            i++;
+        }
+        return i;
+    }
+}
@@ -0,0 +1,27 @@
+package com.innowise.orderservice.kafka.consumer;
+
+import com.innowise.orderservice.service.ProcessedPaymentEventService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the processed payment events store bounded by retention
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ProcessedPaymentEventCleanup {
+
+    private final ProcessedPaymentEventService processedPaymentEventService;
+
+    @Scheduled(fixedDelayString = "${kafka.consumer.payment-events.idempotency.cleanup-interval:1h}")
+    public void deleteExpiredEvents() {
+        try {
+            processedPaymentEventService.deleteExpired();
+        } catch (Exception e) {
+            log.error("Processed payment events cleanup failed: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.innowise.orderservice.kafka.consumer;
+
+import com.innowise.orderservice.dto.payment.PaymentEventDto;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.kafka.listener.adapter.RecordFilterStrategy;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Discards records marked by {@link PaymentStatusPreFilter} before they reach the listener and counts them.
+ * The container factory acknowledges discarded records, so they do not hold back the committed offset.
+ */
+@Component
+@RequiredArgsConstructor
+public class SkippedPaymentEventFilter implements RecordFilterStrategy<String, PaymentEventDto> {
+
+    private final PaymentEventMetrics paymentEventMetrics;
+
+    @Override
+    public boolean filter(ConsumerRecord<String, PaymentEventDto> consumerRecord) {
+        Header skipped = consumerRecord.headers().lastHeader(PaymentStatusPreFilter.SKIPPED_HEADER);
+        if (skipped == null) {
+            return false;
+        }
+
+        paymentEventMetrics.recordFiltered(new String(skipped.value(), StandardCharsets.UTF_8));
+        return true;
+    }
+}
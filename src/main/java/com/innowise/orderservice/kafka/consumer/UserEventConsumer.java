@@ -0,0 +1,73 @@
+package com.innowise.orderservice.kafka.consumer;
+
+import com.innowise.orderservice.client.LastKnownUserStore;
+import com.innowise.orderservice.config.CacheConfig;
+import com.innowise.orderservice.config.KafkaConfig;
+import com.innowise.orderservice.dto.user.UserChangedEventDto;
+import com.innowise.orderservice.service.UserProjectionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the local user projection current with user change events from User Service.
+ * After the projection is written the cached copy is evicted and the last known copy replaced,
+ * so the next lookup reads the new data. Failures are retried by the container error handler.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "kafka.consumer.user-events.enabled", havingValue = "true")
+public class UserEventConsumer {
+
+    private final UserProjectionService userProjectionService;
+    private final LastKnownUserStore lastKnownUserStore;
+    private final Cache usersCache;
+
+    public UserEventConsumer(
+            UserProjectionService userProjectionService,
+            LastKnownUserStore lastKnownUserStore,
+            CacheManager cacheManager
+    ) {
+        this.userProjectionService = userProjectionService;
+        this.lastKnownUserStore = lastKnownUserStore;
+        this.usersCache = cacheManager.getCache(CacheConfig.USERS_CACHE);
+    }
+
+    @KafkaListener(
+            topics = "${kafka.topics.user-events:user-events}",
+            groupId = "${kafka.consumer.user-events.group-id:order-service-user-events}",
+            containerFactory = KafkaConfig.USER_EVENT_LISTENER_CONTAINER_FACTORY
+    )
+    public void handleUserEvent(
+            @Payload UserChangedEventDto event,
+            @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
+            @Header(KafkaHeaders.OFFSET) long offset,
+            Acknowledgment acknowledgment
+    ) {
+        Long userId = event.userId();
+        if (userId == null) {
+            log.warn("Skipping user event without user id: partition={}, offset={}", partition, offset);
+            acknowledgment.acknowledge();
+            return;
+        }
+
+        log.info("Received {} event: userId={}, partition={}, offset={}", event.eventType(), userId, partition, offset);
+
+        userProjectionService.apply(event);
+        usersCache.evict(userId);
+        if (event.eventType() == UserChangedEventDto.EventType.USER_DELETED || event.user() == null) {
+            lastKnownUserStore.forget(userId);
+        } else {
+            lastKnownUserStore.remember(event.user());
+        }
+
+        acknowledgment.acknowledge();
+    }
+}
@@ -1,6 +1,8 @@
 package com.innowise.orderservice.kafka.producer;
 
 import com.innowise.orderservice.dto.order.OrderCreatedEventDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -16,31 +18,50 @@ import java.util.concurrent.TimeUnit;
 @RequiredArgsConstructor
 public class OrderEventProducer {
 
+    public static final String SEND_METRIC = "kafka.producer.send";
+
     private final KafkaTemplate<String, OrderCreatedEventDto> kafkaTemplate;
+    private final MeterRegistry meterRegistry;
 
     @Value("${kafka.topics.order-events}")
     private String orderEventsTopic;
 
-    public void sendOrderCreatedEvent(OrderCreatedEventDto event) {
-        log.info("Sending ORDER_CREATED event to Kafka: orderId={}, userId={}, amount={}",
+    /**
+     * Sends ORDER_CREATED event without waiting for the broker acknowledgement
+     * @param event event to send
+     * @return future completed when the broker acknowledges the record
+     */
+    public CompletableFuture<SendResult<String, OrderCreatedEventDto>> sendOrderCreatedEvent(OrderCreatedEventDto event) {
+        log.debug("Sending ORDER_CREATED event to Kafka: orderId={}, userId={}, amount={}",
                 event.orderId(), event.userId(), event.totalAmount());
 
-        try {
-            String key = event.orderId().toString();
-
-            CompletableFuture<SendResult<String, OrderCreatedEventDto>> future =
-                    kafkaTemplate.send(orderEventsTopic, key, event);
+        String key = event.orderId().toString();
+        long startNanos = System.nanoTime();
 
-            SendResult<String, OrderCreatedEventDto> result = future.get(10, TimeUnit.SECONDS);
+        return kafkaTemplate.send(orderEventsTopic, key, event)
+                .whenComplete((result, ex) -> {
+                    recordSend(startNanos, ex);
+                    if (ex != null) {
+                        log.error("Failed to send ORDER_CREATED event for orderId={}: {}",
+                                event.orderId(), ex.getMessage());
+                        return;
+                    }
+                    log.info("ORDER_CREATED event sent successfully: orderId={}, partition={}, offset={}",
+                            event.orderId(),
+                            result.getRecordMetadata().partition(),
+                            result.getRecordMetadata().offset());
+                });
+    }
 
-            log.info("ORDER_CREATED event sent successfully: orderId={}, partition={}, offset={}",
-                    event.orderId(),
-                    result.getRecordMetadata().partition(),
-                    result.getRecordMetadata().offset());
-        } catch (Exception e) {
-            log.error("Failed to send ORDER_CREATED event for orderId={}: {}",
-                  event.orderId(), e.getMessage(), e);
-            throw new RuntimeException("Failed to send order event to Kafka", e);
-        }
+    /**
+     * Time from send call to broker acknowledgement, includes linger and batching delay
+     */
+    private void recordSend(long startNanos, Throwable ex) {
+        Timer.builder(SEND_METRIC)
+                .tag("topic", orderEventsTopic)
+                .tag("outcome", ex == null ? "success" : "failure")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
     }
 }
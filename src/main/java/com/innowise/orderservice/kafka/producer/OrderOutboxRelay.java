@@ -0,0 +1,41 @@
+package com.innowise.orderservice.kafka.producer;
+
+import com.innowise.orderservice.service.OrderOutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Background relay publishing order outbox events to Kafka
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "kafka.outbox.relay-enabled", havingValue = "true", matchIfMissing = true)
+public class OrderOutboxRelay {
+
+    private final OrderOutboxService orderOutboxService;
+
+    @Scheduled(fixedDelayString = "${kafka.outbox.relay-interval:500ms}")
+    public void publishPendingEvents() {
+        try {
+            int published;
+            do {
+                published = orderOutboxService.publishPendingEvents();
+            } while (published > 0);
+        } catch (Exception e) {
+            log.error("Outbox relay iteration failed: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${kafka.outbox.cleanup-interval:10m}")
+    public void deleteSentEvents() {
+        try {
+            orderOutboxService.deleteSentEvents();
+        } catch (Exception e) {
+            log.error("Outbox cleanup failed: {}", e.getMessage(), e);
+        }
+    }
+}
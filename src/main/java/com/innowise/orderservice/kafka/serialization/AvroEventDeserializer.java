@@ -0,0 +1,61 @@
+package com.innowise.orderservice.kafka.serialization;
+
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reads Avro binary written with any registered version of the event schema into the current version
+ */
+public class AvroEventDeserializer<T> implements Deserializer<T> {
+
+    private final AvroSchemaRegistry schemaRegistry;
+    private final AvroEventMapper<T> mapper;
+    private final Map<Long, GenericDatumReader<GenericRecord>> readersByWriterSchema = new ConcurrentHashMap<>();
+
+    public AvroEventDeserializer(AvroSchemaRegistry schemaRegistry, AvroEventMapper<T> mapper) {
+        this.schemaRegistry = schemaRegistry;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public T deserialize(String topic, byte[] data) {
+        throw new SerializationException("Avro event without " + AvroSchemaRegistry.SCHEMA_ID_HEADER + " header");
+    }
+
+    @Override
+    public T deserialize(String topic, Headers headers, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        Header schemaIdHeader = headers.lastHeader(AvroSchemaRegistry.SCHEMA_ID_HEADER);
+        if (schemaIdHeader == null || schemaIdHeader.value().length != Long.BYTES) {
+            return deserialize(topic, data);
+        }
+
+        long writerSchemaId = ByteBuffer.wrap(schemaIdHeader.value()).getLong();
+        try {
+            GenericRecord record = readersByWriterSchema
+                    .computeIfAbsent(writerSchemaId, this::createReader)
+                    .read(null, DecoderFactory.get().binaryDecoder(data, null));
+            return mapper.fromRecord(record);
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Failed to deserialize Avro event with schema id " + writerSchemaId, e);
+        }
+    }
+
+    private GenericDatumReader<GenericRecord> createReader(long writerSchemaId) {
+        Schema writerSchema = schemaRegistry.getById(writerSchemaId);
+        return new GenericDatumReader<>(writerSchema, mapper.schema(), AvroEvents.MODEL);
+    }
+}
@@ -0,0 +1,16 @@
+package com.innowise.orderservice.kafka.serialization;
+
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+
+/**
+ * Converts an event DTO to and from a generic Avro record of its current schema
+ */
+public interface AvroEventMapper<T> {
+
+    Schema schema();
+
+    GenericRecord toRecord(T event);
+
+    T fromRecord(GenericRecord record);
+}
@@ -0,0 +1,53 @@
+package com.innowise.orderservice.kafka.serialization;
+
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DatumWriter;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Writes events as schemaless Avro binary, the schema id and format travel in record headers
+ */
+public class AvroEventSerializer<T> implements Serializer<T> {
+
+    private final AvroEventMapper<T> mapper;
+    private final DatumWriter<GenericRecord> writer;
+    private final byte[] schemaId;
+
+    public AvroEventSerializer(AvroSchemaRegistry schemaRegistry, AvroEventMapper<T> mapper) {
+        this.mapper = mapper;
+        this.writer = new GenericDatumWriter<>(mapper.schema(), AvroEvents.MODEL);
+        this.schemaId = ByteBuffer.allocate(Long.BYTES).putLong(schemaRegistry.register(mapper.schema())).array();
+    }
+
+    @Override
+    public byte[] serialize(String topic, T data) {
+        if (data == null) {
+            return null;
+        }
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(128);
+            BinaryEncoder encoder = EncoderFactory.get().directBinaryEncoder(out, null);
+            writer.write(mapper.toRecord(data), encoder);
+            return out.toByteArray();
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Failed to serialize " + data.getClass().getSimpleName() + " as Avro", e);
+        }
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, T data) {
+        EventFormat.AVRO.writeTo(headers);
+        headers.remove(AvroSchemaRegistry.SCHEMA_ID_HEADER);
+        headers.add(AvroSchemaRegistry.SCHEMA_ID_HEADER, schemaId);
+        return serialize(topic, data);
+    }
+}
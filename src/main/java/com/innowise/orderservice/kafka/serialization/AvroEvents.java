@@ -0,0 +1,49 @@
+package com.innowise.orderservice.kafka.serialization;
+
+import org.apache.avro.Conversions;
+import org.apache.avro.LogicalTypes;
+import org.apache.avro.Schema;
+import org.apache.avro.data.TimeConversions;
+import org.apache.avro.generic.GenericData;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Shared Avro data model and field helpers of event mappers
+ */
+final class AvroEvents {
+
+    /**
+     * Generic model with decimal and local timestamp conversions, so records carry BigDecimal and LocalDateTime
+     */
+    static final GenericData MODEL = new GenericData();
+
+    static {
+        MODEL.addLogicalTypeConversion(new Conversions.DecimalConversion());
+        MODEL.addLogicalTypeConversion(new TimeConversions.LocalTimestampMicrosConversion());
+    }
+
+    private AvroEvents() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Aligns amount with the scale of a nullable decimal field, fails instead of rounding
+     */
+    static BigDecimal decimal(BigDecimal value, Schema nullableDecimal) {
+        if (value == null) {
+            return null;
+        }
+        Schema decimalSchema = nullableDecimal.getTypes().stream()
+                .filter(type -> type.getLogicalType() instanceof LogicalTypes.Decimal)
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Not a decimal field: " + nullableDecimal));
+        int scale = ((LogicalTypes.Decimal) decimalSchema.getLogicalType()).getScale();
+        return value.setScale(scale, RoundingMode.UNNECESSARY);
+    }
+
+    static String string(Object value) {
+        return value == null ? null : value.toString();
+    }
+}
@@ -0,0 +1,97 @@
+package com.innowise.orderservice.kafka.serialization;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaNormalization;
+import org.apache.kafka.common.errors.SerializationException;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * File based stand-in for a schema registry. Schemas are identified by their 64-bit parsing fingerprint,
+ * which producers put into the {@value #SCHEMA_ID_HEADER} header, so no network lookup is needed.
+ * <ul>
+ *     <li>{@code avro/*.avsc} - current schemas, used for writing and as reader schemas</li>
+ *     <li>{@code avro/history/*.avsc} - previous versions, only resolvable by id to read old records</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class AvroSchemaRegistry {
+
+    public static final String SCHEMA_ID_HEADER = "schema-id";
+
+    private static final String CURRENT_SCHEMAS = "classpath*:avro/*.avsc";
+    private static final String HISTORY_SCHEMAS = "classpath*:avro/history/*.avsc";
+
+    private final Map<Long, Schema> schemasById = new ConcurrentHashMap<>();
+    private final Map<String, Schema> currentSchemasByName = new ConcurrentHashMap<>();
+
+    public AvroSchemaRegistry() {
+        loadSchemas(CURRENT_SCHEMAS, true);
+        loadSchemas(HISTORY_SCHEMAS, false);
+    }
+
+    /**
+     * Registers schema in process, e.g. a version not shipped as a file
+     * @return schema id
+     */
+    public long register(Schema schema) {
+        long id = idOf(schema);
+        schemasById.putIfAbsent(id, schema);
+        return id;
+    }
+
+    public Schema getById(long id) {
+        Schema schema = schemasById.get(id);
+        if (schema == null) {
+            throw new SerializationException("Unknown Avro schema id: " + id);
+        }
+        return schema;
+    }
+
+    /**
+     * @param fullName namespace-qualified record name
+     * @return current version of the schema
+     */
+    public Schema getCurrent(String fullName) {
+        Schema schema = currentSchemasByName.get(fullName);
+        if (schema == null) {
+            throw new IllegalStateException("No current Avro schema for " + fullName);
+        }
+        return schema;
+    }
+
+    public static long idOf(Schema schema) {
+        return SchemaNormalization.parsingFingerprint64(schema);
+    }
+
+    private void loadSchemas(String pattern, boolean current) {
+        try {
+            for (Resource resource : new PathMatchingResourcePatternResolver().getResources(pattern)) {
+                Schema schema = parse(resource);
+                register(schema);
+                if (current && currentSchemasByName.putIfAbsent(schema.getFullName(), schema) != null) {
+                    throw new IllegalStateException("Duplicate current Avro schema " + schema.getFullName()
+                            + ", move the previous version to avro/history");
+                }
+                log.debug("Loaded Avro schema {} id={} from {}", schema.getFullName(), idOf(schema), resource);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load Avro schemas from " + pattern, e);
+        }
+    }
+
+    private static Schema parse(Resource resource) throws IOException {
+        try (InputStream in = resource.getInputStream()) {
+            return new Schema.Parser().parse(in);
+        }
+    }
+}
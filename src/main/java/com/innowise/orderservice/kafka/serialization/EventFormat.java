@@ -0,0 +1,36 @@
+package com.innowise.orderservice.kafka.serialization;
+
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * Wire format of an event value, carried in the {@value #HEADER} header.
+ * Records without the header are JSON, as written before binary serialization existed.
+ */
+public enum EventFormat {
+
+    JSON,
+    AVRO;
+
+    public static final String HEADER = "event-format";
+
+    public static EventFormat of(Headers headers) {
+        Header header = headers == null ? null : headers.lastHeader(HEADER);
+        if (header == null) {
+            return JSON;
+        }
+        return from(new String(header.value(), StandardCharsets.UTF_8));
+    }
+
+    public static EventFormat from(String name) {
+        return valueOf(name.trim().toUpperCase(Locale.ROOT));
+    }
+
+    public void writeTo(Headers headers) {
+        headers.remove(HEADER);
+        headers.add(HEADER, name().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,46 @@
+package com.innowise.orderservice.kafka.serialization;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.util.Map;
+
+/**
+ * Picks JSON or Avro per record by the {@value EventFormat#HEADER} header, so both formats
+ * can share a topic while producers migrate. Delegates are configured programmatically,
+ * consumer properties are not passed to them.
+ */
+public class FormatAwareDeserializer<T> implements Deserializer<T> {
+
+    private final Deserializer<T> jsonDeserializer;
+    private final Deserializer<T> avroDeserializer;
+
+    public FormatAwareDeserializer(Deserializer<T> jsonDeserializer, Deserializer<T> avroDeserializer) {
+        this.jsonDeserializer = jsonDeserializer;
+        this.avroDeserializer = avroDeserializer;
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        // delegates are fully set up by the caller
+    }
+
+    @Override
+    public T deserialize(String topic, byte[] data) {
+        return jsonDeserializer.deserialize(topic, data);
+    }
+
+    @Override
+    public T deserialize(String topic, Headers headers, byte[] data) {
+        return switch (EventFormat.of(headers)) {
+            case JSON -> jsonDeserializer.deserialize(topic, headers, data);
+            case AVRO -> avroDeserializer.deserialize(topic, headers, data);
+        };
+    }
+
+    @Override
+    public void close() {
+        jsonDeserializer.close();
+        avroDeserializer.close();
+    }
+}
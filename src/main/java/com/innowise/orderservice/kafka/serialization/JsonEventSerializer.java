@@ -0,0 +1,17 @@
+package com.innowise.orderservice.kafka.serialization;
+
+import org.apache.kafka.common.header.Headers;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+/**
+ * JSON serializer that marks the record format explicitly. Needed when a record read as Avro
+ * is forwarded as JSON (retry topics, DLT), since the copied headers would still say Avro.
+ */
+public class JsonEventSerializer<T> extends JsonSerializer<T> {
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, T data) {
+        EventFormat.JSON.writeTo(headers);
+        return super.serialize(topic, headers, data);
+    }
+}
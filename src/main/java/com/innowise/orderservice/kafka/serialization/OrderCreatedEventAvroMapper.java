@@ -0,0 +1,46 @@
+package com.innowise.orderservice.kafka.serialization;
+
+import com.innowise.orderservice.dto.order.OrderCreatedEventDto;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+
+@Component
+public class OrderCreatedEventAvroMapper implements AvroEventMapper<OrderCreatedEventDto> {
+
+    public static final String SCHEMA_NAME = "com.innowise.orderservice.events.OrderCreatedEvent";
+
+    private final Schema schema;
+
+    public OrderCreatedEventAvroMapper(AvroSchemaRegistry schemaRegistry) {
+        this.schema = schemaRegistry.getCurrent(SCHEMA_NAME);
+    }
+
+    @Override
+    public Schema schema() {
+        return schema;
+    }
+
+    @Override
+    public GenericRecord toRecord(OrderCreatedEventDto event) {
+        GenericRecord record = new GenericData.Record(schema);
+        record.put("orderId", event.orderId());
+        record.put("userId", event.userId());
+        record.put("totalAmount", AvroEvents.decimal(event.totalAmount(), schema.getField("totalAmount").schema()));
+        record.put("eventType", event.eventType());
+        return record;
+    }
+
+    @Override
+    public OrderCreatedEventDto fromRecord(GenericRecord record) {
+        return OrderCreatedEventDto.builder()
+                .orderId((Long) record.get("orderId"))
+                .userId((Long) record.get("userId"))
+                .totalAmount((BigDecimal) record.get("totalAmount"))
+                .eventType(AvroEvents.string(record.get("eventType")))
+                .build();
+    }
+}
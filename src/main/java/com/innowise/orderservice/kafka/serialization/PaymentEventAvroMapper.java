@@ -0,0 +1,59 @@
+package com.innowise.orderservice.kafka.serialization;
+
+import com.innowise.orderservice.dto.payment.PaymentEventDto;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Component
+public class PaymentEventAvroMapper implements AvroEventMapper<PaymentEventDto> {
+
+    public static final String SCHEMA_NAME = "com.innowise.orderservice.events.PaymentEvent";
+
+    private final Schema schema;
+    private final Schema statusSchema;
+
+    public PaymentEventAvroMapper(AvroSchemaRegistry schemaRegistry) {
+        this.schema = schemaRegistry.getCurrent(SCHEMA_NAME);
+        this.statusSchema = schema.getField("status").schema().getTypes().stream()
+                .filter(type -> type.getType() == Schema.Type.ENUM)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @Override
+    public Schema schema() {
+        return schema;
+    }
+
+    @Override
+    public GenericRecord toRecord(PaymentEventDto event) {
+        GenericRecord record = new GenericData.Record(schema);
+        record.put("paymentId", event.paymentId());
+        record.put("orderId", event.orderId());
+        record.put("userId", event.userId());
+        record.put("status", event.status() == null ? null : new GenericData.EnumSymbol(statusSchema, event.status().name()));
+        record.put("paymentAmount", AvroEvents.decimal(event.paymentAmount(), schema.getField("paymentAmount").schema()));
+        record.put("timestamp", event.timestamp());
+        record.put("eventType", event.eventType());
+        return record;
+    }
+
+    @Override
+    public PaymentEventDto fromRecord(GenericRecord record) {
+        Object status = record.get("status");
+        return PaymentEventDto.builder()
+                .paymentId(AvroEvents.string(record.get("paymentId")))
+                .orderId((Long) record.get("orderId"))
+                .userId((Long) record.get("userId"))
+                .status(status == null ? null : PaymentEventDto.PaymentStatus.valueOf(status.toString()))
+                .paymentAmount((BigDecimal) record.get("paymentAmount"))
+                .timestamp((LocalDateTime) record.get("timestamp"))
+                .eventType(AvroEvents.string(record.get("eventType")))
+                .build();
+    }
+}
@@ -0,0 +1,19 @@
+package com.innowise.orderservice.mapper;
+
+import com.innowise.orderservice.client.dto.UserInfoDto;
+import com.innowise.orderservice.entity.UserProjection;
+import org.mapstruct.InjectionStrategy;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(
+        componentModel = "spring",
+        injectionStrategy = InjectionStrategy.CONSTRUCTOR
+)
+public interface UserProjectionMapper {
+
+    UserInfoDto toDto(UserProjection entity);
+
+    @Mapping(target = "syncedAt", ignore = true)
+    UserProjection toEntity(UserInfoDto dto);
+}
@@ -0,0 +1,52 @@
+package com.innowise.orderservice.repository;
+
+import com.innowise.orderservice.entity.OrderOutboxEvent;
+import com.innowise.orderservice.enums.OutboxStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OrderOutboxRepository extends JpaRepository<OrderOutboxEvent, Long> {
+
+    /**
+     * Locks the oldest pending events that are due, skipping rows locked by another relay instance
+     * and rows whose retry backoff or in-flight lease has not expired yet
+     */
+    @Query(value = """
+            SELECT * FROM order_outbox
+            WHERE status = 'PENDING'
+              AND (next_attempt_at IS NULL OR next_attempt_at <= :now)
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<OrderOutboxEvent> lockPendingBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE OrderOutboxEvent e SET e.status = com.innowise.orderservice.enums.OutboxStatus.SENT, e.sentAt = :sentAt WHERE e.id IN :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("sentAt") LocalDateTime sentAt);
+
+    @Modifying
+    @Query("DELETE FROM OrderOutboxEvent e WHERE e.status = :status AND e.sentAt < :cutoff")
+    int deleteByStatusAndSentAtBefore(@Param("status") OutboxStatus status, @Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * Puts FAILED events back to PENDING with a fresh attempt budget, due immediately
+     */
+    @Modifying
+    @Query("""
+            UPDATE OrderOutboxEvent e
+            SET e.status = com.innowise.orderservice.enums.OutboxStatus.PENDING, e.attempts = 0, e.nextAttemptAt = null
+            WHERE e.status = com.innowise.orderservice.enums.OutboxStatus.FAILED
+            """)
+    int requeueFailed();
+
+    List<OrderOutboxEvent> findByOrderId(Long orderId);
+}
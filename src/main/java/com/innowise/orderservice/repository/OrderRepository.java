@@ -4,6 +4,7 @@ import com.innowise.orderservice.entity.Order;
 import com.innowise.orderservice.enums.OrderStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
@@ -11,6 +12,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,15 +22,56 @@ public interface OrderRepository extends JpaRepository<Order, Long>, JpaSpecific
 
     Optional<Order> findByIdAndDeletedFalse(Long id);
 
+    /**
+     * Loads order with its lines and their items in one query for read paths
+     */
+    @EntityGraph(attributePaths = {"items", "items.item"})
+    Optional<Order> findWithItemsByIdAndDeletedFalse(Long id);
+
+    /**
+     * Second phase of paged reads: pages are selected without collection fetch,
+     * then their orders are loaded with lines and items in one query
+     */
+    @EntityGraph(attributePaths = {"items", "items.item"})
+    @Query("SELECT o FROM Order o WHERE o.id IN :ids")
+    List<Order> findAllWithItemsByIdIn(@Param("ids") Collection<Long> ids);
+
     List<Order> findByUserIdAndDeletedFalse(Long userId);
 
     Page<Order> findByUserIdAndDeletedFalse(Long userId, Pageable pageable);
 
     Page<Order> findByDeletedFalse(Pageable pageable);
 
-    @Modifying
-    @Query("UPDATE Order o SET o.orderStatus = :status WHERE o.id = :orderId AND o.deleted = false")
-    int updateStatus(@Param("orderId") Long orderId, @Param("status") OrderStatus status);
+    /**
+     * Compare-and-set status update, applies only when order is in one of expected statuses
+     * @return number of updated rows, 0 or 1
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Order o SET o.orderStatus = :status, o.updatedAt = :updatedAt
+            WHERE o.id = :orderId AND o.orderStatus IN :expectedStatuses AND o.deleted = false
+            """)
+    int updateStatus(@Param("orderId") Long orderId,
+                     @Param("status") OrderStatus status,
+                     @Param("expectedStatuses") Collection<OrderStatus> expectedStatuses,
+                     @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Set-based variant of updateStatus for many orders moving to the same status
+     * @return number of updated rows
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Order o SET o.orderStatus = :status, o.updatedAt = :updatedAt
+            WHERE o.id IN :orderIds AND o.orderStatus IN :expectedStatuses AND o.deleted = false
+            """)
+    int updateStatuses(@Param("orderIds") Collection<Long> orderIds,
+                       @Param("status") OrderStatus status,
+                       @Param("expectedStatuses") Collection<OrderStatus> expectedStatuses,
+                       @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Query("SELECT o.orderStatus FROM Order o WHERE o.id = :orderId AND o.deleted = false")
+    Optional<OrderStatus> findStatusById(@Param("orderId") Long orderId);
 
     @Modifying
     @Query("UPDATE Order o SET o.deleted = true WHERE o.id = :orderId")
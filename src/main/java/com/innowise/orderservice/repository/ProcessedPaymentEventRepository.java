@@ -0,0 +1,36 @@
+package com.innowise.orderservice.repository;
+
+import com.innowise.orderservice.entity.ProcessedPaymentEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ProcessedPaymentEventRepository extends JpaRepository<ProcessedPaymentEvent, String> {
+
+    @Query("SELECT e.paymentId FROM ProcessedPaymentEvent e WHERE e.paymentId IN :paymentIds")
+    List<String> findExistingPaymentIds(@Param("paymentIds") Collection<String> paymentIds);
+
+    /**
+     * @return 1 if event was recorded, 0 if it was already processed
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO processed_payment_events (payment_id, order_id, processed_at)
+            VALUES (:paymentId, :orderId, :processedAt)
+            ON CONFLICT (payment_id) DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("paymentId") String paymentId,
+                       @Param("orderId") Long orderId,
+                       @Param("processedAt") LocalDateTime processedAt);
+
+    @Modifying
+    @Query("DELETE FROM ProcessedPaymentEvent e WHERE e.processedAt < :cutoff")
+    int deleteByProcessedAtBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,46 @@
+package com.innowise.orderservice.repository;
+
+import com.innowise.orderservice.entity.UserProjection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface UserProjectionRepository extends JpaRepository<UserProjection, Long> {
+
+    @Query("SELECT u FROM UserProjection u WHERE u.id IN :ids AND u.syncedAt >= :syncedAfter")
+    List<UserProjection> findSyncedSince(@Param("ids") Collection<Long> ids,
+                                         @Param("syncedAfter") LocalDateTime syncedAfter);
+
+    /**
+     * Inserts the user or overwrites the stored copy unless it is newer, in one statement,
+     * so concurrent writers of the same new user do not collide on the primary key
+     * @return 1 if the row was written, 0 if the stored copy is newer
+     */
+    @Modifying
+    @Query("""
+            INSERT INTO UserProjection u (id, name, surname, birthDate, email, active, createdAt, updatedAt, syncedAt)
+            VALUES (:id, :name, :surname, :birthDate, :email, :active, :createdAt, :updatedAt, :syncedAt)
+            ON CONFLICT (id) DO UPDATE
+            SET name = excluded.name, surname = excluded.surname, birthDate = excluded.birthDate,
+                email = excluded.email, active = excluded.active, createdAt = excluded.createdAt,
+                updatedAt = excluded.updatedAt, syncedAt = excluded.syncedAt
+            WHERE excluded.updatedAt IS NULL OR u.updatedAt IS NULL OR excluded.updatedAt >= u.updatedAt
+            """)
+    int upsert(@Param("id") Long id,
+               @Param("name") String name,
+               @Param("surname") String surname,
+               @Param("birthDate") LocalDate birthDate,
+               @Param("email") String email,
+               @Param("active") Boolean active,
+               @Param("createdAt") LocalDateTime createdAt,
+               @Param("updatedAt") LocalDateTime updatedAt,
+               @Param("syncedAt") LocalDateTime syncedAt);
+}
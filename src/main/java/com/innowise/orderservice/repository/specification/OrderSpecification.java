@@ -79,4 +79,23 @@ public class OrderSpecification {
             return  criteriaBuilder.between(root.get("createdAt"), from, to);
         });
     }
+
+    /**
+     * Keyset condition for ascending (created_at, id) order, matches orders after the given position
+     */
+    public static Specification<Order> createdAfterPosition(LocalDateTime createdAt, Long id) {
+        return ((root, query, criteriaBuilder) -> {
+            if (createdAt == null || id == null) {
+                return criteriaBuilder.conjunction();
+            }
+            // leading created_at >= bound lets Postgres start an index range scan instead of filtering the OR
+            return criteriaBuilder.and(
+                    criteriaBuilder.greaterThanOrEqualTo(root.get("createdAt"), createdAt),
+                    criteriaBuilder.or(
+                            criteriaBuilder.greaterThan(root.get("createdAt"), createdAt),
+                            criteriaBuilder.greaterThan(root.get("id"), id)
+                    )
+            );
+        });
+    }
 }
@@ -0,0 +1,39 @@
+package com.innowise.orderservice.service;
+
+import com.innowise.orderservice.dto.order.OrderCreatedEventDto;
+
+import java.util.List;
+
+public interface OrderOutboxService {
+
+    /**
+     * Stores ORDER_CREATED event in the outbox, must be called inside the order transaction
+     * @param event event to publish
+     */
+    void saveOrderCreatedEvent(OrderCreatedEventDto event);
+
+    /**
+     * Stores several ORDER_CREATED events in the outbox with one batched insert
+     * @param events events to publish
+     */
+    void saveOrderCreatedEvents(List<OrderCreatedEventDto> events);
+
+    /**
+     * Publishes next batch of pending outbox events to Kafka and marks them as sent.
+     * In async send mode only dispatches the batch, results are applied on a later call
+     * @return number of published events, or dispatched events in async send mode
+     */
+    int publishPendingEvents();
+
+    /**
+     * Removes sent events older than the configured retention
+     * @return number of removed events
+     */
+    int deleteSentEvents();
+
+    /**
+     * Puts events marked FAILED after max attempts back into the relay queue with a fresh attempt budget
+     * @return number of requeued events
+     */
+    int requeueFailedEvents();
+}
@@ -1,19 +1,33 @@
 package com.innowise.orderservice.service;
 
+import com.innowise.orderservice.dto.order.OrderBatchEntryDto;
+import com.innowise.orderservice.dto.order.OrderBatchResponseDto;
 import com.innowise.orderservice.dto.order.OrderRequestDto;
 import com.innowise.orderservice.dto.order.OrderResponseDto;
+import com.innowise.orderservice.dto.order.OrderScrollResponseDto;
+import com.innowise.orderservice.dto.order.OrderStatusUpdateResultDto;
 import com.innowise.orderservice.dto.order.OrderUpdateDto;
 import com.innowise.orderservice.enums.OrderStatus;
+import com.innowise.orderservice.exception.InvalidOrderStateException;
+import com.innowise.orderservice.exception.ResourceNotFoundException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 public interface OrderService {
 
     OrderResponseDto createOrder(OrderRequestDto requestDto, Long userId);
 
+    /**
+     * Creates many orders at once, each order succeeds or fails independently
+     * @param entries orders with their owners
+     * @return result for every entry in request order
+     */
+    OrderBatchResponseDto createOrders(List<OrderBatchEntryDto> entries);
+
     OrderResponseDto getOrderById(Long id);
 
     Page<OrderResponseDto> getAllOrders(
@@ -25,9 +39,59 @@ public interface OrderService {
 
     Page<OrderResponseDto> getOrdersByUserId(Long userId, Pageable pageable);
 
+    /**
+     * Keyset variant of getAllOrders ordered by (createdAt, id), doesn't count total elements
+     * @param cursor continuation token from previous page, null for the first page
+     * @param size page size, capped at 100
+     * @return orders after cursor and token of the next page
+     */
+    OrderScrollResponseDto scrollAllOrders(
+            LocalDateTime dateFrom,
+            LocalDateTime dateTo,
+            List<OrderStatus> statuses,
+            String cursor,
+            int size
+    );
+
+    /**
+     * Keyset variant of getOrdersByUserId ordered by (createdAt, id), doesn't count total elements
+     * @param cursor continuation token from previous page, null for the first page
+     * @param size page size, capped at 100
+     * @return user`s orders after cursor and token of the next page
+     */
+    OrderScrollResponseDto scrollOrdersByUserId(Long userId, String cursor, int size);
+
     OrderResponseDto updateOrder(Long id, OrderUpdateDto updateDto);
 
     OrderResponseDto updateOrderStatus(Long id, OrderStatus orderStatus);
 
+    /**
+     * Moves order to new status with one guarded UPDATE, without loading the order,
+     * its lines or user info. Intended for internal callers
+     * @param id order id
+     * @param newStatus target status
+     * @return whether the transition was applied and current status otherwise
+     */
+    OrderStatusUpdateResultDto compareAndSetStatus(Long id, OrderStatus newStatus);
+
+    /**
+     * Internal status transition for event-driven callers built on {@link #compareAndSetStatus},
+     * no user lookup and no response mapping. An order already in the target status is skipped
+     * @param id order id
+     * @param newStatus target status
+     * @throws ResourceNotFoundException if the order does not exist
+     * @throws InvalidOrderStateException if the order cannot move to new status
+     * @throws org.springframework.dao.ConcurrencyFailureException if a concurrent writer changed
+     *         the status between the guarded UPDATE and the re-read, so the caller can retry
+     */
+    void transitionStatus(Long id, OrderStatus newStatus);
+
+    /**
+     * Applies many compare-and-set status updates in one transaction, one UPDATE per target status
+     * @param statusesByOrderId target status of every order
+     * @return number of orders whose status was changed
+     */
+    int compareAndSetStatuses(Map<Long, OrderStatus> statusesByOrderId);
+
     void deleteOrder(Long id);
 }
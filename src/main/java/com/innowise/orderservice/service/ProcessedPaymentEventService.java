@@ -0,0 +1,41 @@
+package com.innowise.orderservice.service;
+
+import com.innowise.orderservice.dto.payment.PaymentEventDto;
+
+import java.util.Collection;
+import java.util.Set;
+
+public interface ProcessedPaymentEventService {
+
+    /**
+     * Checks whether payment event was already applied, recently seen ids are answered from memory
+     * @param paymentId payment id, events without it are never treated as duplicates
+     * @return true if event is a duplicate
+     */
+    boolean isProcessed(String paymentId);
+
+    /**
+     * Bulk variant of isProcessed, runs at most one query for ids not known in memory
+     * @param paymentIds payment ids
+     * @return ids of already processed events
+     */
+    Set<String> findProcessed(Collection<String> paymentIds);
+
+    /**
+     * Records event as processed in the caller transaction, safe against concurrent duplicates
+     * @return false if event was recorded before
+     */
+    boolean markProcessed(String paymentId, Long orderId);
+
+    /**
+     * Records many new events as processed in the caller transaction with batched inserts
+     * @param events events not recorded before
+     */
+    void markProcessed(Collection<PaymentEventDto> events);
+
+    /**
+     * Deletes records older than retention
+     * @return number of deleted records
+     */
+    int deleteExpired();
+}
@@ -0,0 +1,15 @@
+package com.innowise.orderservice.service;
+
+public interface UserCacheService {
+
+    /**
+     * Removes cached user info so the next lookup goes to User Service
+     * @param userId user id
+     */
+    void evictUser(Long userId);
+
+    /**
+     * Removes all cached user info
+     */
+    void evictAll();
+}
@@ -0,0 +1,35 @@
+package com.innowise.orderservice.service;
+
+import com.innowise.orderservice.client.dto.UserInfoDto;
+import com.innowise.orderservice.dto.user.UserChangedEventDto;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface UserProjectionService {
+
+    /**
+     * Finds projected users synced within max age, older rows are treated as missing
+     * @param ids user ids
+     * @return found users by id
+     */
+    Map<Long, UserInfoDto> findFresh(Collection<Long> ids);
+
+    /**
+     * Inserts or replaces projected user unless the stored copy is newer
+     * @param user user info from User Service
+     */
+    void save(UserInfoDto user);
+
+    /**
+     * Applies user change event to the projection
+     * @param event user change event
+     */
+    void apply(UserChangedEventDto event);
+
+    /**
+     * Removes projected user so the next lookup goes to User Service
+     * @param userId user id
+     */
+    void delete(Long userId);
+}
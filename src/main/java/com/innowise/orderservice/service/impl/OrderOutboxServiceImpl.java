@@ -0,0 +1,270 @@
+package com.innowise.orderservice.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.innowise.orderservice.dto.order.OrderCreatedEventDto;
+import com.innowise.orderservice.entity.OrderOutboxEvent;
+import com.innowise.orderservice.enums.OutboxStatus;
+import com.innowise.orderservice.kafka.producer.OrderEventProducer;
+import com.innowise.orderservice.repository.OrderOutboxRepository;
+import com.innowise.orderservice.service.OrderOutboxService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderOutboxServiceImpl implements OrderOutboxService {
+
+    private static final String ORDER_CREATED = "ORDER_CREATED";
+    private static final String FAILED_METRIC = "order.outbox.failed";
+
+    private final OrderOutboxRepository orderOutboxRepository;
+    private final OrderEventProducer orderEventProducer;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${kafka.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${kafka.outbox.send-timeout:10s}")
+    private Duration sendTimeout;
+
+    @Value("${kafka.outbox.retention:1h}")
+    private Duration retention;
+
+    @Value("${kafka.outbox.async-send:false}")
+    private boolean asyncSend;
+
+    @Value("${kafka.outbox.max-in-flight:1000}")
+    private int maxInFlight;
+
+    /**
+     * Async mode: how long a dispatched event is hidden from other relay instances,
+     * must exceed the producer delivery timeout
+     */
+    @Value("${kafka.outbox.lease:3m}")
+    private Duration lease;
+
+    @Value("${kafka.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${kafka.outbox.retry-backoff:1s}")
+    private Duration retryBackoff;
+
+    @Value("${kafka.outbox.max-retry-backoff:5m}")
+    private Duration maxRetryBackoff;
+
+    /**
+     * Async mode: events handed to the producer whose result is not yet written back to the outbox
+     */
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private final Queue<Long> acknowledged = new ConcurrentLinkedQueue<>();
+    private final Queue<Long> failed = new ConcurrentLinkedQueue<>();
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void saveOrderCreatedEvent(OrderCreatedEventDto event) {
+        orderOutboxRepository.save(toOutboxEvent(event));
+        log.debug("ORDER_CREATED event stored in outbox for orderId={}", event.orderId());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void saveOrderCreatedEvents(List<OrderCreatedEventDto> events) {
+        orderOutboxRepository.saveAll(events.stream()
+                .map(this::toOutboxEvent)
+                .toList());
+        log.debug("{} ORDER_CREATED events stored in outbox", events.size());
+    }
+
+    @Override
+    @Transactional
+    public int publishPendingEvents() {
+        if (asyncSend) {
+            return dispatchPendingEvents();
+        }
+
+        List<OrderOutboxEvent> batch = orderOutboxRepository.lockPendingBatch(LocalDateTime.now(), batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<CompletableFuture<?>> futures = new ArrayList<>(batch.size());
+        for (OrderOutboxEvent outboxEvent : batch) {
+            futures.add(send(outboxEvent));
+        }
+
+        LocalDateTime sentAt = LocalDateTime.now();
+        long deadline = System.nanoTime() + sendTimeout.toNanos();
+        int published = 0;
+
+        for (int i = 0; i < batch.size(); i++) {
+            OrderOutboxEvent outboxEvent = batch.get(i);
+            try {
+                futures.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                outboxEvent.setStatus(OutboxStatus.SENT);
+                outboxEvent.setSentAt(sentAt);
+                published++;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                recordFailure(outboxEvent, sentAt);
+            } catch (Exception e) {
+                log.warn("Outbox event id={} for orderId={} not published (attempt {}): {}",
+                        outboxEvent.getId(), outboxEvent.getOrderId(), outboxEvent.getAttempts() + 1, e.getMessage());
+                recordFailure(outboxEvent, sentAt);
+            }
+        }
+
+        log.info("Published {} of {} outbox events", published, batch.size());
+        return published;
+    }
+
+    /**
+     * Async mode: hands the next batch to the producer without waiting for acknowledgements.
+     * Producer callbacks only queue the outcome, it is written back at the start of a later run,
+     * so the relay transaction never waits on the broker and the producer thread never touches the database.
+     * Dispatched events are leased in the same transaction so other relay instances skip them,
+     * they stay PENDING until acknowledged and a crash before write-back resends them once the lease expires.
+     * @return number of dispatched events
+     */
+    private int dispatchPendingEvents() {
+        applySendResults();
+
+        int capacity = Math.min(batchSize, maxInFlight - inFlight.size());
+        if (capacity <= 0) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<OrderOutboxEvent> batch = orderOutboxRepository.lockPendingBatch(now, capacity + inFlight.size()).stream()
+                .filter(outboxEvent -> !inFlight.contains(outboxEvent.getId()))
+                .limit(capacity)
+                .toList();
+
+        LocalDateTime leaseUntil = now.plus(lease);
+        for (OrderOutboxEvent outboxEvent : batch) {
+            Long id = outboxEvent.getId();
+            outboxEvent.setNextAttemptAt(leaseUntil);
+            inFlight.add(id);
+            send(outboxEvent).whenComplete((result, ex) -> (ex == null ? acknowledged : failed).add(id));
+        }
+
+        if (!batch.isEmpty()) {
+            log.debug("Dispatched {} outbox events, {} in flight", batch.size(), inFlight.size());
+        }
+        return batch.size();
+    }
+
+    private void applySendResults() {
+        List<Long> sentIds = drain(acknowledged);
+        List<Long> failedIds = drain(failed);
+
+        if (!sentIds.isEmpty()) {
+            orderOutboxRepository.markSent(sentIds, LocalDateTime.now());
+        }
+        if (!failedIds.isEmpty()) {
+            log.warn("{} outbox events not published", failedIds.size());
+            LocalDateTime now = LocalDateTime.now();
+            orderOutboxRepository.findAllById(failedIds).forEach(outboxEvent -> recordFailure(outboxEvent, now));
+        }
+
+        // released even if the transaction rolls back: the rows stay PENDING and are sent again
+        sentIds.forEach(inFlight::remove);
+        failedIds.forEach(inFlight::remove);
+    }
+
+    /**
+     * Counts a failed attempt: the event is retried after an exponential backoff,
+     * or marked FAILED once it reaches max attempts so it no longer blocks the relay.
+     * FAILED events are counted so they can be alerted on and requeued by an admin
+     */
+    private void recordFailure(OrderOutboxEvent outboxEvent, LocalDateTime now) {
+        int attempts = outboxEvent.getAttempts() + 1;
+        outboxEvent.setAttempts(attempts);
+
+        if (attempts >= maxAttempts) {
+            outboxEvent.setStatus(OutboxStatus.FAILED);
+            meterRegistry.counter(FAILED_METRIC).increment();
+            log.error("Outbox event id={} for orderId={} marked FAILED after {} attempts",
+                    outboxEvent.getId(), outboxEvent.getOrderId(), attempts);
+            return;
+        }
+        outboxEvent.setNextAttemptAt(now.plus(retryDelay(attempts)));
+    }
+
+    private Duration retryDelay(int attempts) {
+        Duration delay = retryBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxRetryBackoff) > 0 ? maxRetryBackoff : delay;
+    }
+
+    private static List<Long> drain(Queue<Long> queue) {
+        List<Long> ids = new ArrayList<>();
+        Long id;
+        while ((id = queue.poll()) != null) {
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    @Override
+    @Transactional
+    public int deleteSentEvents() {
+        int deleted = orderOutboxRepository.deleteByStatusAndSentAtBefore(
+                OutboxStatus.SENT, LocalDateTime.now().minus(retention)
+        );
+        if (deleted > 0) {
+            log.info("Deleted {} sent outbox events", deleted);
+        }
+        return deleted;
+    }
+
+    @Override
+    @Transactional
+    public int requeueFailedEvents() {
+        int requeued = orderOutboxRepository.requeueFailed();
+        log.info("Requeued {} failed outbox events", requeued);
+        return requeued;
+    }
+
+    private CompletableFuture<?> send(OrderOutboxEvent outboxEvent) {
+        try {
+            OrderCreatedEventDto event = objectMapper.readValue(outboxEvent.getPayload(), OrderCreatedEventDto.class);
+            return orderEventProducer.sendOrderCreatedEvent(event);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private OrderOutboxEvent toOutboxEvent(OrderCreatedEventDto event) {
+        return OrderOutboxEvent.builder()
+                .orderId(event.orderId())
+                .eventType(ORDER_CREATED)
+                .payload(toJson(event))
+                .build();
+    }
+
+    private String toJson(OrderCreatedEventDto event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize order event for orderId=" + event.orderId(), e);
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package com.innowise.orderservice.service.impl;
 
+import com.innowise.orderservice.client.LastKnownUserStore;
+import com.innowise.orderservice.client.UnknownUserPolicy;
 import com.innowise.orderservice.client.UserServiceClient;
 import com.innowise.orderservice.client.dto.UserInfoDto;
+import com.innowise.orderservice.config.AsyncConfig;
+import com.innowise.orderservice.config.TransactionConfig;
 import com.innowise.orderservice.dto.order.*;
 import com.innowise.orderservice.entity.Item;
 import com.innowise.orderservice.entity.Order;
@@ -9,25 +13,44 @@ import com.innowise.orderservice.entity.OrderItem;
 import com.innowise.orderservice.enums.OrderStatus;
 import com.innowise.orderservice.exception.InvalidOrderStateException;
 import com.innowise.orderservice.exception.ResourceNotFoundException;
-import com.innowise.orderservice.kafka.producer.OrderEventProducer;
+import com.innowise.orderservice.exception.ServiceUnavailableException;
+import com.innowise.orderservice.exception.UserNotFoundException;
 import com.innowise.orderservice.mapper.OrderMapper;
 import com.innowise.orderservice.repository.ItemRepository;
 import com.innowise.orderservice.repository.OrderRepository;
 import com.innowise.orderservice.repository.specification.OrderSpecification;
+import com.innowise.orderservice.service.OrderOutboxService;
 import com.innowise.orderservice.service.OrderService;
 import com.innowise.orderservice.util.OrderCalculationHelper;
+import com.innowise.orderservice.util.OrderCursorHelper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -38,17 +61,37 @@ public class OrderServiceImpl implements OrderService {
     private final ItemRepository itemRepository;
     private final OrderMapper orderMapper;
     private final UserServiceClient userServiceClient;
-    private final OrderEventProducer orderEventProducer;
-
+    private final UnknownUserPolicy unknownUserPolicy;
+    private final OrderOutboxService orderOutboxService;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Read paths load everything inside this transaction and call User Service after it,
+     * so a slow User Service doesn't hold a pooled connection
+     */
+    @Qualifier(TransactionConfig.READ_ONLY_TRANSACTION_TEMPLATE)
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    @Qualifier(AsyncConfig.ORDER_USER_LOOKUP_EXECUTOR)
+    private final Executor orderUserLookupExecutor;
+
+    private static final int MAX_SCROLL_SIZE = 100;
+    private static final String UNVERIFIED_USER_MESSAGE = "User Service is unavailable, cannot verify user";
+    private static final Sort SCROLL_SORT = Sort.by("createdAt", "id");
+
+    @Value("${order.batch.chunk-size:100}")
+    private int batchChunkSize;
+
+    /**
+     * User Service is called on the lookup executor while items are loaded and priced on the caller thread,
+     * the write transaction opens only after both are done. A user rejection still wins over item errors.
+     */
     @Override
-    @Transactional
     public OrderResponseDto createOrder(OrderRequestDto requestDto, Long userId) {
         log.info("Creating order for user with id: {}", userId);
 
-        UserInfoDto userInfoDto = userServiceClient.getUserById(userId);
-        if (!userInfoDto.active()) {
-            throw new InvalidOrderStateException("Cannot create order for inactive user");
-        }
+        CompletableFuture<UserInfoDto> userLookup = CompletableFuture.supplyAsync(
+                () -> userServiceClient.getUserById(userId), orderUserLookupExecutor);
 
         Order order = Order.builder()
                 .userId(userId)
@@ -56,49 +99,95 @@ public class OrderServiceImpl implements OrderService {
                 .items(new ArrayList<>())
                 .build();
 
-        for (OrderItemRequestDto itemDto : requestDto.items()) {
-            Item item = itemRepository.findById(itemDto.itemId())
-                    .orElseThrow(() -> new ResourceNotFoundException(String.format("Item not found with id: %d", itemDto.itemId())));
-
-            OrderItem orderItem = OrderItem.builder()
-                    .item(item)
-                    .quantity(itemDto.quantity())
-                    .price(item.getPrice())
-                    .build();
-
-            addOrderItem(order, orderItem);
+        RuntimeException itemFailure = null;
+        try {
+            addOrderItems(order, requestDto.items());
+            calculateTotalPrice(order);
+        } catch (RuntimeException e) {
+            itemFailure = e;
         }
 
-        calculateTotalPrice(order);
+        UserInfoDto userInfoDto = awaitUser(userLookup);
+        if (LastKnownUserStore.isUnknown(userInfoDto)) {
+            if (!unknownUserPolicy.allowsOrders(userId)) {
+                throw new ServiceUnavailableException(UNVERIFIED_USER_MESSAGE);
+            }
+        } else if (!userInfoDto.active()) {
+            throw new InvalidOrderStateException("Cannot create order for inactive user");
+        }
+        if (itemFailure != null) {
+            throw itemFailure;
+        }
 
-        Order savedOrder = orderRepository.save(order);
+        Order savedOrder = transactionTemplate.execute(status -> {
+            Order saved = orderRepository.save(order);
+            orderOutboxService.saveOrderCreatedEvent(toOrderCreatedEvent(saved));
+            return saved;
+        });
         log.info("Created order for user with id: {}", userId);
 
-        OrderCreatedEventDto orderEvent = OrderCreatedEventDto.builder()
-                .orderId(savedOrder.getId())
-                .userId(savedOrder.getUserId())
-                .totalAmount(savedOrder.getTotalPrice())
-                .eventType("ORDER_CREATED")
-                .build();
+        return orderMapper.orderToDto(savedOrder, userInfoDto);
+    }
 
-        try {
-            orderEventProducer.sendOrderCreatedEvent(orderEvent);
-            log.info("ORDER_CREATED event sent for orderId={}", savedOrder.getId());
-        } catch (Exception e) {
-            log.error("Failed to send ORDER_CREATED event for orderId={}: {}",
-                    savedOrder.getId(), e.getMessage(), e);
+    @Override
+    public OrderBatchResponseDto createOrders(List<OrderBatchEntryDto> entries) {
+        log.info("Creating batch of {} orders", entries.size());
+
+        OrderBatchResultDto[] results = new OrderBatchResultDto[entries.size()];
+
+        Map<Long, String> userErrors = new HashMap<>();
+        Map<Long, UserInfoDto> usersById = fetchUsers(
+                entries.stream().map(OrderBatchEntryDto::userId).collect(Collectors.toSet()),
+                userErrors
+        );
+
+        Set<Long> itemIds = entries.stream()
+                .flatMap(entry -> entry.order().items().stream())
+                .map(OrderItemRequestDto::itemId)
+                .collect(Collectors.toSet());
+        Map<Long, Item> itemsById = findItemsById(itemIds);
+
+        List<BatchEntry> accepted = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            OrderBatchEntryDto entry = entries.get(i);
+            UserInfoDto userInfoDto = usersById.get(entry.userId());
+
+            String userRejection = userRejection(entry.userId(), userInfoDto, userErrors);
+            if (userRejection != null) {
+                results[i] = failedResult(i, entry, userRejection);
+            } else {
+                List<Long> missingIds = findMissingItemIds(entry.order().items(), itemsById);
+                if (missingIds.isEmpty()) {
+                    accepted.add(new BatchEntry(i, entry));
+                } else {
+                    results[i] = failedResult(i, entry, String.format("Item not found with ids: %s", missingIds));
+                }
+            }
         }
 
-        return orderMapper.orderToDto(savedOrder, userInfoDto);
+        int chunkSize = Math.max(1, batchChunkSize);
+        for (int from = 0; from < accepted.size(); from += chunkSize) {
+            List<BatchEntry> chunk = accepted.subList(from, Math.min(from + chunkSize, accepted.size()));
+            saveBatchChunk(chunk, itemsById, results);
+        }
+
+        List<OrderBatchResultDto> resultList = List.of(results);
+        int created = (int) resultList.stream().filter(OrderBatchResultDto::success).count();
+        log.info("Batch order creation finished: created={}, failed={}", created, resultList.size() - created);
+
+        return OrderBatchResponseDto.builder()
+                .created(created)
+                .failed(resultList.size() - created)
+                .results(resultList)
+                .build();
     }
 
     @Override
-    @Transactional(readOnly = true)
     public OrderResponseDto getOrderById(Long id) {
         log.debug("Fetching order with id: {}", id);
 
-        Order order = orderRepository.findByIdAndDeletedFalse(id)
-                .orElseThrow(() -> new ResourceNotFoundException(String.format("Order not found with id: %d", id)));
+        Order order = readOnlyTransactionTemplate.execute(status -> orderRepository.findWithItemsByIdAndDeletedFalse(id)
+                .orElseThrow(() -> new ResourceNotFoundException(String.format("Order not found with id: %d", id))));
 
         UserInfoDto userInfoDto = userServiceClient.getUserById(order.getUserId());
 
@@ -106,7 +195,6 @@ public class OrderServiceImpl implements OrderService {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public Page<OrderResponseDto> getAllOrders(LocalDateTime dateFrom, LocalDateTime dateTo, List<OrderStatus> statuses, Pageable pageable) {
         log.debug("Fetching orders with filters - dateFrom: {}, dateTo: {}, statuses: {}",
                 dateFrom, dateTo, statuses);
@@ -115,22 +203,56 @@ public class OrderServiceImpl implements OrderService {
                 .and(OrderSpecification.createdBetween(dateFrom, dateTo))
                 .and(OrderSpecification.hasStatusIn(statuses));
 
-        return orderRepository.findAll(spec, pageable)
-                .map(order -> {
-                    UserInfoDto userInfoDto = userServiceClient.getUserById(order.getUserId());
-                    return orderMapper.orderToDto(order, userInfoDto);
-                });
+        Page<Order> orders = readOnlyTransactionTemplate.execute(status ->
+                fetchItems(orderRepository.findAll(spec, pageable)));
+        Map<Long, UserInfoDto> usersById = findUsersById(orders.getContent());
+
+        return orders.map(order -> orderMapper.orderToDto(order, usersById.get(order.getUserId())));
     }
 
     @Override
-    @Transactional(readOnly = true)
     public Page<OrderResponseDto> getOrdersByUserId(Long userId, Pageable pageable) {
         log.debug("Fetching orders for user: {}", userId);
 
-        UserInfoDto userInfo = userServiceClient.getUserById(userId);
+        Page<Order> orders = readOnlyTransactionTemplate.execute(status ->
+                fetchItems(orderRepository.findByUserIdAndDeletedFalse(userId, pageable)));
+
+        UserInfoDto userInfo = findUser(userId);
+
+        return orders.map(order -> orderMapper.orderToDto(order, userInfo));
+    }
+
+    @Override
+    public OrderScrollResponseDto scrollAllOrders(LocalDateTime dateFrom, LocalDateTime dateTo, List<OrderStatus> statuses,
+                                                  String cursor, int size) {
+        log.debug("Scrolling orders with filters - dateFrom: {}, dateTo: {}, statuses: {}, cursor: {}",
+                dateFrom, dateTo, statuses, cursor);
+
+        Specification<Order> spec = OrderSpecification.isNotDeleted()
+                .and(OrderSpecification.createdBetween(dateFrom, dateTo))
+                .and(OrderSpecification.hasStatusIn(statuses));
+
+        int limit = normalizeScrollSize(size);
+        List<Order> orders = readOnlyTransactionTemplate.execute(status -> findOrdersAfter(spec, cursor, limit));
+        List<Order> pageOrders = orders.subList(0, Math.min(orders.size(), limit));
+        Map<Long, UserInfoDto> usersById = findUsersById(pageOrders);
 
-        return orderRepository.findByUserIdAndDeletedFalse(userId, pageable)
-                .map(order -> orderMapper.orderToDto(order, userInfo));
+        return toScrollResponse(orders, limit, order -> orderMapper.orderToDto(order, usersById.get(order.getUserId())));
+    }
+
+    @Override
+    public OrderScrollResponseDto scrollOrdersByUserId(Long userId, String cursor, int size) {
+        log.debug("Scrolling orders for user: {}, cursor: {}", userId, cursor);
+
+        Specification<Order> spec = OrderSpecification.isNotDeleted()
+                .and(OrderSpecification.hasUserId(userId));
+
+        int limit = normalizeScrollSize(size);
+        List<Order> orders = readOnlyTransactionTemplate.execute(status -> findOrdersAfter(spec, cursor, limit));
+
+        UserInfoDto userInfo = findUser(userId);
+
+        return toScrollResponse(orders, limit, order -> orderMapper.orderToDto(order, userInfo));
     }
 
     @Override
@@ -155,22 +277,7 @@ public class OrderServiceImpl implements OrderService {
 
         if (updateDto.items() != null) {
             clearOrderItems(order);
-
-            for (OrderItemRequestDto itemDto : updateDto.items()) {
-                Item item = itemRepository.findById(itemDto.itemId())
-                        .orElseThrow(() -> new ResourceNotFoundException(String.format(
-                                "Item not found with id: %d", itemDto.itemId()
-                        )));
-
-                OrderItem orderItem = OrderItem.builder()
-                        .item(item)
-                        .quantity(itemDto.quantity())
-                        .price(item.getPrice())
-                        .build();
-
-                addOrderItem(order, orderItem);
-            }
-
+            addOrderItems(order, updateDto.items());
             calculateTotalPrice(order);
         }
 
@@ -199,6 +306,75 @@ public class OrderServiceImpl implements OrderService {
         return orderMapper.orderToDto(updatedOrder, userInfoDto);
     }
 
+    @Override
+    @Transactional
+    public void transitionStatus(Long id, OrderStatus newStatus) {
+        OrderStatusUpdateResultDto result = compareAndSetStatus(id, newStatus);
+        if (result.applied()) {
+            return;
+        }
+
+        OrderStatus currentStatus = result.currentStatus();
+        if (currentStatus == null) {
+            throw new ResourceNotFoundException(String.format("Order not found with id: %d", id));
+        }
+        if (currentStatus == newStatus) {
+            log.info("Order with id: {} is already in status {}, skipping transition", id, newStatus);
+            return;
+        }
+        validateStatusTransition(currentStatus, newStatus);
+
+        throw new ConcurrencyFailureException(String.format(
+                "Order with id: %d changed concurrently, status %s not applied", id, newStatus));
+    }
+
+    @Override
+    @Transactional
+    public OrderStatusUpdateResultDto compareAndSetStatus(Long id, OrderStatus newStatus) {
+        int updated = orderRepository.updateStatus(id, newStatus, newStatus.allowedPredecessors(), LocalDateTime.now());
+
+        if (updated > 0) {
+            log.info("Updated order status with id: {} to {}", id, newStatus);
+            return OrderStatusUpdateResultDto.builder()
+                    .orderId(id)
+                    .requestedStatus(newStatus)
+                    .currentStatus(newStatus)
+                    .applied(true)
+                    .build();
+        }
+
+        OrderStatus currentStatus = orderRepository.findStatusById(id).orElse(null);
+        log.debug("Status of order with id: {} not updated to {}, current status: {}", id, newStatus, currentStatus);
+
+        return OrderStatusUpdateResultDto.builder()
+                .orderId(id)
+                .requestedStatus(newStatus)
+                .currentStatus(currentStatus)
+                .applied(false)
+                .build();
+    }
+
+    @Override
+    @Transactional
+    public int compareAndSetStatuses(Map<Long, OrderStatus> statusesByOrderId) {
+        Map<OrderStatus, List<Long>> orderIdsByStatus = statusesByOrderId.entrySet().stream()
+                .collect(Collectors.groupingBy(
+                        Map.Entry::getValue,
+                        () -> new EnumMap<>(OrderStatus.class),
+                        Collectors.mapping(Map.Entry::getKey, Collectors.toList())
+                ));
+
+        LocalDateTime now = LocalDateTime.now();
+        int updated = 0;
+        for (Map.Entry<OrderStatus, List<Long>> entry : orderIdsByStatus.entrySet()) {
+            OrderStatus newStatus = entry.getKey();
+            updated += orderRepository.updateStatuses(entry.getValue(), newStatus, newStatus.allowedPredecessors(), now);
+        }
+
+        log.info("Updated status of {} of {} orders", updated, statusesByOrderId.size());
+        return updated;
+    }
+
     @Override
     @Transactional
     public void deleteOrder(Long id) {
@@ -218,6 +394,275 @@ public class OrderServiceImpl implements OrderService {
         log.info("Order soft deleted with id: {}", id);
     }
 
+    /**
+     * Saves a chunk of batch orders in one transaction. If the chunk fails, its orders
+     * are retried one by one so that a single bad order doesn't reject the whole chunk.
+     */
+    private void saveBatchChunk(List<BatchEntry> chunk, Map<Long, Item> itemsById, OrderBatchResultDto[] results) {
+        try {
+            List<Order> savedOrders = transactionTemplate.execute(status -> saveBatchOrders(chunk, itemsById));
+            for (int i = 0; i < chunk.size(); i++) {
+                BatchEntry batchEntry = chunk.get(i);
+                results[batchEntry.index()] = createdResult(batchEntry.index(), savedOrders.get(i));
+            }
+        } catch (Exception e) {
+            if (chunk.size() == 1) {
+                BatchEntry batchEntry = chunk.get(0);
+                log.warn("Failed to create batch order at index {}: {}", batchEntry.index(), e.getMessage());
+                results[batchEntry.index()] = failedResult(batchEntry.index(), batchEntry.entry(), e.getMessage());
+                return;
+            }
+
+            log.warn("Failed to save chunk of {} batch orders, retrying one by one: {}", chunk.size(), e.getMessage());
+            for (BatchEntry batchEntry : chunk) {
+                saveBatchChunk(List.of(batchEntry), itemsById, results);
+            }
+        }
+    }
+
+    private List<Order> saveBatchOrders(List<BatchEntry> chunk, Map<Long, Item> itemsById) {
+        List<Order> orders = new ArrayList<>(chunk.size());
+        for (BatchEntry batchEntry : chunk) {
+            Order order = Order.builder()
+                    .userId(batchEntry.entry().userId())
+                    .orderStatus(OrderStatus.PENDING)
+                    .items(new ArrayList<>())
+                    .build();
+
+            addOrderItems(order, mergeQuantities(batchEntry.entry().order().items()), itemsById);
+            calculateTotalPrice(order);
+            orders.add(order);
+        }
+
+        List<Order> savedOrders = orderRepository.saveAll(orders);
+        orderOutboxService.saveOrderCreatedEvents(savedOrders.stream()
+                .map(this::toOrderCreatedEvent)
+                .toList());
+
+        return savedOrders;
+    }
+
+    private int normalizeScrollSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SCROLL_SIZE));
+    }
+
+    /**
+     * Fetches one order more than requested to know whether next page exists without count query
+     */
+    private List<Order> findOrdersAfter(Specification<Order> spec, String cursor, int limit) {
+        OrderCursorHelper.Position position = OrderCursorHelper.decode(cursor);
+        if (position != null) {
+            spec = spec.and(OrderSpecification.createdAfterPosition(position.createdAt(), position.id()));
+        }
+
+        List<Order> orders = orderRepository.findBy(spec, query -> query
+                .sortBy(SCROLL_SORT)
+                .limit(limit + 1)
+                .all());
+        Map<Long, Order> ordersWithItems = fetchItems(orders.subList(0, Math.min(orders.size(), limit)));
+
+        return orders.stream()
+                .map(order -> ordersWithItems.getOrDefault(order.getId(), order))
+                .toList();
+    }
+
+    private Page<Order> fetchItems(Page<Order> orders) {
+        Map<Long, Order> ordersWithItems = fetchItems(orders.getContent());
+        return orders.map(order -> ordersWithItems.get(order.getId()));
+    }
+
+    /**
+     * Loads lines and items of already selected orders with one fetch join,
+     * paging and collection fetch in one query would paginate in memory
+     */
+    private Map<Long, Order> fetchItems(List<Order> orders) {
+        if (orders.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> orderIds = orders.stream()
+                .map(Order::getId)
+                .toList();
+
+        return orderRepository.findAllWithItemsByIdIn(orderIds).stream()
+                .collect(Collectors.toMap(Order::getId, Function.identity(), (first, second) -> first));
+    }
+
+    private OrderScrollResponseDto toScrollResponse(List<Order> orders, int limit,
+                                                    Function<Order, OrderResponseDto> mapper) {
+        boolean hasNext = orders.size() > limit;
+        List<Order> pageOrders = hasNext ? orders.subList(0, limit) : orders;
+
+        return OrderScrollResponseDto.builder()
+                .content(pageOrders.stream().map(mapper).toList())
+                .size(pageOrders.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? OrderCursorHelper.encode(pageOrders.get(pageOrders.size() - 1)) : null)
+                .build();
+    }
+
+    private Map<Long, UserInfoDto> findUsersById(List<Order> orders) {
+        Set<Long> userIds = orders.stream()
+                .map(Order::getUserId)
+                .collect(Collectors.toSet());
+
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, UserInfoDto> usersById = new HashMap<>();
+        userServiceClient.getUsersByIds(userIds)
+                .forEach(user -> usersById.put(user.id(), user));
+
+        // users absent from the batch response get the single lookup result, including its fallback
+        userIds.stream()
+                .filter(userId -> !usersById.containsKey(userId))
+                .forEach(userId -> {
+                    UserInfoDto user = findUser(userId);
+                    if (user != null) {
+                        usersById.put(userId, user);
+                    }
+                });
+
+        return usersById;
+    }
+
+    /**
+     * Listing lookup: orders of a deleted user are still listed, rendered without user info
+     * @return user info, null if User Service does not know the user
+     */
+    private UserInfoDto findUser(Long userId) {
+        try {
+            return userServiceClient.getUserById(userId);
+        } catch (UserNotFoundException e) {
+            log.debug("User {} of listed orders not found", userId);
+            return null;
+        }
+    }
+
+    /**
+     * @return reason the user may not create an order, null if they may
+     */
+    private String userRejection(Long userId, UserInfoDto userInfoDto, Map<Long, String> userErrors) {
+        if (userInfoDto == null) {
+            return userErrors.getOrDefault(userId, "User not found");
+        }
+        if (LastKnownUserStore.isUnknown(userInfoDto)) {
+            return unknownUserPolicy.allowsOrders(userId) ? null : UNVERIFIED_USER_MESSAGE;
+        }
+        return Boolean.TRUE.equals(userInfoDto.active()) ? null : "Cannot create order for inactive user";
+    }
+
+    /**
+     * Fetches every distinct user with one batch request, users absent from the batch response
+     * are looked up one by one and deleted ones are collected per user id in userErrors.
+     * User Service outages do not surface here: degraded lookups come back as unknown-user
+     * placeholders, which {@link #userRejection} handles by the unknown user policy.
+     */
+    private Map<Long, UserInfoDto> fetchUsers(Set<Long> userIds, Map<Long, String> userErrors) {
+        Map<Long, UserInfoDto> usersById = new HashMap<>();
+        userServiceClient.getUsersByIds(userIds)
+                .forEach(user -> usersById.put(user.id(), user));
+
+        userIds.stream()
+                .filter(userId -> !usersById.containsKey(userId))
+                .forEach(userId -> {
+                    try {
+                        usersById.put(userId, userServiceClient.getUserById(userId));
+                    } catch (UserNotFoundException e) {
+                        log.warn("User with id {} of batch order not found: {}", userId, e.getMessage());
+                        userErrors.put(userId, e.getMessage());
+                    }
+                });
+        return usersById;
+    }
+
+    private OrderBatchResultDto createdResult(int index, Order order) {
+        return OrderBatchResultDto.builder()
+                .index(index)
+                .userId(order.getUserId())
+                .success(true)
+                .orderId(order.getId())
+                .totalPrice(order.getTotalPrice())
+                .build();
+    }
+
+    private OrderBatchResultDto failedResult(int index, OrderBatchEntryDto entry, String error) {
+        return OrderBatchResultDto.builder()
+                .index(index)
+                .userId(entry.userId())
+                .success(false)
+                .error(error)
+                .build();
+    }
+
+    private OrderCreatedEventDto toOrderCreatedEvent(Order order) {
+        return OrderCreatedEventDto.builder()
+                .orderId(order.getId())
+                .userId(order.getUserId())
+                .totalAmount(order.getTotalPrice())
+                .eventType("ORDER_CREATED")
+                .build();
+    }
+
+    /**
+     * Resolves all requested items with a single query and adds them to the order.
+     * Lines referencing the same item are merged into one line with the summed quantity.
+     */
+    private void addOrderItems(Order order, List<OrderItemRequestDto> itemDtos) {
+        Map<Long, Integer> quantitiesByItemId = mergeQuantities(itemDtos);
+        if (quantitiesByItemId.isEmpty()) {
+            return;
+        }
+
+        addOrderItems(order, quantitiesByItemId, findItemsById(quantitiesByItemId.keySet()));
+    }
+
+    private void addOrderItems(Order order, Map<Long, Integer> quantitiesByItemId, Map<Long, Item> itemsById) {
+        List<Long> missingIds = quantitiesByItemId.keySet().stream()
+                .filter(itemId -> !itemsById.containsKey(itemId))
+                .toList();
+        if (!missingIds.isEmpty()) {
+            throw new ResourceNotFoundException(String.format("Item not found with ids: %s", missingIds));
+        }
+
+        quantitiesByItemId.forEach((itemId, quantity) -> {
+            Item item = itemsById.get(itemId);
+
+            OrderItem orderItem = OrderItem.builder()
+                    .item(item)
+                    .quantity(quantity)
+                    .price(item.getPrice())
+                    .build();
+
+            addOrderItem(order, orderItem);
+        });
+    }
+
+    private Map<Long, Integer> mergeQuantities(List<OrderItemRequestDto> itemDtos) {
+        Map<Long, Integer> quantitiesByItemId = new LinkedHashMap<>();
+        for (OrderItemRequestDto itemDto : itemDtos) {
+            quantitiesByItemId.merge(itemDto.itemId(), itemDto.quantity(), Integer::sum);
+        }
+        return quantitiesByItemId;
+    }
+
+    private Map<Long, Item> findItemsById(Collection<Long> itemIds) {
+        if (itemIds.isEmpty()) {
+            return Map.of();
+        }
+        return itemRepository.findAllById(itemIds).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+    }
+
+    private List<Long> findMissingItemIds(List<OrderItemRequestDto> itemDtos, Map<Long, Item> itemsById) {
+        return itemDtos.stream()
+                .map(OrderItemRequestDto::itemId)
+                .filter(itemId -> !itemsById.containsKey(itemId))
+                .distinct()
+                .toList();
+    }
+
     private void addOrderItem(Order order, OrderItem orderItem) {
         order.getItems().add(orderItem);
         orderItem.setOrder(order);
@@ -238,17 +683,27 @@ public class OrderServiceImpl implements OrderService {
     }
 
     private void validateStatusTransition(OrderStatus orderStatus, OrderStatus newStatus) {
-        boolean isValid = switch (orderStatus) {
-            case PENDING -> newStatus == OrderStatus.PROCESSING || newStatus == OrderStatus.CANCELLED;
-            case PROCESSING -> newStatus == OrderStatus.SHIPPED || newStatus == OrderStatus.CANCELLED;
-            case SHIPPED -> newStatus == OrderStatus.DELIVERED;
-            case DELIVERED, CANCELLED -> false;
-        };
-
-        if (!isValid) {
+        if (!orderStatus.canTransitionTo(newStatus)) {
             throw new InvalidOrderStateException(
                     String.format("Invalid status transition from %s to %s", orderStatus, newStatus)
             );
         }
     }
+
+    /**
+     * Rethrows the lookup failure as is, so callers see the same exceptions as with a direct call
+     */
+    private static UserInfoDto awaitUser(CompletableFuture<UserInfoDto> userLookup) {
+        try {
+            return userLookup.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private record BatchEntry(int index, OrderBatchEntryDto entry) {
+    }
 }
@@ -0,0 +1,139 @@
+package com.innowise.orderservice.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.innowise.orderservice.dto.payment.PaymentEventDto;
+import com.innowise.orderservice.entity.ProcessedPaymentEvent;
+import com.innowise.orderservice.repository.ProcessedPaymentEventRepository;
+import com.innowise.orderservice.service.ProcessedPaymentEventService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+@Service
+@Slf4j
+public class ProcessedPaymentEventServiceImpl implements ProcessedPaymentEventService {
+
+    private final ProcessedPaymentEventRepository processedPaymentEventRepository;
+    private final Duration retention;
+
+    /**
+     * LRU front of the processed events table, holds only ids known to be processed
+     */
+    private final Cache<String, Boolean> recentlyProcessed;
+
+    public ProcessedPaymentEventServiceImpl(
+            ProcessedPaymentEventRepository processedPaymentEventRepository,
+            @Value("${kafka.consumer.payment-events.idempotency.retention:7d}") Duration retention,
+            @Value("${kafka.consumer.payment-events.idempotency.cache-size:100000}") long cacheSize
+    ) {
+        this.processedPaymentEventRepository = processedPaymentEventRepository;
+        this.retention = retention;
+        this.recentlyProcessed = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(retention)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isProcessed(String paymentId) {
+        if (paymentId == null) {
+            return false;
+        }
+        return !findProcessed(List.of(paymentId)).isEmpty();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Set<String> findProcessed(Collection<String> paymentIds) {
+        Set<String> processed = new HashSet<>();
+        Set<String> unknown = new HashSet<>();
+
+        paymentIds.stream()
+                .filter(Objects::nonNull)
+                .forEach(paymentId -> {
+                    if (recentlyProcessed.getIfPresent(paymentId) != null) {
+                        processed.add(paymentId);
+                    } else {
+                        unknown.add(paymentId);
+                    }
+                });
+
+        if (!unknown.isEmpty()) {
+            List<String> existing = processedPaymentEventRepository.findExistingPaymentIds(unknown);
+            existing.forEach(paymentId -> recentlyProcessed.put(paymentId, Boolean.TRUE));
+            processed.addAll(existing);
+        }
+
+        return processed;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean markProcessed(String paymentId, Long orderId) {
+        if (paymentId == null) {
+            return true;
+        }
+
+        boolean inserted = processedPaymentEventRepository.insertIfAbsent(paymentId, orderId, LocalDateTime.now()) > 0;
+        rememberAfterCommit(List.of(paymentId));
+        return inserted;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void markProcessed(Collection<PaymentEventDto> events) {
+        LocalDateTime now = LocalDateTime.now();
+        List<ProcessedPaymentEvent> processedEvents = events.stream()
+                .filter(event -> event.paymentId() != null)
+                .map(event -> ProcessedPaymentEvent.builder()
+                        .paymentId(event.paymentId())
+                        .orderId(event.orderId())
+                        .processedAt(now)
+                        .build())
+                .toList();
+
+        processedPaymentEventRepository.saveAll(processedEvents);
+        rememberAfterCommit(processedEvents.stream().map(ProcessedPaymentEvent::getPaymentId).toList());
+    }
+
+    @Override
+    @Transactional
+    public int deleteExpired() {
+        int deleted = processedPaymentEventRepository.deleteByProcessedAtBefore(LocalDateTime.now().minus(retention));
+        if (deleted > 0) {
+            log.info("Deleted {} processed payment events older than {}", deleted, retention);
+        }
+        return deleted;
+    }
+
+    /**
+     * Ids enter the in-memory front only after commit, a rolled back event must stay retryable
+     */
+    private void rememberAfterCommit(List<String> paymentIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            paymentIds.forEach(paymentId -> recentlyProcessed.put(paymentId, Boolean.TRUE));
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                paymentIds.forEach(paymentId -> recentlyProcessed.put(paymentId, Boolean.TRUE));
+            }
+        });
+    }
+}
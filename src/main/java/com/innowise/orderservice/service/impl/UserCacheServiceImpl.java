@@ -0,0 +1,36 @@
+package com.innowise.orderservice.service.impl;
+
+import com.innowise.orderservice.config.CacheConfig;
+import com.innowise.orderservice.service.UserCacheService;
+import com.innowise.orderservice.service.UserProjectionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Service;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class UserCacheServiceImpl implements UserCacheService {
+
+    private final UserProjectionService userProjectionService;
+
+    /**
+     * Also drops the projected copy, otherwise the next lookup would be answered from it
+     */
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.USERS_CACHE, key = "#userId")
+    public void evictUser(Long userId) {
+        log.info("Evicting cached user info for user with id: {}", userId);
+        userProjectionService.delete(userId);
+    }
+
+    /**
+     * The projection is kept, it is refreshed by user change events and max age
+     */
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.USERS_CACHE, allEntries = true)
+    public void evictAll() {
+        log.info("Evicting all cached user info");
+    }
+}
@@ -0,0 +1,98 @@
+package com.innowise.orderservice.service.impl;
+
+import com.innowise.orderservice.client.dto.UserInfoDto;
+import com.innowise.orderservice.dto.user.UserChangedEventDto;
+import com.innowise.orderservice.entity.UserProjection;
+import com.innowise.orderservice.mapper.UserProjectionMapper;
+import com.innowise.orderservice.repository.UserProjectionRepository;
+import com.innowise.orderservice.service.UserProjectionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+public class UserProjectionServiceImpl implements UserProjectionService {
+
+    private final UserProjectionRepository userProjectionRepository;
+    private final UserProjectionMapper userProjectionMapper;
+
+    /**
+     * Safety net for missed user events, rows older than this are refetched from User Service
+     */
+    private final Duration maxAge;
+
+    public UserProjectionServiceImpl(
+            UserProjectionRepository userProjectionRepository,
+            UserProjectionMapper userProjectionMapper,
+            @Value("${user.projection.max-age:1d}") Duration maxAge
+    ) {
+        this.userProjectionRepository = userProjectionRepository;
+        this.userProjectionMapper = userProjectionMapper;
+        this.maxAge = maxAge;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, UserInfoDto> findFresh(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        return userProjectionRepository.findSyncedSince(ids, LocalDateTime.now().minus(maxAge)).stream()
+                .map(userProjectionMapper::toDto)
+                .collect(Collectors.toMap(UserInfoDto::id, Function.identity()));
+    }
+
+    @Override
+    @Transactional
+    public void save(UserInfoDto user) {
+        if (user == null || user.id() == null) {
+            return;
+        }
+
+        // events and backfills may arrive out of order, the upsert keeps a stored copy that is newer
+        UserProjection projection = userProjectionMapper.toEntity(user);
+        int written = userProjectionRepository.upsert(
+                projection.getId(),
+                projection.getName(),
+                projection.getSurname(),
+                projection.getBirthDate(),
+                projection.getEmail(),
+                projection.getActive(),
+                projection.getCreatedAt(),
+                projection.getUpdatedAt(),
+                LocalDateTime.now()
+        );
+        if (written == 0) {
+            log.debug("Skipped outdated projection update for user with id: {}", user.id());
+        }
+    }
+
+    @Override
+    @Transactional
+    public void apply(UserChangedEventDto event) {
+        if (event.eventType() == UserChangedEventDto.EventType.USER_DELETED || event.user() == null) {
+            delete(event.userId());
+            return;
+        }
+        save(event.user());
+    }
+
+    @Override
+    @Transactional
+    public void delete(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        userProjectionRepository.deleteById(userId);
+    }
+}
@@ -0,0 +1,52 @@
+package com.innowise.orderservice.util;
+
+import com.innowise.orderservice.entity.Order;
+import com.innowise.orderservice.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Encodes and decodes opaque continuation tokens for keyset pagination on (created_at, id)
+ */
+public final class OrderCursorHelper {
+
+    private static final String SEPARATOR = "|";
+
+    private OrderCursorHelper() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    public static String encode(Order order) {
+        String position = order.getCreatedAt() + SEPARATOR + order.getId();
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor token returned with the previous page, null for the first page
+     * @return position of the last order of previous page or null
+     */
+    public static Position decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = position.lastIndexOf(SEPARATOR);
+
+            return new Position(
+                    LocalDateTime.parse(position.substring(0, separator)),
+                    Long.valueOf(position.substring(separator + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException("Invalid cursor: " + cursor);
+        }
+    }
+
+    public record Position(LocalDateTime createdAt, Long id) {
+    }
+}
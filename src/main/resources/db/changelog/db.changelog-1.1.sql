@@ -0,0 +1,17 @@
+-- liquibase formatted sql
+
+-- changeset dolartand:5
+CREATE TABLE order_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    order_id BIGINT NOT NULL,
+    event_type VARCHAR(50) NOT NULL,
+    payload TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL,
+    sent_at TIMESTAMP
+);
+
+-- changeset dolartand:6
+CREATE INDEX idx_order_outbox_pending ON order_outbox(id) WHERE status = 'PENDING';
+CREATE INDEX idx_order_outbox_sent_at ON order_outbox(sent_at) WHERE status = 'SENT';
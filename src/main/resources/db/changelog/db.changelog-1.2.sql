@@ -0,0 +1,25 @@
+-- liquibase formatted sql
+
+-- changeset dolartand:7
+CREATE SEQUENCE items_seq INCREMENT BY 50;
+SELECT setval('items_seq', COALESCE((SELECT MAX(id) FROM items), 0) + 50, false);
+ALTER TABLE items ALTER COLUMN id DROP DEFAULT;
+DROP SEQUENCE IF EXISTS items_id_seq;
+
+-- changeset dolartand:8
+CREATE SEQUENCE orders_seq INCREMENT BY 50;
+SELECT setval('orders_seq', COALESCE((SELECT MAX(id) FROM orders), 0) + 50, false);
+ALTER TABLE orders ALTER COLUMN id DROP DEFAULT;
+DROP SEQUENCE IF EXISTS orders_id_seq;
+
+-- changeset dolartand:9
+CREATE SEQUENCE order_items_seq INCREMENT BY 50;
+SELECT setval('order_items_seq', COALESCE((SELECT MAX(id) FROM order_items), 0) + 50, false);
+ALTER TABLE order_items ALTER COLUMN id DROP DEFAULT;
+DROP SEQUENCE IF EXISTS order_items_id_seq;
+
+-- changeset dolartand:10
+CREATE SEQUENCE order_outbox_seq INCREMENT BY 50;
+SELECT setval('order_outbox_seq', COALESCE((SELECT MAX(id) FROM order_outbox), 0) + 50, false);
+ALTER TABLE order_outbox ALTER COLUMN id DROP DEFAULT;
+DROP SEQUENCE IF EXISTS order_outbox_id_seq;
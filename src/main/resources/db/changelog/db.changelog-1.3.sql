@@ -0,0 +1,5 @@
+-- liquibase formatted sql
+
+-- changeset dolartand:11
+CREATE INDEX idx_orders_created_at_id ON orders(created_at, id) WHERE deleted = false;
+CREATE INDEX idx_orders_user_id_created_at_id ON orders(user_id, created_at, id) WHERE deleted = false;
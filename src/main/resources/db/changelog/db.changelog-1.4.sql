@@ -0,0 +1,10 @@
+-- liquibase formatted sql
+
+-- changeset dolartand:12
+CREATE TABLE processed_payment_events (
+    payment_id VARCHAR(100) PRIMARY KEY,
+    order_id BIGINT NOT NULL,
+    processed_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_processed_payment_events_processed_at ON processed_payment_events(processed_at);
@@ -0,0 +1,14 @@
+-- liquibase formatted sql
+
+-- changeset dolartand:13
+CREATE TABLE user_projection (
+    id BIGINT PRIMARY KEY,
+    name VARCHAR(255),
+    surname VARCHAR(255),
+    birth_date DATE,
+    email VARCHAR(255),
+    active BOOLEAN,
+    created_at TIMESTAMP,
+    updated_at TIMESTAMP,
+    synced_at TIMESTAMP NOT NULL
+);
@@ -0,0 +1,4 @@
+-- liquibase formatted sql
+
+-- changeset dolartand:14
+ALTER TABLE order_outbox ADD COLUMN next_attempt_at TIMESTAMP;
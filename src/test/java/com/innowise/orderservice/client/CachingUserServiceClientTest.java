@@ -0,0 +1,182 @@
+package com.innowise.orderservice.client;
+
+import com.innowise.orderservice.client.dto.UserInfoDto;
+import com.innowise.orderservice.config.CacheConfig;
+import com.innowise.orderservice.exception.BatchLookupNotSupportedException;
+import com.innowise.orderservice.exception.ServiceUnavailableException;
+import com.innowise.orderservice.exception.UserNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingUserServiceClient unit tests")
+class CachingUserServiceClientTest {
+
+    @Mock
+    private UserServiceClient delegate;
+
+    private CacheManager cacheManager;
+    private LastKnownUserStore lastKnownUserStore;
+    private UserServiceAvailability userServiceAvailability;
+    private CachingUserServiceClient client;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager(CacheConfig.USERS_CACHE);
+        lastKnownUserStore = new LastKnownUserStore(new SimpleMeterRegistry(), Duration.ofDays(7), 1000);
+        userServiceAvailability = new UserServiceAvailability();
+        client = new CachingUserServiceClient(delegate, cacheManager, Runnable::run, lastKnownUserStore,
+                userServiceAvailability, true, Duration.ofMinutes(10));
+    }
+
+    @Nested
+    @DisplayName("getUserById tests")
+    class GetUserByIdTests {
+
+        @Test
+        @DisplayName("should call User Service once for repeated lookups")
+        void shouldCacheUser() {
+            when(delegate.getUserById(1L)).thenReturn(createUser(1L, "John"));
+
+            client.getUserById(1L);
+            client.getUserById(1L);
+
+            verify(delegate, times(1)).getUserById(1L);
+        }
+
+        @Test
+        @DisplayName("should serve the last known user without caching it while User Service is unavailable")
+        void shouldServeStale_WhenUnavailable() {
+            UserInfoDto john = createUser(1L, "John");
+            when(delegate.getUserById(1L))
+                    .thenReturn(john)
+                    .thenThrow(new ServiceUnavailableException("down"));
+            client.getUserById(1L);
+            evictCache();
+
+            UserInfoDto stale = client.getUserById(1L);
+
+            assertThat(stale).isEqualTo(john);
+            assertThat(lastKnownUserStore.staleIds()).containsExactly(1L);
+            assertThat(cacheManager.getCache(CacheConfig.USERS_CACHE).get(1L)).isNull();
+        }
+
+        @Test
+        @DisplayName("should return an unknown placeholder when no copy exists")
+        void shouldReturnUnknown_WhenNoCopy() {
+            when(delegate.getUserById(1L)).thenThrow(new ServiceUnavailableException("down"));
+
+            UserInfoDto user = client.getUserById(1L);
+
+            assertThat(LastKnownUserStore.isUnknown(user)).isTrue();
+            assertThat(user.id()).isEqualTo(1L);
+            assertThat(user.name()).isNull();
+        }
+
+        @Test
+        @DisplayName("should propagate missing user instead of serving a stale copy")
+        void shouldPropagateNotFound() {
+            when(delegate.getUserById(1L)).thenThrow(new UserNotFoundException("User not found"));
+
+            assertThatThrownBy(() -> client.getUserById(1L)).isInstanceOf(UserNotFoundException.class);
+        }
+
+        @Test
+        @DisplayName("should refresh users served stale once User Service answers again")
+        void shouldRefreshStale_WhenAvailableAgain() {
+            when(delegate.getUserById(1L))
+                    .thenReturn(createUser(1L, "John"))
+                    .thenThrow(new ServiceUnavailableException("down"))
+                    .thenReturn(createUser(1L, "Johnny"));
+            when(delegate.getUserById(2L)).thenAnswer(invocation -> {
+                userServiceAvailability.answered();
+                return createUser(2L, "Jane");
+            });
+            client.getUserById(1L);
+            evictCache();
+            client.getUserById(1L);
+
+            client.getUserById(2L);
+
+            assertThat(lastKnownUserStore.hasStale()).isFalse();
+            assertThat(client.getUserById(1L).name()).isEqualTo("Johnny");
+            verify(delegate, times(3)).getUserById(1L);
+        }
+
+        @Test
+        @DisplayName("should not refresh users served stale when a lookup is answered from the projection")
+        void shouldNotRefreshStale_WhenAnsweredFromProjection() {
+            when(delegate.getUserById(1L))
+                    .thenReturn(createUser(1L, "John"))
+                    .thenThrow(new ServiceUnavailableException("down"));
+            when(delegate.getUserById(2L)).thenReturn(createUser(2L, "Jane"));
+            client.getUserById(1L);
+            evictCache();
+            client.getUserById(1L);
+
+            client.getUserById(2L);
+
+            assertThat(lastKnownUserStore.staleIds()).containsExactly(1L);
+            verify(delegate, times(2)).getUserById(1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("getUsersByIds tests")
+    class GetUsersByIdsTests {
+
+        @Test
+        @DisplayName("should serve last known users when the batch lookup fails")
+        void shouldServeStale_WhenBatchFails() {
+            when(delegate.getUsersByIds(Set.of(1L))).thenReturn(List.of(createUser(1L, "John")));
+            client.getUsersByIds(Set.of(1L));
+            evictCache();
+            when(delegate.getUsersByIds(Set.of(1L, 2L))).thenThrow(new ServiceUnavailableException("down"));
+
+            List<UserInfoDto> users = client.getUsersByIds(List.of(1L, 2L));
+
+            assertThat(users).extracting(UserInfoDto::name).containsExactly("John", null);
+        }
+
+        @Test
+        @DisplayName("should leave missing users out of single lookups when the batch route is missing")
+        void shouldSkipMissingUsers_WhenBatchNotSupported() {
+            when(delegate.getUsersByIds(Set.of(1L, 2L))).thenThrow(new BatchLookupNotSupportedException("no route"));
+            when(delegate.getUserById(1L)).thenReturn(createUser(1L, "John"));
+            when(delegate.getUserById(2L)).thenThrow(new UserNotFoundException("User not found"));
+
+            List<UserInfoDto> users = client.getUsersByIds(Set.of(1L, 2L));
+
+            assertThat(users).extracting(UserInfoDto::id).containsExactly(1L);
+        }
+    }
+
+    private void evictCache() {
+        cacheManager.getCache(CacheConfig.USERS_CACHE).clear();
+    }
+
+    private static UserInfoDto createUser(Long id, String name) {
+        return UserInfoDto.builder()
+                .id(id)
+                .name(name)
+                .email(name.toLowerCase() + "@example.com")
+                .active(true)
+                .build();
+    }
+}
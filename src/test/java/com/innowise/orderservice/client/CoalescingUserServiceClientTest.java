@@ -0,0 +1,146 @@
+package com.innowise.orderservice.client;
+
+import com.innowise.orderservice.client.dto.UserInfoDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CoalescingUserServiceClient unit tests")
+class CoalescingUserServiceClientTest {
+
+    private static final int CALLERS = 5;
+
+    @Mock
+    private UserServiceClient delegate;
+
+    private MeterRegistry meterRegistry;
+    private CoalescingUserServiceClient client;
+    private ExecutorService callers;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        client = new CoalescingUserServiceClient(delegate, meterRegistry, 10);
+        callers = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("should share one in-flight call between concurrent callers")
+    void shouldCollapseConcurrentLookups() throws Exception {
+        UserInfoDto user = UserInfoDto.builder().id(1L).name("John").build();
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.getUserById(1L)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return user;
+        });
+
+        List<Future<UserInfoDto>> results = submitCallers(1L);
+        awaitCollapsed(CALLERS - 1);
+        release.countDown();
+
+        for (Future<UserInfoDto> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(user);
+        }
+        verify(delegate, times(1)).getUserById(1L);
+        assertThat(counter("executed")).isEqualTo(1);
+        assertThat(meterRegistry.get(CoalescingUserServiceClient.IN_FLIGHT_METRIC).gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("should hand the failure of the shared call to every caller")
+    void shouldShareFailure() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.getUserById(1L)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            throw new IllegalStateException("user service down");
+        });
+
+        List<Future<UserInfoDto>> results = submitCallers(1L);
+        awaitCollapsed(CALLERS - 1);
+        release.countDown();
+
+        for (Future<UserInfoDto> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalStateException.class)
+                    .hasRootCauseMessage("user service down");
+        }
+        verify(delegate, times(1)).getUserById(1L);
+    }
+
+    @Test
+    @DisplayName("should call again once the previous call has completed")
+    void shouldNotReuseCompletedCall() {
+        when(delegate.getUserById(1L)).thenReturn(UserInfoDto.builder().id(1L).build());
+
+        client.getUserById(1L);
+        client.getUserById(1L);
+
+        verify(delegate, times(2)).getUserById(1L);
+        assertThat(counter("collapsed")).isZero();
+    }
+
+    @Test
+    @DisplayName("should bypass coalescing when the in-flight table is full")
+    void shouldBypass_WhenTableFull() throws Exception {
+        client = new CoalescingUserServiceClient(delegate, meterRegistry, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.getUserById(1L)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return UserInfoDto.builder().id(1L).build();
+        });
+        when(delegate.getUserById(2L)).thenReturn(UserInfoDto.builder().id(2L).build());
+
+        Future<UserInfoDto> first = callers.submit(() -> client.getUserById(1L));
+        verify(delegate, timeout(1000)).getUserById(1L);
+
+        assertThat(client.getUserById(2L).id()).isEqualTo(2L);
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+
+        assertThat(counter("bypassed")).isEqualTo(1);
+    }
+
+    private List<Future<UserInfoDto>> submitCallers(Long id) {
+        List<Future<UserInfoDto>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(callers.submit(() -> client.getUserById(id)));
+        }
+        return results;
+    }
+
+    private void awaitCollapsed(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (counter("collapsed") < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(counter("collapsed")).isEqualTo(expected);
+    }
+
+    private double counter(String result) {
+        return meterRegistry.get(CoalescingUserServiceClient.LOOKUPS_METRIC).tag("result", result).counter().count();
+    }
+}
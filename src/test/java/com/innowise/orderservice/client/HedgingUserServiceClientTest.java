@@ -0,0 +1,167 @@
+package com.innowise.orderservice.client;
+
+import com.innowise.orderservice.client.dto.UserInfoDto;
+import com.innowise.orderservice.exception.ServiceUnavailableException;
+import com.innowise.orderservice.exception.UserNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HedgingUserServiceClient unit tests")
+class HedgingUserServiceClientTest {
+
+    private static final Executor VIRTUAL_THREADS = task -> Thread.ofVirtual().start(task);
+
+    @Mock
+    private UserServiceClient delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("should answer with the hedged request when the first one is slow")
+    void shouldUseHedge_WhenPrimarySlow() {
+        UserInfoDto john = createUser(1L);
+        HedgingUserServiceClient client = createClient(10);
+        warmUp(client, john);
+
+        when(delegate.getUserById(1L))
+                .thenAnswer(invocation -> {
+                    Thread.sleep(5_000);
+                    return john;
+                })
+                .thenReturn(john);
+
+        long start = System.nanoTime();
+        UserInfoDto user = client.getUserById(1L);
+
+        assertThat(user).isEqualTo(john);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+        assertThat(hedging("sent")).isEqualTo(1.0);
+        assertThat(hedging("won")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("should wait for the first request when the retry budget is exhausted")
+    void shouldNotHedge_WhenBudgetExhausted() {
+        UserInfoDto john = createUser(1L);
+        HedgingUserServiceClient client = createClient(0);
+        warmUp(client, john);
+
+        when(delegate.getUserById(1L)).thenAnswer(invocation -> {
+            Thread.sleep(100);
+            return john;
+        });
+
+        assertThat(client.getUserById(1L)).isEqualTo(john);
+        verify(delegate, times(1)).getUserById(1L);
+        assertThat(hedging("denied")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("should answer with the first request when the hedged one fails")
+    void shouldUsePrimary_WhenHedgeFails() {
+        UserInfoDto john = createUser(1L);
+        HedgingUserServiceClient client = createClient(10);
+        warmUp(client, john);
+
+        when(delegate.getUserById(1L))
+                .thenAnswer(invocation -> {
+                    Thread.sleep(100);
+                    return john;
+                })
+                .thenThrow(new ServiceUnavailableException("down"));
+
+        assertThat(client.getUserById(1L)).isEqualTo(john);
+        assertThat(hedging("won")).isZero();
+    }
+
+    @Test
+    @DisplayName("should credit the retry budget for the lookup but not for its hedge")
+    void shouldNotCreditHedge() {
+        UserInfoDto john = createUser(1L);
+        RetryBudget retryBudget = mock(RetryBudget.class);
+        when(retryBudget.tryRetry()).thenReturn(true);
+        HedgingUserServiceClient client = new HedgingUserServiceClient(delegate, VIRTUAL_THREADS, retryBudget,
+                meterRegistry, true, 0.95, 10, 1, Duration.ofMillis(10), Duration.ofSeconds(1));
+        warmUp(client, john);
+        clearInvocations(retryBudget);
+
+        when(delegate.getUserById(1L))
+                .thenAnswer(invocation -> {
+                    Thread.sleep(5_000);
+                    return john;
+                })
+                .thenReturn(john);
+
+        client.getUserById(1L);
+
+        verify(retryBudget, times(1)).onRequest();
+        verify(retryBudget, times(1)).tryRetry();
+    }
+
+    @Test
+    @DisplayName("should rethrow a missing user unwrapped")
+    void shouldRethrowUserNotFound() {
+        HedgingUserServiceClient client = createClient(10);
+        when(delegate.getUserById(1L)).thenThrow(new UserNotFoundException("User not found"));
+
+        assertThatThrownBy(() -> client.getUserById(1L)).isInstanceOf(UserNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("should call the delegate directly when disabled")
+    void shouldCallDelegate_WhenDisabled() {
+        HedgingUserServiceClient client = new HedgingUserServiceClient(delegate, task -> {
+            throw new AssertionError("executor must not be used");
+        }, new RetryBudget(meterRegistry, true, 0.1, 10), meterRegistry,
+                false, 0.95, 10, 1, Duration.ofMillis(10), Duration.ofSeconds(1));
+        when(delegate.getUserById(1L)).thenReturn(createUser(1L));
+
+        assertThat(client.getUserById(1L)).isNotNull();
+    }
+
+    /**
+     * One fast answer makes the hedge delay the 10 ms minimum
+     */
+    private void warmUp(HedgingUserServiceClient client, UserInfoDto user) {
+        when(delegate.getUserById(1L)).thenReturn(user);
+        client.getUserById(1L);
+        reset(delegate);
+    }
+
+    private HedgingUserServiceClient createClient(int budgetTokens) {
+        return new HedgingUserServiceClient(delegate, VIRTUAL_THREADS,
+                new RetryBudget(meterRegistry, true, 0.1, budgetTokens), meterRegistry,
+                true, 0.95, 10, 1, Duration.ofMillis(10), Duration.ofSeconds(1));
+    }
+
+    private double hedging(String result) {
+        return meterRegistry.counter(HedgingUserServiceClient.HEDGING_METRIC, "result", result).count();
+    }
+
+    private static UserInfoDto createUser(Long id) {
+        return UserInfoDto.builder()
+                .id(id)
+                .name("User " + id)
+                .email("user" + id + "@example.com")
+                .active(true)
+                .build();
+    }
+}
@@ -0,0 +1,153 @@
+package com.innowise.orderservice.client;
+
+import com.innowise.orderservice.client.dto.UserInfoDto;
+import com.innowise.orderservice.service.UserProjectionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProjectedUserServiceClient unit tests")
+class ProjectedUserServiceClientTest {
+
+    @Mock
+    private UserServiceClient delegate;
+
+    @Mock
+    private UserProjectionService userProjectionService;
+
+    @Mock
+    private UserServiceAvailability userServiceAvailability;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProjectedUserServiceClient client;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        client = new ProjectedUserServiceClient(delegate, userProjectionService, Runnable::run, userServiceAvailability,
+                meterRegistry, true);
+    }
+
+    @Nested
+    @DisplayName("getUserById tests")
+    class GetUserByIdTests {
+
+        @Test
+        @DisplayName("should answer from the projection without calling User Service")
+        void shouldReadProjection() {
+            UserInfoDto john = createUser(1L);
+            when(userProjectionService.findFresh(List.of(1L))).thenReturn(Map.of(1L, john));
+
+            UserInfoDto user = client.getUserById(1L);
+
+            assertThat(user).isEqualTo(john);
+            verifyNoInteractions(delegate, userServiceAvailability);
+            assertThat(lookups("hit")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("should call User Service on a miss and backfill the projection")
+        void shouldBackfill_WhenMissing() {
+            UserInfoDto john = createUser(1L);
+            when(userProjectionService.findFresh(List.of(1L))).thenReturn(Map.of());
+            when(delegate.getUserById(1L)).thenReturn(john);
+
+            UserInfoDto user = client.getUserById(1L);
+
+            assertThat(user).isEqualTo(john);
+            verify(userProjectionService).save(john);
+            verify(userServiceAvailability).answered();
+            assertThat(lookups("miss")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("should fall back to User Service when the projection cannot be read")
+        void shouldCallUserService_WhenProjectionFails() {
+            UserInfoDto john = createUser(1L);
+            when(userProjectionService.findFresh(List.of(1L))).thenThrow(new IllegalStateException("db down"));
+            when(delegate.getUserById(1L)).thenReturn(john);
+
+            assertThat(client.getUserById(1L)).isEqualTo(john);
+        }
+
+        @Test
+        @DisplayName("should return the user when the backfill fails")
+        void shouldIgnoreBackfillFailure() {
+            UserInfoDto john = createUser(1L);
+            when(userProjectionService.findFresh(List.of(1L))).thenReturn(Map.of());
+            when(delegate.getUserById(1L)).thenReturn(john);
+            doThrow(new IllegalStateException("db down")).when(userProjectionService).save(any());
+
+            assertThat(client.getUserById(1L)).isEqualTo(john);
+        }
+
+        @Test
+        @DisplayName("should bypass the projection when disabled")
+        void shouldBypass_WhenDisabled() {
+            client = new ProjectedUserServiceClient(delegate, userProjectionService, Runnable::run, userServiceAvailability,
+                meterRegistry, false);
+            when(delegate.getUserById(1L)).thenReturn(createUser(1L));
+
+            client.getUserById(1L);
+
+            verifyNoInteractions(userProjectionService);
+        }
+    }
+
+    @Nested
+    @DisplayName("getUsersByIds tests")
+    class GetUsersByIdsTests {
+
+        @Test
+        @DisplayName("should fetch only users missing from the projection")
+        void shouldFetchMissingOnly() {
+            UserInfoDto john = createUser(1L);
+            UserInfoDto jane = createUser(2L);
+            when(userProjectionService.findFresh(Set.of(1L, 2L))).thenReturn(Map.of(1L, john));
+            when(delegate.getUsersByIds(Set.of(2L))).thenReturn(List.of(jane));
+
+            List<UserInfoDto> users = client.getUsersByIds(Set.of(1L, 2L));
+
+            assertThat(users).containsExactlyInAnyOrder(john, jane);
+            verify(userProjectionService).save(jane);
+            verify(userProjectionService, never()).save(john);
+        }
+
+        @Test
+        @DisplayName("should not call User Service when every user is projected")
+        void shouldNotCallUserService_WhenAllProjected() {
+            UserInfoDto john = createUser(1L);
+            when(userProjectionService.findFresh(Set.of(1L))).thenReturn(Map.of(1L, john));
+
+            assertThat(client.getUsersByIds(Set.of(1L))).containsExactly(john);
+            verifyNoInteractions(delegate);
+        }
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.counter(ProjectedUserServiceClient.LOOKUPS_METRIC, "result", result).count();
+    }
+
+    private static UserInfoDto createUser(Long id) {
+        return UserInfoDto.builder()
+                .id(id)
+                .name("User " + id)
+                .email("user" + id + "@example.com")
+                .active(true)
+                .build();
+    }
+}
@@ -0,0 +1,112 @@
+package com.innowise.orderservice.client;
+
+import feign.Request;
+import feign.RetryableException;
+import feign.Retryer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RetryBudget unit tests")
+class RetryBudgetTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Nested
+    @DisplayName("tryRetry tests")
+    class TryRetryTests {
+
+        @Test
+        @DisplayName("should allow a burst of max tokens retries and deny the next one")
+        void shouldDeny_WhenBudgetExhausted() {
+            RetryBudget retryBudget = new RetryBudget(meterRegistry, true, 0.1, 3);
+
+            assertThat(retryBudget.tryRetry()).isTrue();
+            assertThat(retryBudget.tryRetry()).isTrue();
+            assertThat(retryBudget.tryRetry()).isTrue();
+            assertThat(retryBudget.tryRetry()).isFalse();
+
+            assertThat(meterRegistry.counter(RetryBudget.RETRIES_METRIC, "result", "denied").count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("should earn one retry per ten requests with ratio 0.1")
+        void shouldEarnRetries_FromRequests() {
+            RetryBudget retryBudget = new RetryBudget(meterRegistry, true, 0.1, 1);
+            assertThat(retryBudget.tryRetry()).isTrue();
+
+            for (int i = 0; i < 9; i++) {
+                retryBudget.onRequest();
+            }
+            assertThat(retryBudget.tryRetry()).isFalse();
+
+            retryBudget.onRequest();
+            assertThat(retryBudget.tryRetry()).isTrue();
+            assertThat(retryBudget.tryRetry()).isFalse();
+        }
+
+        @Test
+        @DisplayName("should always allow retries when disabled")
+        void shouldAllow_WhenDisabled() {
+            RetryBudget retryBudget = new RetryBudget(meterRegistry, false, 0.1, 0);
+
+            assertThat(retryBudget.tryRetry()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("BudgetedRetryer tests")
+    class BudgetedRetryerTests {
+
+        @Test
+        @DisplayName("should propagate the failure without backoff once the budget is exhausted")
+        void shouldPropagateImmediately_WhenBudgetExhausted() {
+            RetryBudget retryBudget = new RetryBudget(meterRegistry, true, 0.1, 1);
+            Retryer retryer = new BudgetedRetryer(retryBudget, 1, 1, 5).clone();
+            RetryableException failure = retryableException();
+            retryer.continueOrPropagate(failure);
+
+            Retryer slowRetryer = new BudgetedRetryer(retryBudget, 10_000, 10_000, 5).clone();
+            long start = System.nanoTime();
+
+            assertThatThrownBy(() -> slowRetryer.continueOrPropagate(failure)).isSameAs(failure);
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+        }
+
+        @Test
+        @DisplayName("should not spend a token when attempts are exhausted")
+        void shouldNotSpendToken_WhenAttemptsExhausted() {
+            RetryBudget retryBudget = new RetryBudget(meterRegistry, true, 0.1, 1);
+            Retryer retryer = new BudgetedRetryer(retryBudget, 1, 1, 1).clone();
+
+            assertThatThrownBy(() -> retryer.continueOrPropagate(retryableException()))
+                    .isInstanceOf(RetryableException.class);
+            assertThat(retryBudget.tryRetry()).isTrue();
+        }
+
+        @Test
+        @DisplayName("should not credit the budget when cloned")
+        void shouldNotCredit_WhenCloned() {
+            RetryBudget retryBudget = new RetryBudget(meterRegistry, true, 1.0, 1);
+            assertThat(retryBudget.tryRetry()).isTrue();
+
+            new BudgetedRetryer(retryBudget, 1, 1, 3).clone();
+
+            assertThat(retryBudget.tryRetry()).isFalse();
+        }
+    }
+
+    private static RetryableException retryableException() {
+        Request request = Request.create(Request.HttpMethod.GET, "/internal/users/1", Map.of(), null,
+                StandardCharsets.UTF_8, null);
+        return new RetryableException(-1, "Read timed out", Request.HttpMethod.GET, (Long) null, request);
+    }
+}
@@ -0,0 +1,63 @@
+package com.innowise.orderservice.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ForwardedAuthorization unit tests")
+class ForwardedAuthorizationTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("should hand the captured header to a task that runs after the request completed")
+    void shouldPropagateCapturedHeader() throws InterruptedException {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer token");
+        ServletRequestAttributes attributes = new ServletRequestAttributes(request);
+        RequestContextHolder.setRequestAttributes(attributes);
+
+        AtomicReference<String> seen = new AtomicReference<>();
+        Runnable task = ForwardedAuthorization.propagate(() -> seen.set(ForwardedAuthorization.current()));
+
+        attributes.requestCompleted();
+        RequestContextHolder.resetRequestAttributes();
+        Thread worker = Thread.ofVirtual().start(task);
+        worker.join();
+
+        assertThat(seen.get()).isEqualTo("Bearer token");
+    }
+
+    @Test
+    @DisplayName("should restore the attributes of a thread running the task inline")
+    void shouldRestorePreviousAttributes() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer token");
+        ServletRequestAttributes attributes = new ServletRequestAttributes(request);
+        RequestContextHolder.setRequestAttributes(attributes);
+
+        ForwardedAuthorization.propagate(() -> { }).run();
+
+        assertThat(RequestContextHolder.getRequestAttributes()).isSameAs(attributes);
+    }
+
+    @Test
+    @DisplayName("should forward nothing without a caller request")
+    void shouldReturnNull_WithoutRequest() {
+        AtomicReference<String> seen = new AtomicReference<>("unset");
+
+        ForwardedAuthorization.propagate(() -> seen.set(ForwardedAuthorization.current())).run();
+
+        assertThat(seen.get()).isNull();
+    }
+}
@@ -2,7 +2,10 @@ package com.innowise.orderservice.integration;
 
 import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.testcontainers.containers.KafkaContainer;
@@ -39,6 +42,14 @@ public class BaseIntegrationTest {
         wireMockServer.start();
     }
 
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void clearCaches() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
     @DynamicPropertySource
     static void dynamicProperties(DynamicPropertyRegistry registry) {
         // === DATASOURCE (из вашего yaml: spring.datasource) ===
@@ -2,6 +2,8 @@ package com.innowise.orderservice.integration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.tomakehurst.wiremock.client.WireMock;
+import com.innowise.orderservice.dto.order.OrderBatchEntryDto;
+import com.innowise.orderservice.dto.order.OrderBatchRequestDto;
 import com.innowise.orderservice.dto.order.OrderItemRequestDto;
 import com.innowise.orderservice.dto.order.OrderRequestDto;
 import com.innowise.orderservice.dto.order.OrderResponseDto;
@@ -9,8 +11,11 @@ import com.innowise.orderservice.dto.order.OrderUpdateDto;
 import com.innowise.orderservice.entity.Item;
 import com.innowise.orderservice.entity.Order;
 import com.innowise.orderservice.entity.OrderItem;
+import com.innowise.orderservice.entity.OrderOutboxEvent;
 import com.innowise.orderservice.enums.OrderStatus;
+import com.innowise.orderservice.enums.OutboxStatus;
 import com.innowise.orderservice.repository.ItemRepository;
+import com.innowise.orderservice.repository.OrderOutboxRepository;
 import com.innowise.orderservice.repository.OrderRepository;
 import jakarta.persistence.EntityManager;
 import org.hamcrest.Matchers;
@@ -26,7 +31,9 @@ import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
@@ -52,6 +59,9 @@ public class OrderControllerIT extends BaseIntegrationTest {
     @Autowired
     private ItemRepository itemRepository;
 
+    @Autowired
+    private OrderOutboxRepository orderOutboxRepository;
+
     @Autowired
     private EntityManager entityManager;
 
@@ -112,6 +122,36 @@ public class OrderControllerIT extends BaseIntegrationTest {
             wireMockServer.verify(WireMock.getRequestedFor(urlEqualTo("/internal/users/1")));
         }
 
+        @Test
+        @DisplayName("should store ORDER_CREATED event in outbox within order transaction")
+        void shouldStoreOrderCreatedEventInOutbox() throws Exception {
+            Item item = createAndSaveItem("Laptop", new BigDecimal("1500.00"));
+
+            stubUserServiceGetUserById(1L, true);
+
+            OrderRequestDto requestDto = OrderRequestDto.builder()
+                    .items(List.of(new OrderItemRequestDto(item.getId(), 2)))
+                    .build();
+
+            MvcResult result = mockMvc.perform(post("/api/v1/orders")
+                            .header("X-Service-Key", TEST_SERVICE_KEY)
+                            .header("X-User-Id", "1")
+                            .header("X-User-Email", "user@example.com")
+                            .header("X-User-Role", "USER")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(requestDto)))
+                    .andExpect(status().isCreated())
+                    .andReturn();
+
+            OrderResponseDto createdOrder = objectMapper.readValue(
+                    result.getResponse().getContentAsString(), OrderResponseDto.class);
+
+            List<OrderOutboxEvent> outboxEvents = orderOutboxRepository.findByOrderId(createdOrder.id());
+            assertThat(outboxEvents).hasSize(1);
+            assertThat(outboxEvents.get(0).getEventType()).isEqualTo("ORDER_CREATED");
+            assertThat(outboxEvents.get(0).getStatus()).isEqualTo(OutboxStatus.PENDING);
+        }
+
         @Test
         @DisplayName("should return 400 when user is inactive")
         void shouldReturn400_WhenUserInactive() throws Exception {
@@ -176,11 +216,12 @@ public class OrderControllerIT extends BaseIntegrationTest {
         }
 
         @Test
-        @DisplayName("should handle user service unavailable")
+        @DisplayName("should reject order for unverified user while user service is unavailable")
         void shouldHandleUserServiceUnavailable() throws Exception {
             Item item = createAndSaveItem("Laptop", new BigDecimal("1500.00"));
+            long unknownUserId = 4242L;
 
-            wireMockServer.stubFor(WireMock.get(urlEqualTo("/internal/users/1"))
+            wireMockServer.stubFor(WireMock.get(urlEqualTo("/internal/users/" + unknownUserId))
                     .willReturn(aResponse()
                             .withStatus(500)
                             .withHeader("Content-Type", "application/json")));
@@ -190,6 +231,52 @@ public class OrderControllerIT extends BaseIntegrationTest {
                     .items(List.of(itemDto))
                     .build();
 
+            mockMvc.perform(post("/api/v1/orders")
+                            .header("X-Service-Key", TEST_SERVICE_KEY)
+                            .header("X-User-Id", String.valueOf(unknownUserId))
+                            .header("X-User-Email", "user@example.com")
+                            .header("X-User-Role", "USER")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(requestDto)))
+                    .andExpect(status().isServiceUnavailable());
+
+            assertThat(orderRepository.findAll()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should resolve items with constant number of queries regardless of line count")
+        void shouldResolveItemsWithConstantQueryCount() throws Exception {
+            stubUserServiceGetUserById(1L, true);
+
+            List<OrderItemRequestDto> oneLine = List.of(
+                    new OrderItemRequestDto(createAndSaveItem("Item 0", new BigDecimal("10.00")).getId(), 1)
+            );
+            List<OrderItemRequestDto> manyLines = new ArrayList<>();
+            for (int i = 1; i <= 20; i++) {
+                Item item = createAndSaveItem("Item " + i, new BigDecimal("10.00"));
+                manyLines.add(new OrderItemRequestDto(item.getId(), i));
+            }
+
+            int oneLineSelects = countSelectsForCreateOrder(oneLine);
+            int manyLinesSelects = countSelectsForCreateOrder(manyLines);
+
+            assertThat(manyLinesSelects).isEqualTo(oneLineSelects);
+        }
+
+        @Test
+        @DisplayName("should merge duplicate item ids into one order line")
+        void shouldMergeDuplicateItemIds() throws Exception {
+            Item item = createAndSaveItem("Laptop", new BigDecimal("1500.00"));
+
+            stubUserServiceGetUserById(1L, true);
+
+            OrderRequestDto requestDto = OrderRequestDto.builder()
+                    .items(List.of(
+                            new OrderItemRequestDto(item.getId(), 1),
+                            new OrderItemRequestDto(item.getId(), 2)
+                    ))
+                    .build();
+
             mockMvc.perform(post("/api/v1/orders")
                             .header("X-Service-Key", TEST_SERVICE_KEY)
                             .header("X-User-Id", "1")
@@ -198,7 +285,96 @@ public class OrderControllerIT extends BaseIntegrationTest {
                             .contentType(MediaType.APPLICATION_JSON)
                             .content(objectMapper.writeValueAsString(requestDto)))
                     .andExpect(status().isCreated())
-                    .andExpect(jsonPath("$.user.name").value("Unavailable"));
+                    .andExpect(jsonPath("$.items.length()").value(1))
+                    .andExpect(jsonPath("$.items[0].quantity").value(3))
+                    .andExpect(jsonPath("$.totalPrice").value(4500.00));
+        }
+
+        private int countSelectsForCreateOrder(List<OrderItemRequestDto> items) throws Exception {
+            entityManager.flush();
+            entityManager.clear();
+            SqlStatementCounter.reset();
+
+            mockMvc.perform(post("/api/v1/orders")
+                            .header("X-Service-Key", TEST_SERVICE_KEY)
+                            .header("X-User-Id", "1")
+                            .header("X-User-Email", "user@example.com")
+                            .header("X-User-Role", "USER")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new OrderRequestDto(items))))
+                    .andExpect(status().isCreated());
+
+            return SqlStatementCounter.selects();
+        }
+    }
+
+    @Nested
+    @DisplayName("Test POST /api/v1/orders/batch")
+    class CreateOrdersBatchTests {
+
+        @Test
+        @DisplayName("should create valid orders and report failed ones")
+        void shouldCreateBatchWithPartialFailure() throws Exception {
+            Item item = createAndSaveItem("Laptop", new BigDecimal("1500.00"));
+
+            stubUserServiceGetUserById(1L, true);
+            stubUserServiceGetUserById(2L, true);
+
+            OrderBatchRequestDto requestDto = OrderBatchRequestDto.builder()
+                    .orders(List.of(
+                            createBatchEntry(1L, item.getId(), 1),
+                            createBatchEntry(2L, item.getId(), 2),
+                            createBatchEntry(1L, 999L, 1)
+                    ))
+                    .build();
+
+            mockMvc.perform(post("/api/v1/orders/batch")
+                            .header("X-Service-Key", TEST_SERVICE_KEY)
+                            .header("X-User-Id", "999")
+                            .header("X-User-Email", "admin@example.com")
+                            .header("X-User-Role", "ADMIN")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(requestDto)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.created").value(2))
+                    .andExpect(jsonPath("$.failed").value(1))
+                    .andExpect(jsonPath("$.results.length()").value(3))
+                    .andExpect(jsonPath("$.results[0].success").value(true))
+                    .andExpect(jsonPath("$.results[1].totalPrice").value(3000.00))
+                    .andExpect(jsonPath("$.results[2].success").value(false))
+                    .andExpect(jsonPath("$.results[2].error").value(Matchers.containsString("Item not found")));
+
+            entityManager.flush();
+
+            assertThat(orderRepository.findByUserIdAndDeletedFalse(1L)).hasSize(1);
+            assertThat(orderRepository.findByUserIdAndDeletedFalse(2L)).hasSize(1);
+            wireMockServer.verify(1, WireMock.getRequestedFor(urlEqualTo("/internal/users/1")));
+        }
+
+        @Test
+        @DisplayName("should return 403 when regular user tries to create batch")
+        void shouldReturn403_WhenRegularUserCreatesBatch() throws Exception {
+            OrderBatchRequestDto requestDto = OrderBatchRequestDto.builder()
+                    .orders(List.of(createBatchEntry(1L, 1L, 1)))
+                    .build();
+
+            mockMvc.perform(post("/api/v1/orders/batch")
+                            .header("X-Service-Key", TEST_SERVICE_KEY)
+                            .header("X-User-Id", "1")
+                            .header("X-User-Email", "user@example.com")
+                            .header("X-User-Role", "USER")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(requestDto)))
+                    .andExpect(status().isForbidden());
+        }
+
+        private OrderBatchEntryDto createBatchEntry(Long userId, Long itemId, int quantity) {
+            return OrderBatchEntryDto.builder()
+                    .userId(userId)
+                    .order(OrderRequestDto.builder()
+                            .items(List.of(new OrderItemRequestDto(itemId, quantity)))
+                            .build())
+                    .build();
         }
     }
 
@@ -337,6 +513,194 @@ public class OrderControllerIT extends BaseIntegrationTest {
                     .andExpect(jsonPath("$.content.length()").value(1))
                     .andExpect(jsonPath("$.content[0].status").value("PENDING"));
         }
+
+        @Test
+        @DisplayName("should fetch page users with one batch request")
+        void shouldFetchPageUsersWithOneBatchRequest() throws Exception {
+            Item item = createAndSaveItem("Laptop", new BigDecimal("1500.00"));
+            for (long userId = 1; userId <= 5; userId++) {
+                createAndSaveOrder(userId, item, 1);
+                createAndSaveOrder(userId, item, 2);
+            }
+
+            stubUserServiceGetUsersByIds(List.of(1L, 2L, 3L, 4L, 5L));
+
+            mockMvc.perform(get("/api/v1/orders")
+                            .header("X-Service-Key", TEST_SERVICE_KEY)
+                            .header("X-User-Id", "999")
+                            .header("X-User-Email", "admin@example.com")
+                            .header("X-User-Role", "ADMIN")
+                            .param("page", "0")
+                            .param("size", "10"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content.length()").value(10))
+                    .andExpect(jsonPath("$.content[*].user.name", Matchers.everyItem(Matchers.is("John"))));
+
+            wireMockServer.verify(1, WireMock.getRequestedFor(WireMock.urlPathEqualTo("/internal/users")));
+            wireMockServer.verify(0, WireMock.getRequestedFor(WireMock.urlPathMatching("/internal/users/\\d+")));
+        }
+
+        @Test
+        @DisplayName("should fall back to single lookups when batch route is missing")
+        void shouldFallBackToSingleLookups_WhenBatchRouteMissing() throws Exception {
+            Item item = createAndSaveItem("Laptop", new BigDecimal("1500.00"));
+            createAndSaveOrder(1L, item, 1);
+            createAndSaveOrder(2L, item, 1);
+            createAndSaveOrder(2L, item, 2);
+
+            stubUserServiceGetUserById(1L, true);
+            stubUserServiceGetUserById(2L, true);
+
+            mockMvc.perform(get("/api/v1/orders")
+                            .header("X-Service-Key", TEST_SERVICE_KEY)
+                            .header("X-User-Id", "999")
+                            .header("X-User-Email", "admin@example.com")
+                            .header("X-User-Role", "ADMIN"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content.length()").value(3))
+                    .andExpect(jsonPath("$.content[*].user.name", Matchers.everyItem(Matchers.is("John"))));
+
+            wireMockServer.verify(1, WireMock.getRequestedFor(urlEqualTo("/internal/users/1")));
+            wireMockServer.verify(1, WireMock.getRequestedFor(urlEqualTo("/internal/users/2")));
+        }
+
+        @Test
+        @DisplayName("should list orders of a user unknown to user service without user info")
+        void shouldListOrders_WhenUserDeleted() throws Exception {
+            Item item = createAndSaveItem("Laptop", new BigDecimal("1500.00"));
+            long deletedUserId = 7001L;
+            createAndSaveOrder(1L, item, 1);
+            createAndSaveOrder(deletedUserId, item, 1);
+
+            stubUserServiceGetUsersByIds(List.of(1L));
+            wireMockServer.stubFor(WireMock.get(urlEqualTo("/internal/users/" + deletedUserId))
+                    .willReturn(aResponse()
+                            .withStatus(404)
+                            .withHeader("Content-Type", "application/json")));
+
+            mockMvc.perform(get("/api/v1/orders")
+                            .header("X-Service-Key", TEST_SERVICE_KEY)
+                            .header("X-User-Id", "999")
+                            .header("X-User-Email", "admin@example.com")
+                            .header("X-User-Role", "ADMIN"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content.length()").value(2))
+                    .andExpect(jsonPath("$.content[?(@.userId == 1)].user.name").value("John"))
+                    .andExpect(jsonPath("$.content[?(@.userId == " + deletedUserId + ")].user").value(
+                            Matchers.everyItem(Matchers.nullValue())));
+
+            wireMockServer.verify(1, WireMock.getRequestedFor(urlEqualTo("/internal/users/" + deletedUserId)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Test GET /api/v1/orders/scroll")
+    class ScrollAllOrdersTests {
+
+        @Test
+        @DisplayName("should walk all orders with continuation tokens")
+        void shouldScrollAllOrders_WithContinuationTokens() throws Exception {
+            Item item = createAndSaveItem("Laptop", new BigDecimal("1500.00"));
+            List<Long> orderIds = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                orderIds.add(createAndSaveOrder(1L, item, 1).getId());
+            }
+
+            stubUserServiceGetUsersByIds(List.of(1L));
+
+            List<Long> scrolledIds = new ArrayList<>();
+            String cursor = null;
+            int pages = 0;
+            do {
+                var request = get("/api/v1/orders/scroll")
+                        .header("X-Service-Key", TEST_SERVICE_KEY)
+                        .header("X-User-Id", "999")
+                        .header("X-User-Email", "admin@example.com")
+                        .header("X-User-Role", "ADMIN")
+                        .param("size", "2");
+                if (cursor != null) {
+                    request.param("cursor", cursor);
+                }
+
+                MvcResult result = mockMvc.perform(request)
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.totalElements").doesNotExist())
+                        .andReturn();
+
+                var page = objectMapper.readTree(result.getResponse().getContentAsString());
+                page.get("content").forEach(order -> scrolledIds.add(order.get("id").asLong()));
+                cursor = page.get("hasNext").asBoolean() ? page.get("nextCursor").asText() : null;
+                pages++;
+            } while (cursor != null);
+
+            assertThat(pages).isEqualTo(3);
+            assertThat(scrolledIds).containsExactlyElementsOf(orderIds);
+        }
+
+        @Test
+        @DisplayName("should return 400 when cursor is malformed")
+        void shouldReturn400_WhenCursorMalformed() throws Exception {
+            mockMvc.perform(get("/api/v1/orders/scroll")
+                            .header("X-Service-Key", TEST_SERVICE_KEY)
+                            .header("X-User-Id", "999")
+                            .header("X-User-Email", "admin@example.com")
+                            .header("X-User-Role", "ADMIN")
+                            .param("cursor", "not-a-cursor"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("Test GET /api/v1/orders/user/{userId}/scroll")
+    class ScrollOrdersByUserIdTests {
+
+        @Test
+        @DisplayName("should return only owner's orders page by page")
+        void shouldScrollOrdersByUserId_WhenAuthenticatedAsOwner() throws Exception {
+            Item item = createAndSaveItem("Laptop", new BigDecimal("1500.00"));
+            Order first = createAndSaveOrder(1L, item, 1);
+            createAndSaveOrder(2L, item, 1);
+            Order second = createAndSaveOrder(1L, item, 2);
+
+            stubUserServiceGetUserById(1L, true);
+
+            MvcResult result = mockMvc.perform(get("/api/v1/orders/user/{userId}/scroll", 1L)
+                            .header("X-Service-Key", TEST_SERVICE_KEY)
+                            .header("X-User-Id", "1")
+                            .header("X-User-Email", "user@example.com")
+                            .header("X-User-Role", "USER")
+                            .param("size", "1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content.length()").value(1))
+                    .andExpect(jsonPath("$.content[0].id").value(first.getId()))
+                    .andExpect(jsonPath("$.hasNext").value(true))
+                    .andReturn();
+
+            String cursor = objectMapper.readTree(result.getResponse().getContentAsString())
+                    .get("nextCursor").asText();
+
+            mockMvc.perform(get("/api/v1/orders/user/{userId}/scroll", 1L)
+                            .header("X-Service-Key", TEST_SERVICE_KEY)
+                            .header("X-User-Id", "1")
+                            .header("X-User-Email", "user@example.com")
+                            .header("X-User-Role", "USER")
+                            .param("size", "1")
+                            .param("cursor", cursor))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content[0].id").value(second.getId()))
+                    .andExpect(jsonPath("$.hasNext").value(false));
+        }
+
+        @Test
+        @DisplayName("should return 403 when user scrolls another user's orders")
+        void shouldReturn403_WhenUserScrollsAnotherUsersOrders() throws Exception {
+            mockMvc.perform(get("/api/v1/orders/user/{userId}/scroll", 2L)
+                            .header("X-Service-Key", TEST_SERVICE_KEY)
+                            .header("X-User-Id", "1")
+                            .header("X-User-Email", "user@example.com")
+                            .header("X-User-Role", "USER"))
+                    .andExpect(status().isForbidden());
+        }
     }
 
     @Nested
@@ -731,6 +1095,20 @@ public class OrderControllerIT extends BaseIntegrationTest {
         return orderRepository.save(savedOrder);
     }
 
+    private void stubUserServiceGetUsersByIds(List<Long> userIds) {
+        String usersJson = userIds.stream()
+                .map(userId -> String.format("""
+                        {"id": %d, "name": "John", "surname": "Doe", "email": "john@example.com", "active": true}
+                        """, userId))
+                .collect(Collectors.joining(",", "[", "]"));
+
+        wireMockServer.stubFor(WireMock.get(WireMock.urlPathEqualTo("/internal/users"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(usersJson)));
+    }
+
     private void stubUserServiceGetUserById(Long userId, boolean active) {
         String userJson = String.format("""
                 {
@@ -0,0 +1,155 @@
+package com.innowise.orderservice.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.innowise.orderservice.config.CacheConfig;
+import com.innowise.orderservice.dto.order.OrderItemRequestDto;
+import com.innowise.orderservice.dto.order.OrderRequestDto;
+import com.innowise.orderservice.entity.Item;
+import com.innowise.orderservice.repository.ItemRepository;
+import com.innowise.orderservice.repository.OrderRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Latency of POST /api/v1/orders with a User Service delayed by WireMock. Requests with a cached user
+ * give the cost of item loading, pricing and the write; with the user lookup overlapping item loading,
+ * an uncached request should cost about the lookup delay plus the write instead of the sum of both.
+ * Disabled by default, run with {@code mvn verify -Dit.test=OrderCreateLatencyBenchmarkIT -Dbenchmark=true}.
+ */
+@Slf4j
+@AutoConfigureMockMvc
+@DisplayName("Order create latency benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class OrderCreateLatencyBenchmarkIT extends BaseIntegrationTest {
+
+    private static final int USER_SERVICE_DELAY_MS = 150;
+    private static final int ITEMS_PER_ORDER = 200;
+    private static final int WARMUP_REQUESTS = 10;
+    private static final int REQUESTS = 30;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private String requestBody;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        orderRepository.deleteAll();
+        itemRepository.deleteAll();
+        wireMockServer.resetAll();
+
+        wireMockServer.stubFor(WireMock.get(urlEqualTo("/internal/users/1"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withFixedDelay(USER_SERVICE_DELAY_MS)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("""
+                                {"id": 1, "name": "John", "surname": "Doe", "email": "john@example.com", "active": true}
+                                """)));
+
+        List<Item> items = itemRepository.saveAll(IntStream.range(0, ITEMS_PER_ORDER)
+                .mapToObj(i -> Item.builder()
+                        .name("Benchmark item " + i)
+                        .price(new BigDecimal("10.00"))
+                        .build())
+                .toList());
+
+        requestBody = objectMapper.writeValueAsString(OrderRequestDto.builder()
+                .items(items.stream()
+                        .map(item -> new OrderItemRequestDto(item.getId(), 1))
+                        .toList())
+                .build());
+    }
+
+    @Test
+    @DisplayName("should overlap the user lookup with item loading")
+    void shouldOverlapUserLookupWithItemLoading() throws Exception {
+        for (int i = 0; i < WARMUP_REQUESTS; i++) {
+            createOrder(false);
+        }
+
+        long[] cachedUser = measure(true);
+        long[] uncachedUser = measure(false);
+
+        double cachedUserP50 = millis(cachedUser[REQUESTS / 2]);
+        double uncachedUserP50 = millis(uncachedUser[REQUESTS / 2]);
+        double sequentialEstimate = USER_SERVICE_DELAY_MS + cachedUserP50;
+
+        log.info("User Service delay {} ms, {} items: cached user p50 {} ms, uncached user p50 {} ms p99 {} ms, "
+                        + "sequential estimate {} ms, saved {} ms",
+                USER_SERVICE_DELAY_MS, ITEMS_PER_ORDER,
+                String.format("%.2f", cachedUserP50),
+                String.format("%.2f", uncachedUserP50),
+                String.format("%.2f", millis(uncachedUser[REQUESTS - 1])),
+                String.format("%.2f", sequentialEstimate),
+                String.format("%.2f", sequentialEstimate - uncachedUserP50));
+
+        assertThat(uncachedUserP50).isGreaterThanOrEqualTo(USER_SERVICE_DELAY_MS);
+        assertThat(uncachedUserP50).isLessThan(sequentialEstimate);
+    }
+
+    /**
+     * @return sorted request latencies in nanoseconds
+     */
+    private long[] measure(boolean cachedUser) throws Exception {
+        long[] latencies = new long[REQUESTS];
+        for (int i = 0; i < REQUESTS; i++) {
+            latencies[i] = createOrder(cachedUser);
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private long createOrder(boolean cachedUser) throws Exception {
+        if (!cachedUser) {
+            cacheManager.getCache(CacheConfig.USERS_CACHE).clear();
+        }
+
+        long start = System.nanoTime();
+        mockMvc.perform(post("/api/v1/orders")
+                        .header("X-Service-Key", TEST_SERVICE_KEY)
+                        .header("X-User-Id", "1")
+                        .header("X-User-Email", "user@example.com")
+                        .header("X-User-Role", "USER")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andExpect(status().isCreated());
+        return System.nanoTime() - start;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
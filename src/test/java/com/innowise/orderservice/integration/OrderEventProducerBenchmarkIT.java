@@ -0,0 +1,139 @@
+package com.innowise.orderservice.integration;
+
+import com.innowise.orderservice.config.KafkaProducerProfile;
+import com.innowise.orderservice.dto.order.OrderCreatedEventDto;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.testcontainers.containers.KafkaContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Throughput of ORDER_CREATED publishing for every producer profile against a local Kafka container.
+ * Records are sent asynchronously, as the outbox relay does, and the result is logged as events/s
+ * and p50/p99 of send-to-ack latency. Disabled by default, run with
+ * {@code mvn verify -Dit.test=OrderEventProducerBenchmarkIT -Dbenchmark=true}.
+ */
+@Slf4j
+@DisplayName("Order event producer benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class OrderEventProducerBenchmarkIT {
+
+    private static final int WARMUP_EVENTS = 5_000;
+    private static final int EVENTS = 100_000;
+
+    private static final KafkaContainer kafkaContainer =
+            new KafkaContainer(DockerImageName.parse("confluentinc/cp-kafka:7.6.0"));
+
+    @BeforeAll
+    static void startKafka() {
+        kafkaContainer.start();
+    }
+
+    @AfterAll
+    static void stopKafka() {
+        kafkaContainer.stop();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @EnumSource(KafkaProducerProfile.class)
+    @DisplayName("should publish events with profile")
+    void shouldPublishEvents(KafkaProducerProfile profile) throws Exception {
+        String topic = "benchmark-order-events-" + profile.name().toLowerCase();
+
+        try (Producer<String, OrderCreatedEventDto> producer = createProducer(profile)) {
+            send(producer, topic, WARMUP_EVENTS, new long[WARMUP_EVENTS]);
+
+            long[] latencies = new long[EVENTS];
+            long start = System.nanoTime();
+            int failures = send(producer, topic, EVENTS, latencies);
+            long elapsed = System.nanoTime() - start;
+
+            Arrays.sort(latencies);
+            log.info("{}: {} events/s, p50 {} ms, p99 {} ms, compression rate {}",
+                    profile,
+                    Math.round(EVENTS / (elapsed / 1_000_000_000.0)),
+                    String.format("%.2f", latencies[EVENTS / 2] / 1_000_000.0),
+                    String.format("%.2f", latencies[(int) (EVENTS * 0.99)] / 1_000_000.0),
+                    String.format("%.2f", producerMetric(producer, "compression-rate-avg")));
+
+            assertThat(failures).isZero();
+        }
+    }
+
+    /**
+     * Sends events without waiting between records and blocks until every callback has fired
+     * @return number of failed sends
+     */
+    private int send(Producer<String, OrderCreatedEventDto> producer, String topic, int events, long[] latencies)
+            throws InterruptedException {
+        CountDownLatch completed = new CountDownLatch(events);
+        AtomicInteger failures = new AtomicInteger();
+
+        for (int i = 0; i < events; i++) {
+            int index = i;
+            long orderId = i + 1L;
+            OrderCreatedEventDto event = OrderCreatedEventDto.builder()
+                    .orderId(orderId)
+                    .userId(orderId % 1_000)
+                    .totalAmount(BigDecimal.valueOf(orderId % 10_000, 2))
+                    .eventType("ORDER_CREATED")
+                    .build();
+
+            long sentAt = System.nanoTime();
+            producer.send(new ProducerRecord<>(topic, String.valueOf(orderId), event), (metadata, ex) -> {
+                latencies[index] = System.nanoTime() - sentAt;
+                if (ex != null) {
+                    failures.incrementAndGet();
+                }
+                completed.countDown();
+            });
+        }
+
+        assertThat(completed.await(2, TimeUnit.MINUTES)).isTrue();
+        return failures.get();
+    }
+
+    private Producer<String, OrderCreatedEventDto> createProducer(KafkaProducerProfile profile) {
+        Map<String, Object> config = new HashMap<>();
+        config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaContainer.getBootstrapServers());
+        config.put(ProducerConfig.ACKS_CONFIG, "all");
+        config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        profile.applyTo(config);
+
+        return new KafkaProducer<>(config, new StringSerializer(), new JsonSerializer<>());
+    }
+
+    private double producerMetric(Producer<?, ?> producer, String name) {
+        return producer.metrics().entrySet().stream()
+                .filter(entry -> entry.getKey().group().equals("producer-metrics"))
+                .filter(entry -> entry.getKey().name().equals(name))
+                .map(Map.Entry::getValue)
+                .map(Metric::metricValue)
+                .filter(Double.class::isInstance)
+                .map(Double.class::cast)
+                .findFirst()
+                .orElse(Double.NaN);
+    }
+}
@@ -0,0 +1,107 @@
+package com.innowise.orderservice.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.innowise.orderservice.dto.order.OrderItemRequestDto;
+import com.innowise.orderservice.dto.order.OrderRequestDto;
+import com.innowise.orderservice.entity.Item;
+import com.innowise.orderservice.repository.ItemRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Measures INSERT round trips per created order. With IDENTITY ids every order line
+ * was a separate INSERT (N + 1 per order), with pooled sequences and JDBC batching
+ * the number only depends on the batch size.
+ */
+@Slf4j
+@AutoConfigureMockMvc
+@DisplayName("Order insert batching benchmark")
+@Transactional
+public class OrderInsertBatchingIT extends BaseIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
+    private int batchSize;
+
+    @BeforeEach
+    void setUp() {
+        wireMockServer.resetAll();
+        wireMockServer.stubFor(WireMock.get(urlEqualTo("/internal/users/1"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("""
+                                {"id": 1, "name": "John", "surname": "Doe", "email": "john@example.com", "active": true}
+                                """)));
+    }
+
+    @ParameterizedTest(name = "{0} order lines")
+    @ValueSource(ints = {1, 10, 50, 200})
+    @DisplayName("should insert order with a constant number of round trips per batch")
+    void shouldInsertOrderWithBatchedStatements(int lines) throws Exception {
+        List<OrderItemRequestDto> items = new ArrayList<>();
+        for (int i = 0; i < lines; i++) {
+            Item item = itemRepository.save(Item.builder()
+                    .name("Benchmark item " + lines + "-" + i)
+                    .price(new BigDecimal("10.00"))
+                    .build());
+            items.add(new OrderItemRequestDto(item.getId(), 1));
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        SqlStatementCounter.reset();
+
+        long start = System.nanoTime();
+        mockMvc.perform(post("/api/v1/orders")
+                        .header("X-Service-Key", TEST_SERVICE_KEY)
+                        .header("X-User-Id", "1")
+                        .header("X-User-Email", "user@example.com")
+                        .header("X-User-Role", "USER")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new OrderRequestDto(items))))
+                .andExpect(status().isCreated());
+        entityManager.flush();
+        long elapsedMicros = (System.nanoTime() - start) / 1_000;
+
+        int inserts = SqlStatementCounter.inserts();
+        log.info("Order with {} lines: {} insert round trips, {} sequence calls, {} us",
+                lines, inserts, SqlStatementCounter.sequenceCalls(), elapsedMicros);
+
+        // orders + order_outbox + one statement per order_items batch
+        int expectedMax = 2 + (int) Math.ceil((double) lines / batchSize);
+        assertThat(inserts).isLessThanOrEqualTo(expectedMax);
+    }
+}
@@ -0,0 +1,125 @@
+package com.innowise.orderservice.integration;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.innowise.orderservice.entity.Item;
+import com.innowise.orderservice.entity.Order;
+import com.innowise.orderservice.entity.OrderItem;
+import com.innowise.orderservice.repository.ItemRepository;
+import com.innowise.orderservice.repository.OrderRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Guards order listings against N+1 lazy loading: the number of SELECTs for a page
+ * must not depend on how many orders and order lines the page contains.
+ */
+@Slf4j
+@AutoConfigureMockMvc
+@DisplayName("Order listing query count tests")
+@Transactional
+public class OrderListingQueryCountIT extends BaseIntegrationTest {
+
+    private static final int ORDERS = 20;
+    private static final int LINES_PER_ORDER = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAll();
+        itemRepository.deleteAll();
+        wireMockServer.resetAll();
+
+        String user = """
+                {"id": 1, "name": "John", "surname": "Doe", "email": "john@example.com", "active": true}
+                """;
+        wireMockServer.stubFor(WireMock.get(urlEqualTo("/internal/users/1"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(user)));
+        wireMockServer.stubFor(WireMock.get(WireMock.urlPathEqualTo("/internal/users"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("[" + user + "]")));
+
+        for (int i = 0; i < ORDERS; i++) {
+            Order order = Order.builder()
+                    .userId(1L)
+                    .totalPrice(new BigDecimal("50.00"))
+                    .build();
+
+            for (int j = 0; j < LINES_PER_ORDER; j++) {
+                Item item = itemRepository.save(Item.builder()
+                        .name("Item " + i + "-" + j)
+                        .price(new BigDecimal("10.00"))
+                        .build());
+                order.getItems().add(OrderItem.builder()
+                        .order(order)
+                        .item(item)
+                        .quantity(1)
+                        .price(item.getPrice())
+                        .build());
+            }
+            orderRepository.save(order);
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"/api/v1/orders", "/api/v1/orders/scroll", "/api/v1/orders/user/1"})
+    @DisplayName("should load a page with a constant number of queries")
+    void shouldLoadPageWithConstantQueries(String path) throws Exception {
+        int singleOrderPage = countSelectsForPage(path, 1);
+        int fullPage = countSelectsForPage(path, ORDERS);
+
+        log.info("{}: {} selects for 1 order, {} selects for {} orders", path, singleOrderPage, fullPage, ORDERS);
+
+        assertThat(fullPage).isEqualTo(singleOrderPage);
+    }
+
+    private int countSelectsForPage(String path, int size) throws Exception {
+        entityManager.flush();
+        entityManager.clear();
+        SqlStatementCounter.reset();
+
+        mockMvc.perform(get(path)
+                        .header("X-Service-Key", TEST_SERVICE_KEY)
+                        .header("X-User-Id", "999")
+                        .header("X-User-Email", "admin@example.com")
+                        .header("X-User-Role", "ADMIN")
+                        .param("size", String.valueOf(size)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(size))
+                .andExpect(jsonPath("$.content[0].items.length()").value(LINES_PER_ORDER));
+
+        return SqlStatementCounter.selects();
+    }
+}
@@ -0,0 +1,81 @@
+package com.innowise.orderservice.integration;
+
+import com.innowise.orderservice.dto.order.OrderStatusUpdateResultDto;
+import com.innowise.orderservice.entity.Order;
+import com.innowise.orderservice.enums.OrderStatus;
+import com.innowise.orderservice.repository.OrderRepository;
+import com.innowise.orderservice.service.OrderService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Order status compare-and-set integration tests")
+public class OrderStatusCompareAndSetIT extends BaseIntegrationTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAll();
+        wireMockServer.resetAll();
+    }
+
+    @Test
+    @DisplayName("should apply allowed transition with a single update statement")
+    void shouldApplyAllowedTransition() {
+        Order order = saveOrder(OrderStatus.PENDING);
+
+        SqlStatementCounter.reset();
+        OrderStatusUpdateResultDto result = orderService.compareAndSetStatus(order.getId(), OrderStatus.PROCESSING);
+
+        assertThat(result.applied()).isTrue();
+        assertThat(SqlStatementCounter.updates()).isEqualTo(1);
+        assertThat(SqlStatementCounter.selects()).isZero();
+        assertThat(orderRepository.findById(order.getId()).orElseThrow().getOrderStatus())
+                .isEqualTo(OrderStatus.PROCESSING);
+        assertThat(wireMockServer.getAllServeEvents()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should not apply transition from a final status")
+    void shouldNotApplyTransition_FromFinalStatus() {
+        Order order = saveOrder(OrderStatus.CANCELLED);
+
+        OrderStatusUpdateResultDto result = orderService.compareAndSetStatus(order.getId(), OrderStatus.PROCESSING);
+
+        assertThat(result.applied()).isFalse();
+        assertThat(result.currentStatus()).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(orderRepository.findById(order.getId()).orElseThrow().getOrderStatus())
+                .isEqualTo(OrderStatus.CANCELLED);
+    }
+
+    @Test
+    @DisplayName("should not update deleted order")
+    void shouldNotApplyTransition_WhenOrderDeleted() {
+        Order order = saveOrder(OrderStatus.PENDING);
+        order.setDeleted(true);
+        orderRepository.save(order);
+
+        OrderStatusUpdateResultDto result = orderService.compareAndSetStatus(order.getId(), OrderStatus.PROCESSING);
+
+        assertThat(result.applied()).isFalse();
+        assertThat(result.currentStatus()).isNull();
+    }
+
+    private Order saveOrder(OrderStatus status) {
+        return orderRepository.save(Order.builder()
+                .userId(1L)
+                .orderStatus(status)
+                .totalPrice(new BigDecimal("10.00"))
+                .build());
+    }
+}
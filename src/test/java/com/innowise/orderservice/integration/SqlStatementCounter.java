@@ -0,0 +1,73 @@
+package com.innowise.orderservice.integration;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts SQL statements prepared by Hibernate, registered through
+ * hibernate.session_factory.statement_inspector in the test configuration.
+ * Batched statements are prepared once per batch, so inserts count JDBC round trips
+ * rather than rows. Sequence calls are counted separately because the pooled
+ * optimizer makes them depend on previous tests.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final AtomicInteger SELECTS = new AtomicInteger();
+    private static final AtomicInteger INSERTS = new AtomicInteger();
+    private static final AtomicInteger UPDATES = new AtomicInteger();
+    private static final AtomicInteger DELETES = new AtomicInteger();
+    private static final AtomicInteger SEQUENCE_CALLS = new AtomicInteger();
+
+    @Override
+    public String inspect(String sql) {
+        String statement = sql.stripLeading().toLowerCase(Locale.ROOT);
+
+        if (statement.contains("nextval(")) {
+            SEQUENCE_CALLS.incrementAndGet();
+        } else if (statement.startsWith("select") || statement.startsWith("with")) {
+            SELECTS.incrementAndGet();
+        } else if (statement.startsWith("insert")) {
+            INSERTS.incrementAndGet();
+        } else if (statement.startsWith("update")) {
+            UPDATES.incrementAndGet();
+        } else if (statement.startsWith("delete")) {
+            DELETES.incrementAndGet();
+        }
+
+        return sql;
+    }
+
+    public static void reset() {
+        SELECTS.set(0);
+        INSERTS.set(0);
+        UPDATES.set(0);
+        DELETES.set(0);
+        SEQUENCE_CALLS.set(0);
+    }
+
+    public static int selects() {
+        return SELECTS.get();
+    }
+
+    public static int inserts() {
+        return INSERTS.get();
+    }
+
+    public static int updates() {
+        return UPDATES.get();
+    }
+
+    public static int deletes() {
+        return DELETES.get();
+    }
+
+    public static int sequenceCalls() {
+        return SEQUENCE_CALLS.get();
+    }
+
+    public static int total() {
+        return selects() + inserts() + updates() + deletes();
+    }
+}
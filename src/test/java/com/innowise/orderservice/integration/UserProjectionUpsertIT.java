@@ -0,0 +1,90 @@
+package com.innowise.orderservice.integration;
+
+import com.innowise.orderservice.client.dto.UserInfoDto;
+import com.innowise.orderservice.entity.UserProjection;
+import com.innowise.orderservice.repository.UserProjectionRepository;
+import com.innowise.orderservice.service.UserProjectionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("User projection upsert integration tests")
+public class UserProjectionUpsertIT extends BaseIntegrationTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @Autowired
+    private UserProjectionService userProjectionService;
+
+    @Autowired
+    private UserProjectionRepository userProjectionRepository;
+
+    @BeforeEach
+    void setUp() {
+        userProjectionRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("should insert a new user from concurrent writers without a key violation")
+    void shouldInsertConcurrently() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<CompletableFuture<Void>> saves = IntStream.range(0, 8)
+                    .mapToObj(i -> CompletableFuture.runAsync(() -> {
+                        await(start);
+                        userProjectionService.save(createUser("john@example.com", UPDATED_AT));
+                    }, executor))
+                    .toList();
+
+            start.countDown();
+            CompletableFuture.allOf(saves.toArray(CompletableFuture[]::new)).join();
+        }
+
+        assertThat(userProjectionRepository.findAll())
+                .singleElement()
+                .extracting(UserProjection::getEmail)
+                .isEqualTo("john@example.com");
+    }
+
+    @Test
+    @DisplayName("should overwrite with newer data and keep the stored copy when data is older")
+    void shouldKeepNewestCopy() {
+        userProjectionService.save(createUser("old@example.com", UPDATED_AT));
+        userProjectionService.save(createUser("new@example.com", UPDATED_AT.plusMinutes(1)));
+        userProjectionService.save(createUser("stale@example.com", UPDATED_AT.minusMinutes(1)));
+
+        UserProjection projection = userProjectionRepository.findById(1L).orElseThrow();
+        assertThat(projection.getEmail()).isEqualTo("new@example.com");
+        assertThat(projection.getUpdatedAt()).isEqualTo(UPDATED_AT.plusMinutes(1));
+        assertThat(projection.getBirthDate()).isNull();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static UserInfoDto createUser(String email, LocalDateTime updatedAt) {
+        return UserInfoDto.builder()
+                .id(1L)
+                .name("John")
+                .email(email)
+                .active(true)
+                .updatedAt(updatedAt)
+                .build();
+    }
+}
@@ -0,0 +1,124 @@
+package com.innowise.orderservice.integration;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.innowise.orderservice.client.LastKnownUserStore;
+import com.innowise.orderservice.client.UserServiceClient;
+import com.innowise.orderservice.client.dto.UserInfoDto;
+import com.innowise.orderservice.config.CacheConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+@DisplayName("UserServiceClient cache integration tests")
+public class UserServiceClientCacheIT extends BaseIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserServiceClient userServiceClient;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        wireMockServer.resetAll();
+    }
+
+    @Test
+    @DisplayName("should call User Service once for repeated lookups")
+    void shouldCacheUserInfo() {
+        stubUser(1L);
+
+        UserInfoDto first = userServiceClient.getUserById(1L);
+        UserInfoDto second = userServiceClient.getUserById(1L);
+
+        assertThat(second).isEqualTo(first);
+        wireMockServer.verify(1, WireMock.getRequestedFor(urlEqualTo("/internal/users/1")));
+    }
+
+    @Test
+    @DisplayName("should not cache fallback response")
+    void shouldNotCacheFallbackResponse() {
+        wireMockServer.stubFor(WireMock.get(urlEqualTo("/internal/users/2"))
+                .willReturn(aResponse().withStatus(500)));
+
+        UserInfoDto fallback = userServiceClient.getUserById(2L);
+        assertThat(LastKnownUserStore.isUnknown(fallback)).isTrue();
+        assertThat(fallback.name()).isNull();
+
+        wireMockServer.resetAll();
+        stubUser(2L);
+
+        UserInfoDto real = userServiceClient.getUserById(2L);
+        assertThat(real.name()).isEqualTo("John");
+    }
+
+    @Test
+    @DisplayName("should serve last known user while User Service fails")
+    void shouldServeLastKnownUser_WhenUserServiceFails() {
+        stubUser(5L);
+        userServiceClient.getUserById(5L);
+        cacheManager.getCache(CacheConfig.USERS_CACHE).evict(5L);
+
+        wireMockServer.resetAll();
+        wireMockServer.stubFor(WireMock.get(urlEqualTo("/internal/users/5"))
+                .willReturn(aResponse().withStatus(500)));
+
+        UserInfoDto stale = userServiceClient.getUserById(5L);
+
+        assertThat(stale.name()).isEqualTo("John");
+        assertThat(stale.active()).isTrue();
+    }
+
+    @Test
+    @DisplayName("should reload user after admin invalidates cache entry")
+    void shouldReloadUser_AfterEviction() throws Exception {
+        stubUser(3L);
+        userServiceClient.getUserById(3L);
+
+        mockMvc.perform(delete("/api/v1/admin/user-cache/{userId}", 3L)
+                        .header("X-Service-Key", TEST_SERVICE_KEY)
+                        .header("X-User-Id", "999")
+                        .header("X-User-Email", "admin@example.com")
+                        .header("X-User-Role", "ADMIN"))
+                .andExpect(status().isNoContent());
+
+        userServiceClient.getUserById(3L);
+
+        wireMockServer.verify(2, WireMock.getRequestedFor(urlEqualTo("/internal/users/3")));
+    }
+
+    @Test
+    @DisplayName("should return 403 when regular user invalidates cache")
+    void shouldReturn403_WhenRegularUserEvicts() throws Exception {
+        mockMvc.perform(delete("/api/v1/admin/user-cache/{userId}", 3L)
+                        .header("X-Service-Key", TEST_SERVICE_KEY)
+                        .header("X-User-Id", "1")
+                        .header("X-User-Email", "user@example.com")
+                        .header("X-User-Role", "USER"))
+                .andExpect(status().isForbidden());
+    }
+
+    private void stubUser(Long userId) {
+        wireMockServer.stubFor(WireMock.get(urlEqualTo("/internal/users/" + userId))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(String.format("""
+                                {"id": %d, "name": "John", "surname": "Doe", "email": "john@example.com", "active": true}
+                                """, userId))));
+    }
+}
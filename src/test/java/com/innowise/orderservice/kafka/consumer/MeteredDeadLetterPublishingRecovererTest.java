@@ -0,0 +1,76 @@
+package com.innowise.orderservice.kafka.consumer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.listener.ListenerExecutionFailedException;
+import org.springframework.kafka.support.SendResult;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MeteredDeadLetterPublishingRecoverer unit tests")
+class MeteredDeadLetterPublishingRecovererTest {
+
+    @Mock
+    private KafkaOperations<Object, Object> kafkaOperations;
+
+    @Mock
+    private SendResult<Object, Object> sendResult;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PaymentEventMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new PaymentEventMetrics(meterRegistry);
+        when(kafkaOperations.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(sendResult));
+    }
+
+    @Test
+    @DisplayName("should count records forwarded to a retry topic")
+    void shouldCountRetry() {
+        recoverTo("payment-events-retry-0");
+
+        assertThat(meterRegistry.get(PaymentEventMetrics.RETRY_METRIC)
+                .tag("topic", "payment-events-retry-0")
+                .tag("exception", "IllegalStateException")
+                .counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.find(PaymentEventMetrics.DLT_METRIC).counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("should count records forwarded to the dead-letter topic")
+    void shouldCountDeadLetter() {
+        recoverTo("payment-events-dlt");
+        recoverTo("payment-events-dlt");
+
+        assertThat(meterRegistry.get(PaymentEventMetrics.DLT_METRIC)
+                .tag("topic", "payment-events-dlt")
+                .counter().count()).isEqualTo(2);
+    }
+
+    private void recoverTo(String topic) {
+        MeteredDeadLetterPublishingRecoverer recoverer = new MeteredDeadLetterPublishingRecoverer(
+                producerRecord -> kafkaOperations,
+                (consumerRecord, exception) -> new TopicPartition(topic, -1),
+                metrics,
+                "-dlt"
+        );
+        recoverer.accept(new ConsumerRecord<>("payment-events", 0, 0L, "1", "{}"),
+                new ListenerExecutionFailedException("listener failed", new IllegalStateException("db down")));
+    }
+}
@@ -0,0 +1,235 @@
+package com.innowise.orderservice.kafka.consumer;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.MessageListenerContainer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentEventBackpressureController unit tests")
+class PaymentEventBackpressureControllerTest {
+
+    private static final String TOPIC = "payment-events";
+    private static final int POOL_SIZE = 10;
+
+    @Mock
+    private HikariDataSource dataSource;
+
+    @Mock
+    private HikariPoolMXBean pool;
+
+    @Mock
+    private KafkaListenerEndpointRegistry listenerEndpointRegistry;
+
+    @Mock
+    private MessageListenerContainer mainContainer;
+
+    @Mock
+    private MessageListenerContainer retryContainer;
+
+    @Mock
+    private MessageListenerContainer dltContainer;
+
+    private MeterRegistry meterRegistry;
+    private PaymentEventBackpressureController controller;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        meterRegistry = new SimpleMeterRegistry();
+        controller = createController(true);
+
+        lenient().when(dataSource.isWrapperFor(HikariDataSource.class)).thenReturn(true);
+        lenient().when(dataSource.unwrap(HikariDataSource.class)).thenReturn(dataSource);
+        lenient().when(dataSource.getHikariPoolMXBean()).thenReturn(pool);
+        lenient().when(dataSource.getMaximumPoolSize()).thenReturn(POOL_SIZE);
+        lenient().when(pool.getTotalConnections()).thenReturn(POOL_SIZE);
+
+        lenient().when(mainContainer.getContainerProperties()).thenReturn(new ContainerProperties(TOPIC));
+        lenient().when(retryContainer.getContainerProperties()).thenReturn(new ContainerProperties(TOPIC + "-retry-0"));
+        lenient().when(dltContainer.getContainerProperties()).thenReturn(new ContainerProperties(TOPIC + "-dlt"));
+        lenient().when(listenerEndpointRegistry.getListenerContainers())
+                .thenReturn(List.of(mainContainer, retryContainer, dltContainer));
+    }
+
+    @Nested
+    @DisplayName("pause tests")
+    class PauseTests {
+
+        @Test
+        @DisplayName("should pause main and retry listeners when the pool is saturated")
+        void shouldPause_WhenPoolSaturated() {
+            givenActiveConnections(9);
+
+            controller.check();
+
+            assertThat(controller.isPaused()).isTrue();
+            verify(mainContainer).pause();
+            verify(retryContainer).pause();
+            verify(dltContainer, never()).pause();
+            assertThat(meterRegistry.get(PaymentEventBackpressureController.PAUSED_METRIC).gauge().value()).isEqualTo(1);
+            assertThat(meterRegistry.get(PaymentEventBackpressureController.TRANSITIONS_METRIC)
+                    .tag("action", "pause").counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should pause when threads waiting for a connection reach the watermark")
+        void shouldPause_WhenThreadsWaiting() {
+            givenActiveConnections(5);
+            when(pool.getThreadsAwaitingConnection()).thenReturn(3);
+
+            controller.check();
+
+            assertThat(controller.isPaused()).isTrue();
+        }
+
+        @Test
+        @DisplayName("should keep consuming when a few threads briefly wait for a connection")
+        void shouldNotPause_WhenFewThreadsWaiting() {
+            givenActiveConnections(5);
+            when(pool.getThreadsAwaitingConnection()).thenReturn(1);
+
+            controller.check();
+
+            assertThat(controller.isPaused()).isFalse();
+        }
+
+        @Test
+        @DisplayName("should average batch transaction time per payment event")
+        void shouldAverageBatchTransactionsPerEvent() {
+            givenActiveConnections(2);
+            controller.recordTransactions(TimeUnit.MILLISECONDS.toNanos(1000), 10);
+
+            controller.check();
+
+            assertThat(controller.isPaused()).isFalse();
+        }
+
+        @Test
+        @DisplayName("should pause when average transaction time crosses the high watermark")
+        void shouldPause_WhenTransactionsSlow() {
+            givenActiveConnections(2);
+            controller.recordTransaction(TimeUnit.MILLISECONDS.toNanos(400));
+            controller.recordTransaction(TimeUnit.MILLISECONDS.toNanos(800));
+
+            controller.check();
+
+            assertThat(controller.isPaused()).isTrue();
+        }
+
+        @Test
+        @DisplayName("should keep consuming below the high watermarks")
+        void shouldNotPause_WhenHealthy() {
+            givenActiveConnections(8);
+            controller.recordTransaction(TimeUnit.MILLISECONDS.toNanos(100));
+
+            controller.check();
+
+            assertThat(controller.isPaused()).isFalse();
+            verify(mainContainer, never()).pause();
+        }
+
+        @Test
+        @DisplayName("should do nothing when disabled")
+        void shouldDoNothing_WhenDisabled() {
+            meterRegistry = new SimpleMeterRegistry();
+            controller = createController(false);
+
+            controller.check();
+
+            assertThat(controller.isPaused()).isFalse();
+            verifyNoInteractions(listenerEndpointRegistry, pool);
+        }
+    }
+
+    @Nested
+    @DisplayName("resume tests")
+    class ResumeTests {
+
+        @BeforeEach
+        void pause() {
+            givenActiveConnections(10);
+            controller.check();
+            assertThat(controller.isPaused()).isTrue();
+        }
+
+        @Test
+        @DisplayName("should stay paused between the watermarks")
+        void shouldStayPaused_BetweenWatermarks() {
+            givenActiveConnections(7);
+
+            for (int i = 0; i < 5; i++) {
+                controller.check();
+            }
+
+            assertThat(controller.isPaused()).isTrue();
+            verify(mainContainer, never()).resume();
+        }
+
+        @Test
+        @DisplayName("should resume after consecutive healthy checks")
+        void shouldResume_AfterHealthyChecks() {
+            givenActiveConnections(3);
+
+            controller.check();
+            controller.check();
+            assertThat(controller.isPaused()).isTrue();
+
+            controller.check();
+
+            assertThat(controller.isPaused()).isFalse();
+            verify(mainContainer).resume();
+            verify(retryContainer).resume();
+            assertThat(meterRegistry.get(PaymentEventBackpressureController.PAUSED_METRIC).gauge().value()).isZero();
+        }
+
+        @Test
+        @DisplayName("should restart the healthy streak after a busy check")
+        void shouldRestartStreak_WhenBusyAgain() {
+            givenActiveConnections(3);
+            controller.check();
+            controller.check();
+            givenActiveConnections(7);
+            controller.check();
+            givenActiveConnections(3);
+            controller.check();
+            controller.check();
+
+            assertThat(controller.isPaused()).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("should reject resume watermarks above pause watermarks")
+    void shouldRejectInvertedWatermarks() {
+        assertThatThrownBy(() -> new PaymentEventBackpressureController(dataSource, listenerEndpointRegistry,
+                meterRegistry, true, TOPIC, 0.5, 0.6, Duration.ofMillis(500), Duration.ofMillis(200), 3, 3))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private PaymentEventBackpressureController createController(boolean enabled) {
+        return new PaymentEventBackpressureController(dataSource, listenerEndpointRegistry, meterRegistry,
+                enabled, TOPIC, 0.9, 0.6, Duration.ofMillis(500), Duration.ofMillis(200), 3, 3);
+    }
+
+    private void givenActiveConnections(int active) {
+        when(pool.getActiveConnections()).thenReturn(active);
+    }
+}
@@ -0,0 +1,162 @@
+package com.innowise.orderservice.kafka.consumer;
+
+import com.innowise.orderservice.dto.payment.PaymentEventDto;
+import com.innowise.orderservice.enums.OrderStatus;
+import com.innowise.orderservice.service.OrderService;
+import com.innowise.orderservice.service.ProcessedPaymentEventService;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentEventBatchConsumer unit tests")
+class PaymentEventBatchConsumerTest {
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private ProcessedPaymentEventService processedPaymentEventService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private PaymentEventBackpressureController backpressureController;
+
+    @Mock
+    private Acknowledgment acknowledgment;
+
+    @InjectMocks
+    private PaymentEventBatchConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        lenient().doAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null))
+                .when(transactionTemplate).execute(any());
+        lenient().doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    @DisplayName("should apply last event per order in one call and acknowledge once")
+    void shouldCoalesceEventsPerOrder() {
+        List<ConsumerRecord<String, PaymentEventDto>> records = List.of(
+                createRecord(0, 1L, PaymentEventDto.PaymentStatus.SUCCESS),
+                createRecord(1, 2L, PaymentEventDto.PaymentStatus.SUCCESS),
+                createRecord(2, 1L, PaymentEventDto.PaymentStatus.FAILED),
+                createRecord(3, 3L, PaymentEventDto.PaymentStatus.PENDING)
+        );
+
+        consumer.handlePaymentEvents(records, acknowledgment);
+
+        verify(orderService).compareAndSetStatuses(Map.of(
+                1L, OrderStatus.CANCELLED,
+                2L, OrderStatus.PROCESSING
+        ));
+        verify(orderService, never()).compareAndSetStatus(any(), any());
+        verify(backpressureController).recordTransactions(anyLong(), eq(2));
+        verify(processedPaymentEventService).markProcessed(argThat((Collection<PaymentEventDto> events) ->
+                events.size() == 4));
+        verify(acknowledgment, times(1)).acknowledge();
+    }
+
+    @Test
+    @DisplayName("should skip already processed and repeated payments")
+    void shouldSkipDuplicatePayments() {
+        List<ConsumerRecord<String, PaymentEventDto>> records = List.of(
+                createRecord(0, 1L, PaymentEventDto.PaymentStatus.SUCCESS),
+                createRecord(1, 1L, PaymentEventDto.PaymentStatus.FAILED),
+                createRecord(2, "payment-2", 2L, PaymentEventDto.PaymentStatus.SUCCESS),
+                createRecord(3, "payment-2", 2L, PaymentEventDto.PaymentStatus.FAILED)
+        );
+
+        when(processedPaymentEventService.findProcessed(anyCollection())).thenReturn(Set.of("payment-1"));
+
+        consumer.handlePaymentEvents(records, acknowledgment);
+
+        verify(orderService).compareAndSetStatuses(Map.of(
+                1L, OrderStatus.PROCESSING,
+                2L, OrderStatus.PROCESSING
+        ));
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("should acknowledge batch without updates when no event changes orders")
+    void shouldAcknowledge_WhenNothingToApply() {
+        consumer.handlePaymentEvents(
+                List.of(createRecord(0, 1L, PaymentEventDto.PaymentStatus.PROCESSING)),
+                acknowledgment
+        );
+
+        verifyNoInteractions(orderService);
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("should report first failing record when bulk update fails")
+    void shouldReportFailedRecord_WhenBulkUpdateFails() {
+        ConsumerRecord<String, PaymentEventDto> failing = createRecord(1, 2L, PaymentEventDto.PaymentStatus.SUCCESS);
+        List<ConsumerRecord<String, PaymentEventDto>> records = List.of(
+                createRecord(0, 1L, PaymentEventDto.PaymentStatus.SUCCESS),
+                failing,
+                createRecord(2, 3L, PaymentEventDto.PaymentStatus.SUCCESS)
+        );
+
+        when(orderService.compareAndSetStatuses(anyMap())).thenThrow(new RuntimeException("deadlock"));
+        when(processedPaymentEventService.markProcessed(anyString(), anyLong())).thenReturn(true);
+        when(orderService.compareAndSetStatus(1L, OrderStatus.PROCESSING)).thenReturn(null);
+        when(orderService.compareAndSetStatus(2L, OrderStatus.PROCESSING)).thenThrow(new RuntimeException("deadlock"));
+
+        assertThatThrownBy(() -> consumer.handlePaymentEvents(records, acknowledgment))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class,
+                        e -> assertThat(e.getRecord()).isSameAs(failing));
+
+        verify(orderService).compareAndSetStatus(1L, OrderStatus.PROCESSING);
+        verify(orderService, never()).compareAndSetStatus(3L, OrderStatus.PROCESSING);
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    private ConsumerRecord<String, PaymentEventDto> createRecord(long offset, Long orderId,
+                                                                 PaymentEventDto.PaymentStatus status) {
+        return createRecord(offset, "payment-" + offset, orderId, status);
+    }
+
+    private ConsumerRecord<String, PaymentEventDto> createRecord(long offset, String paymentId, Long orderId,
+                                                                 PaymentEventDto.PaymentStatus status) {
+        PaymentEventDto event = PaymentEventDto.builder()
+                .paymentId(paymentId)
+                .orderId(orderId)
+                .userId(1L)
+                .status(status)
+                .build();
+        return new ConsumerRecord<>("payment-events", 0, offset, String.valueOf(orderId), event);
+    }
+}
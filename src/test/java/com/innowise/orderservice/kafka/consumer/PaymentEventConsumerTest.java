@@ -0,0 +1,300 @@
+package com.innowise.orderservice.kafka.consumer;
+
+import com.innowise.orderservice.dto.payment.PaymentEventDto;
+import com.innowise.orderservice.enums.OrderStatus;
+import com.innowise.orderservice.exception.InvalidOrderStateException;
+import com.innowise.orderservice.exception.ResourceNotFoundException;
+import com.innowise.orderservice.service.OrderService;
+import com.innowise.orderservice.service.ProcessedPaymentEventService;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentEventConsumer unit tests")
+class PaymentEventConsumerTest {
+
+    private static final String TOPIC = "payment-events";
+    private static final LocalDateTime TIMESTAMP = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private ProcessedPaymentEventService processedPaymentEventService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private PaymentEventMetrics paymentEventMetrics;
+
+    @Mock
+    private PaymentEventBackpressureController backpressureController;
+
+    @Mock
+    private KafkaTemplate<String, Object> paymentEventKafkaTemplate;
+
+    @Mock
+    private Acknowledgment acknowledgment;
+
+    private KeyOrderedExecutor executor;
+
+    private PaymentEventConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        executor = new KeyOrderedExecutor(2, Thread.ofPlatform().name("test-worker-", 0).factory());
+        consumer = new PaymentEventConsumer(orderService, processedPaymentEventService, transactionTemplate, executor,
+                paymentEventMetrics, backpressureController, paymentEventKafkaTemplate);
+        ReflectionTestUtils.setField(consumer, "paymentEventsTopic", TOPIC);
+        ReflectionTestUtils.setField(consumer, "maxAttempts", 3);
+        ReflectionTestUtils.setField(consumer, "retryBackoff", Duration.ZERO);
+
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        lenient().when(processedPaymentEventService.markProcessed(anyString(), anyLong())).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Nested
+    @DisplayName("sequential mode tests")
+    class SequentialModeTests {
+
+        @Test
+        @DisplayName("should update order and acknowledge on the listener thread")
+        void shouldUpdateAndAcknowledge() {
+            consumer.handlePaymentEvent(createEvent("payment-1", 1L, PaymentEventDto.PaymentStatus.SUCCESS),
+                    TOPIC, 0, 0, acknowledgment);
+
+            verify(orderService).transitionStatus(1L, OrderStatus.PROCESSING);
+            verify(acknowledgment).acknowledge();
+            verify(paymentEventMetrics).recordOutcome(PaymentEventMetrics.Outcome.APPLIED);
+            verify(paymentEventMetrics).recordEndToEnd(TOPIC, TIMESTAMP);
+        }
+
+        @Test
+        @DisplayName("should record skipped outcome for a status that does not change the order")
+        void shouldRecordSkipped() {
+            consumer.handlePaymentEvent(createEvent("payment-1", 1L, PaymentEventDto.PaymentStatus.PENDING),
+                    TOPIC, 0, 0, acknowledgment);
+
+            verifyNoInteractions(orderService);
+            verify(paymentEventMetrics).recordOutcome(PaymentEventMetrics.Outcome.SKIPPED);
+            verify(acknowledgment).acknowledge();
+        }
+
+        @Test
+        @DisplayName("should skip and acknowledge a payment event without status")
+        void shouldSkip_WhenStatusMissing() {
+            consumer.handlePaymentEvent(createEvent("payment-1", 1L, null), TOPIC, 0, 0, acknowledgment);
+
+            verifyNoInteractions(orderService);
+            verify(paymentEventMetrics).recordOutcome(PaymentEventMetrics.Outcome.SKIPPED);
+            verify(acknowledgment).acknowledge();
+        }
+
+        @Test
+        @DisplayName("should time dedupe, update and commit stages")
+        void shouldRecordStages() {
+            consumer.handlePaymentEvent(createEvent("payment-1", 1L, PaymentEventDto.PaymentStatus.SUCCESS),
+                    TOPIC, 0, 0, acknowledgment);
+
+            verify(paymentEventMetrics).recordStage(eq(PaymentEventMetrics.Stage.DEDUPE), anyLong());
+            verify(paymentEventMetrics).recordStage(eq(PaymentEventMetrics.Stage.UPDATE), anyLong());
+            verify(paymentEventMetrics).recordStage(eq(PaymentEventMetrics.Stage.COMMIT), anyLong());
+            verify(paymentEventMetrics, never()).recordStage(eq(PaymentEventMetrics.Stage.LANE_WAIT), anyLong());
+        }
+
+        @Test
+        @DisplayName("should acknowledge duplicate payment without updating order")
+        void shouldSkipDuplicate() {
+            when(processedPaymentEventService.isProcessed("payment-1")).thenReturn(true);
+
+            consumer.handlePaymentEvent(createEvent("payment-1", 1L, PaymentEventDto.PaymentStatus.SUCCESS),
+                    TOPIC, 0, 0, acknowledgment);
+
+            verifyNoInteractions(orderService);
+            verify(acknowledgment).acknowledge();
+            verify(paymentEventMetrics).recordOutcome(PaymentEventMetrics.Outcome.DUPLICATE);
+        }
+
+        @Test
+        @DisplayName("should rethrow failure to the retry topic handler without acknowledging")
+        void shouldRethrow_WhenUpdateFails() {
+            doThrow(new RuntimeException("db down")).when(orderService).transitionStatus(1L, OrderStatus.PROCESSING);
+
+            assertThatThrownBy(() -> consumer.handlePaymentEvent(
+                    createEvent("payment-1", 1L, PaymentEventDto.PaymentStatus.SUCCESS), TOPIC, 0, 0, acknowledgment))
+                    .isInstanceOf(RuntimeException.class)
+                    .hasMessage("db down");
+
+            verify(acknowledgment, never()).acknowledge();
+            verify(paymentEventMetrics).recordOutcome(PaymentEventMetrics.Outcome.FAILED);
+            verify(paymentEventMetrics, never()).recordEndToEnd(anyString(), any());
+            verify(backpressureController).recordTransaction(anyLong());
+        }
+    }
+
+    @Nested
+    @DisplayName("parallel mode tests")
+    class ParallelModeTests {
+
+        @BeforeEach
+        void enableParallel() {
+            ReflectionTestUtils.setField(consumer, "parallel", true);
+        }
+
+        @Test
+        @DisplayName("should keep order of events for the same order while other orders proceed")
+        void shouldKeepPerOrderOrdering() throws Exception {
+            CountDownLatch blockFirstOrder = new CountDownLatch(1);
+            CountDownLatch otherOrderDone = new CountDownLatch(1);
+            long firstOrder = 1L;
+            long otherOrder = firstOrder + 1;
+            assertThat(executor.laneOf(firstOrder)).isNotEqualTo(executor.laneOf(otherOrder));
+
+            doAnswer(invocation -> {
+                blockFirstOrder.await(5, TimeUnit.SECONDS);
+                return null;
+            }).when(orderService).transitionStatus(firstOrder, OrderStatus.PROCESSING);
+            doAnswer(invocation -> {
+                otherOrderDone.countDown();
+                return null;
+            }).when(orderService).transitionStatus(otherOrder, OrderStatus.PROCESSING);
+
+            Acknowledgment firstAck = mock(Acknowledgment.class);
+            Acknowledgment secondAck = mock(Acknowledgment.class);
+            Acknowledgment otherAck = mock(Acknowledgment.class);
+            consumer.handlePaymentEvent(createEvent("payment-1", firstOrder, PaymentEventDto.PaymentStatus.SUCCESS),
+                    TOPIC, 0, 0, firstAck);
+            consumer.handlePaymentEvent(createEvent("payment-2", firstOrder, PaymentEventDto.PaymentStatus.FAILED),
+                    TOPIC, 0, 1, secondAck);
+            consumer.handlePaymentEvent(createEvent("payment-3", otherOrder, PaymentEventDto.PaymentStatus.SUCCESS),
+                    TOPIC, 0, 2, otherAck);
+
+            assertThat(otherOrderDone.await(5, TimeUnit.SECONDS)).isTrue();
+            verify(otherAck, timeout(1000)).acknowledge();
+            verify(secondAck, never()).acknowledge();
+
+            blockFirstOrder.countDown();
+            verify(secondAck, timeout(1000)).acknowledge();
+
+            InOrder inOrder = inOrder(orderService, firstAck, secondAck);
+            inOrder.verify(orderService).transitionStatus(firstOrder, OrderStatus.PROCESSING);
+            inOrder.verify(firstAck).acknowledge();
+            inOrder.verify(orderService).transitionStatus(firstOrder, OrderStatus.CANCELLED);
+            inOrder.verify(secondAck).acknowledge();
+        }
+
+        @Test
+        @DisplayName("should retry on the worker and dead-letter the event once attempts are exhausted")
+        void shouldDeadLetter_WhenAttemptsExhausted() {
+            PaymentEventDto event = createEvent("payment-1", 1L, PaymentEventDto.PaymentStatus.SUCCESS);
+            doThrow(new IllegalStateException("db down")).when(orderService).transitionStatus(1L, OrderStatus.PROCESSING);
+            when(paymentEventKafkaTemplate.send(any(ProducerRecord.class)))
+                    .thenReturn(CompletableFuture.completedFuture(null));
+
+            consumer.handlePaymentEvent(event, TOPIC, 2, 7, acknowledgment);
+
+            verify(acknowledgment, timeout(1000)).acknowledge();
+            verify(orderService, times(3)).transitionStatus(1L, OrderStatus.PROCESSING);
+            verify(paymentEventMetrics).recordDeadLetter("payment-events-dlt", IllegalStateException.class.getName());
+            verify(paymentEventMetrics, times(3)).recordOutcome(PaymentEventMetrics.Outcome.FAILED);
+
+            ArgumentCaptor<ProducerRecord<String, Object>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+            verify(paymentEventKafkaTemplate).send(captor.capture());
+            ProducerRecord<String, Object> record = captor.getValue();
+            assertThat(record.topic()).isEqualTo("payment-events-dlt");
+            assertThat(record.key()).isEqualTo("1");
+            assertThat(record.value()).isEqualTo(event);
+            assertThat(header(record, KafkaHeaders.DLT_ORIGINAL_TOPIC)).isEqualTo(TOPIC.getBytes(StandardCharsets.UTF_8));
+            assertThat(ByteBuffer.wrap(header(record, KafkaHeaders.DLT_ORIGINAL_PARTITION)).getInt()).isEqualTo(2);
+            assertThat(ByteBuffer.wrap(header(record, KafkaHeaders.DLT_ORIGINAL_OFFSET)).getLong()).isEqualTo(7L);
+            assertThat(new String(header(record, KafkaHeaders.DLT_EXCEPTION_FQCN), StandardCharsets.UTF_8))
+                    .isEqualTo(IllegalStateException.class.getName());
+            assertThat(new String(header(record, KafkaHeaders.DLT_EXCEPTION_MESSAGE), StandardCharsets.UTF_8))
+                    .isEqualTo("db down");
+        }
+
+        @Test
+        @DisplayName("should dead-letter a non-retryable failure without retrying")
+        void shouldDeadLetterImmediately_WhenNotRetryable() {
+            PaymentEventDto event = createEvent("payment-1", 1L, PaymentEventDto.PaymentStatus.SUCCESS);
+            doThrow(new IllegalStateException("wrapped", new InvalidOrderStateException("CANCELLED to PROCESSING")))
+                    .when(orderService).transitionStatus(1L, OrderStatus.PROCESSING);
+            when(paymentEventKafkaTemplate.send(any(ProducerRecord.class)))
+                    .thenReturn(CompletableFuture.completedFuture(null));
+
+            consumer.handlePaymentEvent(event, TOPIC, 0, 0, acknowledgment);
+
+            verify(acknowledgment, timeout(1000)).acknowledge();
+            verify(orderService, times(1)).transitionStatus(1L, OrderStatus.PROCESSING);
+            verify(paymentEventMetrics).recordDeadLetter("payment-events-dlt", IllegalStateException.class.getName());
+        }
+
+        @Test
+        @DisplayName("should leave the record unacknowledged when the DLT send fails")
+        void shouldNotAcknowledge_WhenDeadLetterFails() {
+            PaymentEventDto event = createEvent("payment-1", 1L, PaymentEventDto.PaymentStatus.SUCCESS);
+            doThrow(new ResourceNotFoundException("Order not found with id: 1"))
+                    .when(orderService).transitionStatus(1L, OrderStatus.PROCESSING);
+            when(paymentEventKafkaTemplate.send(any(ProducerRecord.class)))
+                    .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+            consumer.handlePaymentEvent(event, TOPIC, 0, 0, acknowledgment);
+
+            verify(paymentEventKafkaTemplate, timeout(1000)).send(any(ProducerRecord.class));
+            verify(acknowledgment, after(200).never()).acknowledge();
+            verify(paymentEventMetrics, never()).recordDeadLetter(anyString(), anyString());
+        }
+    }
+
+    private static byte[] header(ProducerRecord<String, Object> record, String key) {
+        return record.headers().lastHeader(key).value();
+    }
+
+    private PaymentEventDto createEvent(String paymentId, Long orderId, PaymentEventDto.PaymentStatus status) {
+        return PaymentEventDto.builder()
+                .paymentId(paymentId)
+                .orderId(orderId)
+                .userId(1L)
+                .status(status)
+                .timestamp(TIMESTAMP)
+                .build();
+    }
+}
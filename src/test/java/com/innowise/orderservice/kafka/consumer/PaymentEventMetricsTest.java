@@ -0,0 +1,68 @@
+package com.innowise.orderservice.kafka.consumer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PaymentEventMetrics unit tests")
+class PaymentEventMetricsTest {
+
+    private MeterRegistry meterRegistry;
+    private PaymentEventMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new PaymentEventMetrics(meterRegistry, ZoneOffset.UTC);
+    }
+
+    @Test
+    @DisplayName("should register every outcome counter up front")
+    void shouldRegisterOutcomes() {
+        metrics.recordOutcome(PaymentEventMetrics.Outcome.DUPLICATE);
+
+        assertThat(meterRegistry.get(PaymentEventMetrics.PROCESSED_METRIC).counters()).hasSize(4);
+        assertThat(meterRegistry.get(PaymentEventMetrics.PROCESSED_METRIC).tag("outcome", "duplicate")
+                .counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(PaymentEventMetrics.PROCESSED_METRIC).tag("outcome", "applied")
+                .counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("should record stage time by stage tag")
+    void shouldRecordStage() {
+        metrics.recordStage(PaymentEventMetrics.Stage.LANE_WAIT, TimeUnit.MILLISECONDS.toNanos(5));
+
+        Timer timer = meterRegistry.get(PaymentEventMetrics.STAGE_METRIC).tag("stage", "lane-wait").timer();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("should record end-to-end latency from the event timestamp")
+    void shouldRecordEndToEnd() {
+        metrics.recordEndToEnd("payment-events", LocalDateTime.now(ZoneOffset.UTC).minusSeconds(2));
+
+        Timer timer = meterRegistry.get(PaymentEventMetrics.LATENCY_METRIC).tag("topic", "payment-events").timer();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.totalTime(TimeUnit.SECONDS)).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should ignore missing and future timestamps")
+    void shouldIgnoreUnusableTimestamps() {
+        metrics.recordEndToEnd("payment-events", null);
+        metrics.recordEndToEnd("payment-events", LocalDateTime.now(ZoneOffset.UTC).plusMinutes(5));
+
+        assertThat(meterRegistry.find(PaymentEventMetrics.LATENCY_METRIC).timer()).isNull();
+    }
+}
@@ -0,0 +1,147 @@
+package com.innowise.orderservice.kafka.consumer;
+
+import com.innowise.orderservice.dto.payment.PaymentEventDto;
+import com.innowise.orderservice.kafka.serialization.EventFormat;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentStatusPreFilter unit tests")
+class PaymentStatusPreFilterTest {
+
+    private static final String TOPIC = "payment-events";
+
+    @Mock
+    private Deserializer<PaymentEventDto> delegate;
+
+    private PaymentStatusPreFilter<PaymentEventDto> filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new PaymentStatusPreFilter<>(delegate, Set.of("PENDING", "PROCESSING", "CANCELLED"));
+    }
+
+    @Nested
+    @DisplayName("deserialize tests")
+    class DeserializeTests {
+
+        @Test
+        @DisplayName("should skip ignored status from the payload without calling the delegate")
+        void shouldSkipIgnoredJsonStatus() {
+            Headers headers = new RecordHeaders();
+
+            PaymentEventDto result = filter.deserialize(TOPIC, headers, json("PENDING"));
+
+            assertThat(result).isNull();
+            assertThat(headers.lastHeader(PaymentStatusPreFilter.SKIPPED_HEADER).value())
+                    .isEqualTo("PENDING".getBytes(StandardCharsets.UTF_8));
+            verifyNoInteractions(delegate);
+        }
+
+        @Test
+        @DisplayName("should skip ignored status from the header")
+        void shouldSkipIgnoredHeaderStatus() {
+            Headers headers = new RecordHeaders();
+            headers.add(PaymentStatusPreFilter.STATUS_HEADER, "CANCELLED".getBytes(StandardCharsets.UTF_8));
+            EventFormat.AVRO.writeTo(headers);
+
+            assertThat(filter.deserialize(TOPIC, headers, new byte[]{1, 2, 3})).isNull();
+            verifyNoInteractions(delegate);
+        }
+
+        @Test
+        @DisplayName("should pass handled status to the delegate")
+        void shouldDeserializeHandledStatus() {
+            Headers headers = new RecordHeaders();
+            byte[] data = json("SUCCESS");
+            PaymentEventDto event = PaymentEventDto.builder().orderId(1L).build();
+            when(delegate.deserialize(TOPIC, headers, data)).thenReturn(event);
+
+            assertThat(filter.deserialize(TOPIC, headers, data)).isSameAs(event);
+            assertThat(headers.lastHeader(PaymentStatusPreFilter.SKIPPED_HEADER)).isNull();
+        }
+
+        @Test
+        @DisplayName("should pass Avro records without a status header to the delegate")
+        void shouldDeserializeAvroWithoutHeader() {
+            Headers headers = new RecordHeaders();
+            EventFormat.AVRO.writeTo(headers);
+            byte[] data = json("PENDING");
+
+            filter.deserialize(TOPIC, headers, data);
+
+            verify(delegate).deserialize(TOPIC, headers, data);
+        }
+
+        @Test
+        @DisplayName("should pass records without a readable status to the delegate")
+        void shouldDeserializeUnreadableStatus() {
+            byte[] data = "{\"orderId\":1,\"status\":null}".getBytes(StandardCharsets.UTF_8);
+
+            filter.deserialize(TOPIC, new RecordHeaders(), data);
+
+            verify(delegate).deserialize(anyString(), any(Headers.class), any(byte[].class));
+        }
+    }
+
+    @Nested
+    @DisplayName("jsonStatus tests")
+    class JsonStatusTests {
+
+        @Test
+        @DisplayName("should read status surrounded by whitespace")
+        void shouldReadStatusWithWhitespace() {
+            byte[] data = "{\n  \"paymentId\" : \"p-1\",\n  \"status\" :\t\"FAILED\"\n}".getBytes(StandardCharsets.UTF_8);
+
+            assertThat(PaymentStatusPreFilter.jsonStatus(data)).isEqualTo("FAILED");
+        }
+
+        @Test
+        @DisplayName("should read top level status placed after nested objects with their own status")
+        void shouldReadTopLevelStatus_WhenNestedStatusComesFirst() {
+            byte[] data = ("{\"refund\":{\"status\":\"PENDING\"},\"attempts\":[{\"status\":\"PENDING\"}],"
+                    + "\"note\":\"say \\\"hi\\\"\",\"status\":\"FAILED\"}").getBytes(StandardCharsets.UTF_8);
+
+            assertThat(PaymentStatusPreFilter.jsonStatus(data)).isEqualTo("FAILED");
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {
+                "{\"orderId\":1}",
+                "{\"refund\":{\"status\":\"PENDING\"}}",
+                "[{\"status\":\"PENDING\"}]",
+                "{\"tags\":[\"status\",\"x\"]}",
+                "{\"status\":1}",
+                "{\"status\":\"PEND\\\\ING\"}",
+                "{\"status\":\"PENDING",
+                "{\"paymentId\":\"\\\"status\\\":\\\"PENDING\\\"\"}"
+        })
+        @DisplayName("should return null when status is missing or unusual")
+        void shouldReturnNull_WhenStatusNotFound(String json) {
+            assertThat(PaymentStatusPreFilter.jsonStatus(json.getBytes(StandardCharsets.UTF_8))).isNull();
+        }
+    }
+
+    private static byte[] json(String status) {
+        return ("{\"paymentId\":\"p-1\",\"orderId\":1,\"userId\":2,\"status\":\"" + status
+                + "\",\"paymentAmount\":10.00}").getBytes(StandardCharsets.UTF_8);
+    }
+}
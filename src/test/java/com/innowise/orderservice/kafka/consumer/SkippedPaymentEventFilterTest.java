@@ -0,0 +1,46 @@
+package com.innowise.orderservice.kafka.consumer;
+
+import com.innowise.orderservice.dto.payment.PaymentEventDto;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SkippedPaymentEventFilter unit tests")
+class SkippedPaymentEventFilterTest {
+
+    @Mock
+    private PaymentEventMetrics paymentEventMetrics;
+
+    @InjectMocks
+    private SkippedPaymentEventFilter filter;
+
+    @Test
+    @DisplayName("should discard and count records marked as skipped")
+    void shouldDiscardSkipped() {
+        ConsumerRecord<String, PaymentEventDto> consumerRecord = new ConsumerRecord<>("payment-events", 0, 0, "1", null);
+        consumerRecord.headers().add(PaymentStatusPreFilter.SKIPPED_HEADER, "PENDING".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(filter.filter(consumerRecord)).isTrue();
+        verify(paymentEventMetrics).recordFiltered("PENDING");
+    }
+
+    @Test
+    @DisplayName("should keep unmarked records, including failed deserialization")
+    void shouldKeepUnmarked() {
+        ConsumerRecord<String, PaymentEventDto> consumerRecord = new ConsumerRecord<>("payment-events", 0, 0, "1", null);
+
+        assertThat(filter.filter(consumerRecord)).isFalse();
+        verifyNoInteractions(paymentEventMetrics);
+    }
+}
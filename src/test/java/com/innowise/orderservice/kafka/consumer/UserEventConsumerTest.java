@@ -0,0 +1,124 @@
+package com.innowise.orderservice.kafka.consumer;
+
+import com.innowise.orderservice.client.LastKnownUserStore;
+import com.innowise.orderservice.client.dto.UserInfoDto;
+import com.innowise.orderservice.config.CacheConfig;
+import com.innowise.orderservice.dto.user.UserChangedEventDto;
+import com.innowise.orderservice.service.UserProjectionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserEventConsumer unit tests")
+class UserEventConsumerTest {
+
+    private static final LocalDateTime TIMESTAMP = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @Mock
+    private UserProjectionService userProjectionService;
+
+    @Mock
+    private Acknowledgment acknowledgment;
+
+    private Cache usersCache;
+    private LastKnownUserStore lastKnownUserStore;
+    private UserEventConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(CacheConfig.USERS_CACHE);
+        usersCache = cacheManager.getCache(CacheConfig.USERS_CACHE);
+        lastKnownUserStore = new LastKnownUserStore(new SimpleMeterRegistry(), Duration.ofDays(7), 1000);
+        consumer = new UserEventConsumer(userProjectionService, lastKnownUserStore, cacheManager);
+    }
+
+    @Test
+    @DisplayName("should project updated user, evict the cached copy and acknowledge")
+    void shouldApplyUpdate() {
+        UserInfoDto stale = createUser("old@example.com");
+        UserInfoDto updated = createUser("new@example.com");
+        usersCache.put(1L, stale);
+        UserChangedEventDto event = createEvent(UserChangedEventDto.EventType.USER_UPDATED, updated);
+
+        consumer.handleUserEvent(event, 0, 10L, acknowledgment);
+
+        verify(userProjectionService).apply(event);
+        assertThat(usersCache.get(1L)).isNull();
+        assertThat(lastKnownUserStore.serveStale(1L)).isEqualTo(updated);
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("should forget last known copy of deleted user")
+    void shouldForgetDeletedUser() {
+        lastKnownUserStore.remember(createUser("john@example.com"));
+        UserChangedEventDto event = createEvent(UserChangedEventDto.EventType.USER_DELETED, null);
+
+        consumer.handleUserEvent(event, 0, 10L, acknowledgment);
+
+        verify(userProjectionService).apply(event);
+        assertThat(LastKnownUserStore.isUnknown(lastKnownUserStore.serveStale(1L))).isTrue();
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("should skip and acknowledge event without user id")
+    void shouldSkipEventWithoutUserId() {
+        UserChangedEventDto event = UserChangedEventDto.builder()
+                .eventType(UserChangedEventDto.EventType.USER_UPDATED)
+                .timestamp(TIMESTAMP)
+                .build();
+
+        consumer.handleUserEvent(event, 0, 10L, acknowledgment);
+
+        verifyNoInteractions(userProjectionService);
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("should not acknowledge when projection update fails")
+    void shouldNotAcknowledge_WhenApplyFails() {
+        doThrow(new IllegalStateException("db down")).when(userProjectionService).apply(any());
+        UserChangedEventDto event = createEvent(UserChangedEventDto.EventType.USER_UPDATED,
+                createUser("john@example.com"));
+
+        assertThatThrownBy(() -> consumer.handleUserEvent(event, 0, 10L, acknowledgment))
+                .isInstanceOf(IllegalStateException.class);
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    private static UserChangedEventDto createEvent(UserChangedEventDto.EventType type, UserInfoDto user) {
+        return UserChangedEventDto.builder()
+                .userId(1L)
+                .eventType(type)
+                .user(user)
+                .timestamp(TIMESTAMP)
+                .build();
+    }
+
+    private static UserInfoDto createUser(String email) {
+        return UserInfoDto.builder()
+                .id(1L)
+                .name("John")
+                .email(email)
+                .active(true)
+                .updatedAt(TIMESTAMP)
+                .build();
+    }
+}
@@ -0,0 +1,184 @@
+package com.innowise.orderservice.kafka.serialization;
+
+import com.innowise.orderservice.dto.order.OrderCreatedEventDto;
+import com.innowise.orderservice.dto.payment.PaymentEventDto;
+import org.apache.avro.Schema;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Avro event serialization tests")
+class AvroEventSerializationTest {
+
+    private static final String TOPIC = "payment-events";
+
+    private AvroSchemaRegistry schemaRegistry;
+    private PaymentEventAvroMapper paymentEventMapper;
+
+    @BeforeEach
+    void setUp() {
+        schemaRegistry = new AvroSchemaRegistry();
+        paymentEventMapper = new PaymentEventAvroMapper(schemaRegistry);
+    }
+
+    @Nested
+    @DisplayName("round trip tests")
+    class RoundTripTests {
+
+        @Test
+        @DisplayName("should read payment event written as Avro")
+        void shouldRoundTripPaymentEvent() {
+            PaymentEventDto event = createPaymentEvent();
+            Headers headers = new RecordHeaders();
+
+            byte[] data = new AvroEventSerializer<>(schemaRegistry, paymentEventMapper).serialize(TOPIC, headers, event);
+            PaymentEventDto read = new AvroEventDeserializer<>(schemaRegistry, paymentEventMapper)
+                    .deserialize(TOPIC, headers, data);
+
+            assertThat(EventFormat.of(headers)).isEqualTo(EventFormat.AVRO);
+            assertThat(read).isEqualTo(event);
+        }
+
+        @Test
+        @DisplayName("should read order created event with null optional fields")
+        void shouldRoundTripOrderCreatedEvent() {
+            OrderCreatedEventAvroMapper mapper = new OrderCreatedEventAvroMapper(schemaRegistry);
+            OrderCreatedEventDto event = OrderCreatedEventDto.builder()
+                    .orderId(1L)
+                    .totalAmount(new BigDecimal("30"))
+                    .build();
+            Headers headers = new RecordHeaders();
+
+            byte[] data = new AvroEventSerializer<>(schemaRegistry, mapper).serialize(TOPIC, headers, event);
+            OrderCreatedEventDto read = new AvroEventDeserializer<>(schemaRegistry, mapper)
+                    .deserialize(TOPIC, headers, data);
+
+            assertThat(read.orderId()).isEqualTo(1L);
+            assertThat(read.userId()).isNull();
+            assertThat(read.totalAmount()).isEqualByComparingTo("30.00");
+        }
+
+        @Test
+        @DisplayName("should be smaller than JSON")
+        void shouldBeSmallerThanJson() {
+            PaymentEventDto event = createPaymentEvent();
+
+            byte[] avro = new AvroEventSerializer<>(schemaRegistry, paymentEventMapper)
+                    .serialize(TOPIC, new RecordHeaders(), event);
+            try (JsonSerializer<PaymentEventDto> jsonSerializer = new JsonSerializer<>()) {
+                byte[] json = jsonSerializer.serialize(TOPIC, new RecordHeaders(), event);
+
+                assertThat(avro.length).isLessThan(json.length / 2);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("compatibility tests")
+    class CompatibilityTests {
+
+        @Test
+        @DisplayName("should read records written with an older registered schema")
+        void shouldReadOlderSchemaVersion() {
+            Schema previous = new Schema.Parser().parse("""
+                    {"type": "record", "name": "PaymentEvent", "namespace": "com.innowise.orderservice.events",
+                     "fields": [
+                       {"name": "paymentId", "type": ["null", "string"], "default": null},
+                       {"name": "orderId", "type": ["null", "long"], "default": null}
+                     ]}
+                    """);
+            schemaRegistry.register(previous);
+            AvroEventMapper<PaymentEventDto> previousMapper = new PaymentEventAvroMapper(schemaRegistry) {
+                @Override
+                public Schema schema() {
+                    return previous;
+                }
+
+                @Override
+                public org.apache.avro.generic.GenericRecord toRecord(PaymentEventDto event) {
+                    org.apache.avro.generic.GenericRecord record = new org.apache.avro.generic.GenericData.Record(previous);
+                    record.put("paymentId", event.paymentId());
+                    record.put("orderId", event.orderId());
+                    return record;
+                }
+            };
+            Headers headers = new RecordHeaders();
+
+            byte[] data = new AvroEventSerializer<>(schemaRegistry, previousMapper)
+                    .serialize(TOPIC, headers, createPaymentEvent());
+            PaymentEventDto read = new AvroEventDeserializer<>(schemaRegistry, paymentEventMapper)
+                    .deserialize(TOPIC, headers, data);
+
+            assertThat(read.paymentId()).isEqualTo("payment-1");
+            assertThat(read.orderId()).isEqualTo(42L);
+            assertThat(read.status()).isNull();
+        }
+
+        @Test
+        @DisplayName("should pick JSON or Avro by header")
+        void shouldSelectFormatByHeader() {
+            PaymentEventDto event = createPaymentEvent();
+            FormatAwareDeserializer<PaymentEventDto> deserializer = new FormatAwareDeserializer<>(
+                    new JsonDeserializer<>(PaymentEventDto.class, false),
+                    new AvroEventDeserializer<>(schemaRegistry, paymentEventMapper)
+            );
+
+            Headers jsonHeaders = new RecordHeaders();
+            byte[] json = new JsonEventSerializer<PaymentEventDto>().serialize(TOPIC, jsonHeaders, event);
+            Headers avroHeaders = new RecordHeaders();
+            byte[] avro = new AvroEventSerializer<>(schemaRegistry, paymentEventMapper).serialize(TOPIC, avroHeaders, event);
+
+            assertThat(deserializer.deserialize(TOPIC, jsonHeaders, json)).isEqualTo(event);
+            assertThat(deserializer.deserialize(TOPIC, new RecordHeaders(), json)).isEqualTo(event);
+            assertThat(deserializer.deserialize(TOPIC, avroHeaders, avro)).isEqualTo(event);
+        }
+
+        @Test
+        @DisplayName("should read format header regardless of case and padding")
+        void shouldReadFormatHeader_IgnoringCase() {
+            Headers headers = new RecordHeaders();
+            headers.add(EventFormat.HEADER, " avro ".getBytes(StandardCharsets.UTF_8));
+
+            assertThat(EventFormat.of(headers)).isEqualTo(EventFormat.AVRO);
+        }
+
+        @Test
+        @DisplayName("should reject Avro record with unknown schema id")
+        void shouldReject_WhenSchemaUnknown() {
+            Headers headers = new RecordHeaders();
+            byte[] data = new AvroEventSerializer<>(schemaRegistry, paymentEventMapper)
+                    .serialize(TOPIC, headers, createPaymentEvent());
+            headers.remove(AvroSchemaRegistry.SCHEMA_ID_HEADER);
+            headers.add(AvroSchemaRegistry.SCHEMA_ID_HEADER, new byte[]{0, 0, 0, 0, 0, 0, 0, 1});
+
+            assertThatThrownBy(() -> new AvroEventDeserializer<>(schemaRegistry, paymentEventMapper)
+                    .deserialize(TOPIC, headers, data))
+                    .isInstanceOf(SerializationException.class);
+        }
+    }
+
+    static PaymentEventDto createPaymentEvent() {
+        return PaymentEventDto.builder()
+                .paymentId("payment-1")
+                .orderId(42L)
+                .userId(7L)
+                .status(PaymentEventDto.PaymentStatus.SUCCESS)
+                .paymentAmount(new BigDecimal("1234.50"))
+                .timestamp(LocalDateTime.of(2026, 10, 16, 12, 30, 15, 123_456_000))
+                .eventType("PAYMENT_CREATED")
+                .build();
+    }
+}
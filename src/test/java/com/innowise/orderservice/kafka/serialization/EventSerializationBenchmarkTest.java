@@ -0,0 +1,86 @@
+package com.innowise.orderservice.kafka.serialization;
+
+import com.innowise.orderservice.dto.payment.PaymentEventDto;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares payload size and serialize/deserialize throughput of JSON and Avro payment events.
+ * Run with -Dbenchmark=true.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("Event serialization benchmark")
+class EventSerializationBenchmarkTest {
+
+    private static final String TOPIC = "payment-events";
+    private static final int WARMUP = 50_000;
+    private static final int ITERATIONS = 500_000;
+
+    @Test
+    @DisplayName("should report size and throughput of JSON and Avro")
+    void compareJsonAndAvro() {
+        AvroSchemaRegistry schemaRegistry = new AvroSchemaRegistry();
+        PaymentEventAvroMapper mapper = new PaymentEventAvroMapper(schemaRegistry);
+        PaymentEventDto event = AvroEventSerializationTest.createPaymentEvent();
+
+        JsonEventSerializer<PaymentEventDto> jsonSerializer = new JsonEventSerializer<>();
+        jsonSerializer.setAddTypeInfo(false);
+        Result json = measure("json", jsonSerializer,
+                new JsonDeserializer<>(PaymentEventDto.class, false), event);
+        Result avro = measure("avro", new AvroEventSerializer<>(schemaRegistry, mapper),
+                new AvroEventDeserializer<>(schemaRegistry, mapper), event);
+
+        log.info("Serialization benchmark ({} records):", ITERATIONS);
+        log.info("{}", json);
+        log.info("{}", avro);
+        log.info("avro/json size: {}%", avro.bytes() * 100 / json.bytes());
+
+        assertThat(avro.bytes()).isLessThan(json.bytes());
+    }
+
+    private Result measure(String name, Serializer<PaymentEventDto> serializer,
+                           Deserializer<PaymentEventDto> deserializer, PaymentEventDto event) {
+        Headers headers = new RecordHeaders();
+        byte[] data = serializer.serialize(TOPIC, headers, event);
+        assertThat(deserializer.deserialize(TOPIC, headers, data)).isEqualTo(event);
+
+        for (int i = 0; i < WARMUP; i++) {
+            deserializer.deserialize(TOPIC, headers, serializer.serialize(TOPIC, new RecordHeaders(), event));
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            serializer.serialize(TOPIC, new RecordHeaders(), event);
+        }
+        long serializeNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            deserializer.deserialize(TOPIC, headers, data);
+        }
+        long deserializeNanos = System.nanoTime() - start;
+
+        return new Result(name, data.length,
+                ITERATIONS * 1_000_000_000L / serializeNanos,
+                ITERATIONS * 1_000_000_000L / deserializeNanos);
+    }
+
+    private record Result(String name, int bytes, long serializedPerSecond, long deserializedPerSecond) {
+
+        @Override
+        public String toString() {
+            return "%-4s %4d bytes, serialize %,d/s, deserialize %,d/s"
+                    .formatted(name, bytes, serializedPerSecond, deserializedPerSecond);
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package com.innowise.orderservice.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.innowise.orderservice.dto.order.OrderCreatedEventDto;
+import com.innowise.orderservice.entity.OrderOutboxEvent;
+import com.innowise.orderservice.enums.OutboxStatus;
+import com.innowise.orderservice.kafka.producer.OrderEventProducer;
+import com.innowise.orderservice.repository.OrderOutboxRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderOutboxService unit tests")
+class OrderOutboxServiceImplTest {
+
+    @Mock
+    private OrderOutboxRepository orderOutboxRepository;
+
+    @Mock
+    private OrderEventProducer orderEventProducer;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private OrderOutboxServiceImpl orderOutboxService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(orderOutboxService, "batchSize", 100);
+        ReflectionTestUtils.setField(orderOutboxService, "sendTimeout", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(orderOutboxService, "retention", Duration.ofHours(1));
+        ReflectionTestUtils.setField(orderOutboxService, "lease", Duration.ofMinutes(3));
+        ReflectionTestUtils.setField(orderOutboxService, "maxAttempts", 3);
+        ReflectionTestUtils.setField(orderOutboxService, "retryBackoff", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(orderOutboxService, "maxRetryBackoff", Duration.ofMinutes(5));
+    }
+
+    @Nested
+    @DisplayName("saveOrderCreatedEvent tests")
+    class SaveOrderCreatedEventTests {
+
+        @Test
+        @DisplayName("should store event as pending outbox row")
+        void shouldStorePendingOutboxRow() {
+            orderOutboxService.saveOrderCreatedEvent(createEvent(1L));
+
+            ArgumentCaptor<OrderOutboxEvent> captor = ArgumentCaptor.forClass(OrderOutboxEvent.class);
+            verify(orderOutboxRepository).save(captor.capture());
+
+            OrderOutboxEvent saved = captor.getValue();
+            assertThat(saved.getOrderId()).isEqualTo(1L);
+            assertThat(saved.getEventType()).isEqualTo("ORDER_CREATED");
+            assertThat(saved.getStatus()).isEqualTo(OutboxStatus.PENDING);
+            assertThat(saved.getPayload()).contains("\"orderId\":1");
+        }
+    }
+
+    @Nested
+    @DisplayName("publishPendingEvents tests")
+    class PublishPendingEventsTests {
+
+        @Test
+        @DisplayName("should mark published events as sent")
+        void shouldMarkPublishedEventsAsSent() throws Exception {
+            OrderOutboxEvent first = createOutboxEvent(1L);
+            OrderOutboxEvent second = createOutboxEvent(2L);
+
+            when(orderOutboxRepository.lockPendingBatch(any(LocalDateTime.class), eq(100))).thenReturn(List.of(first, second));
+            when(orderEventProducer.sendOrderCreatedEvent(any(OrderCreatedEventDto.class)))
+                    .thenReturn(CompletableFuture.completedFuture(null));
+
+            int published = orderOutboxService.publishPendingEvents();
+
+            assertThat(published).isEqualTo(2);
+            assertThat(first.getStatus()).isEqualTo(OutboxStatus.SENT);
+            assertThat(first.getSentAt()).isNotNull();
+            assertThat(second.getStatus()).isEqualTo(OutboxStatus.SENT);
+        }
+
+        @Test
+        @DisplayName("should keep failed events pending and count attempt")
+        void shouldKeepFailedEventsPending() throws Exception {
+            OrderOutboxEvent ok = createOutboxEvent(1L);
+            OrderOutboxEvent failed = createOutboxEvent(2L);
+
+            when(orderOutboxRepository.lockPendingBatch(any(LocalDateTime.class), eq(100))).thenReturn(List.of(ok, failed));
+            when(orderEventProducer.sendOrderCreatedEvent(any(OrderCreatedEventDto.class)))
+                    .thenReturn(CompletableFuture.completedFuture(null))
+                    .thenReturn(CompletableFuture.failedFuture(new RuntimeException("broker down")));
+
+            int published = orderOutboxService.publishPendingEvents();
+
+            assertThat(published).isEqualTo(1);
+            assertThat(ok.getStatus()).isEqualTo(OutboxStatus.SENT);
+            assertThat(failed.getStatus()).isEqualTo(OutboxStatus.PENDING);
+            assertThat(failed.getAttempts()).isEqualTo(1);
+            assertThat(failed.getSentAt()).isNull();
+            assertThat(failed.getNextAttemptAt()).isAfter(LocalDateTime.now());
+        }
+
+        @Test
+        @DisplayName("should mark event failed once it reaches max attempts")
+        void shouldMarkFailed_WhenMaxAttemptsReached() throws Exception {
+            OrderOutboxEvent event = createOutboxEvent(1L);
+            event.setAttempts(2);
+
+            when(orderOutboxRepository.lockPendingBatch(any(LocalDateTime.class), eq(100))).thenReturn(List.of(event));
+            when(orderEventProducer.sendOrderCreatedEvent(any(OrderCreatedEventDto.class)))
+                    .thenReturn(CompletableFuture.failedFuture(new RuntimeException("broker down")));
+
+            assertThat(orderOutboxService.publishPendingEvents()).isZero();
+
+            assertThat(event.getStatus()).isEqualTo(OutboxStatus.FAILED);
+            assertThat(event.getAttempts()).isEqualTo(3);
+            assertThat(meterRegistry.counter("order.outbox.failed").count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("should not call producer when outbox is empty")
+        void shouldNotCallProducer_WhenOutboxEmpty() {
+            when(orderOutboxRepository.lockPendingBatch(any(LocalDateTime.class), eq(100))).thenReturn(List.of());
+
+            assertThat(orderOutboxService.publishPendingEvents()).isZero();
+
+            verifyNoInteractions(orderEventProducer);
+        }
+    }
+
+    @Nested
+    @DisplayName("publishPendingEvents async send tests")
+    class PublishPendingEventsAsyncTests {
+
+        @BeforeEach
+        void enableAsyncSend() {
+            ReflectionTestUtils.setField(orderOutboxService, "asyncSend", true);
+            ReflectionTestUtils.setField(orderOutboxService, "maxInFlight", 1000);
+        }
+
+        @Test
+        @DisplayName("should dispatch without waiting and write results back on next run")
+        void shouldWriteBackResultsOnNextRun() throws Exception {
+            OrderOutboxEvent ok = createOutboxEvent(1L);
+            OrderOutboxEvent failed = createOutboxEvent(2L);
+            CompletableFuture<SendResult<String, OrderCreatedEventDto>> okSend = new CompletableFuture<>();
+            CompletableFuture<SendResult<String, OrderCreatedEventDto>> failedSend = new CompletableFuture<>();
+
+            when(orderOutboxRepository.lockPendingBatch(any(LocalDateTime.class), eq(100))).thenReturn(List.of(ok, failed), List.of());
+            when(orderEventProducer.sendOrderCreatedEvent(any(OrderCreatedEventDto.class)))
+                    .thenReturn(okSend, failedSend);
+
+            assertThat(orderOutboxService.publishPendingEvents()).isEqualTo(2);
+            verify(orderOutboxRepository, never()).markSent(any(), any());
+
+            okSend.complete(null);
+            failedSend.completeExceptionally(new RuntimeException("broker down"));
+            when(orderOutboxRepository.findAllById(List.of(2L))).thenReturn(List.of(failed));
+
+            assertThat(orderOutboxService.publishPendingEvents()).isZero();
+            verify(orderOutboxRepository).markSent(eq(List.of(1L)), any(LocalDateTime.class));
+            assertThat(failed.getAttempts()).isEqualTo(1);
+            assertThat(failed.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        }
+
+        @Test
+        @DisplayName("should lease dispatched events so other relay instances skip them")
+        void shouldLeaseDispatchedEvents() throws Exception {
+            OrderOutboxEvent event = createOutboxEvent(1L);
+
+            when(orderOutboxRepository.lockPendingBatch(any(LocalDateTime.class), eq(100))).thenReturn(List.of(event));
+            when(orderEventProducer.sendOrderCreatedEvent(any(OrderCreatedEventDto.class)))
+                    .thenReturn(new CompletableFuture<>());
+
+            assertThat(orderOutboxService.publishPendingEvents()).isEqualTo(1);
+
+            assertThat(event.getStatus()).isEqualTo(OutboxStatus.PENDING);
+            assertThat(event.getNextAttemptAt()).isAfter(LocalDateTime.now().plusMinutes(2));
+        }
+
+        @Test
+        @DisplayName("should not send events again while they are in flight")
+        void shouldSkipInFlightEvents() throws Exception {
+            OrderOutboxEvent event = createOutboxEvent(1L);
+
+            when(orderOutboxRepository.lockPendingBatch(any(LocalDateTime.class), eq(100))).thenReturn(List.of(event));
+            when(orderOutboxRepository.lockPendingBatch(any(LocalDateTime.class), eq(101))).thenReturn(List.of(event));
+            when(orderEventProducer.sendOrderCreatedEvent(any(OrderCreatedEventDto.class)))
+                    .thenReturn(new CompletableFuture<>());
+
+            assertThat(orderOutboxService.publishPendingEvents()).isEqualTo(1);
+            assertThat(orderOutboxService.publishPendingEvents()).isZero();
+
+            verify(orderEventProducer, times(1)).sendOrderCreatedEvent(any(OrderCreatedEventDto.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("deleteSentEvents tests")
+    class DeleteSentEventsTests {
+
+        @Test
+        @DisplayName("should delete sent events older than retention")
+        void shouldDeleteSentEventsOlderThanRetention() {
+            when(orderOutboxRepository.deleteByStatusAndSentAtBefore(eq(OutboxStatus.SENT), any(LocalDateTime.class)))
+                    .thenReturn(3);
+
+            assertThat(orderOutboxService.deleteSentEvents()).isEqualTo(3);
+
+            ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+            verify(orderOutboxRepository).deleteByStatusAndSentAtBefore(eq(OutboxStatus.SENT), cutoff.capture());
+            assertThat(cutoff.getValue()).isBefore(LocalDateTime.now().minusMinutes(59));
+        }
+    }
+
+    @Nested
+    @DisplayName("requeueFailedEvents tests")
+    class RequeueFailedEventsTests {
+
+        @Test
+        @DisplayName("should put failed events back into the relay queue")
+        void shouldRequeueFailedEvents() {
+            when(orderOutboxRepository.requeueFailed()).thenReturn(2);
+
+            assertThat(orderOutboxService.requeueFailedEvents()).isEqualTo(2);
+
+            verify(orderOutboxRepository).requeueFailed();
+        }
+    }
+
+    private OrderCreatedEventDto createEvent(Long orderId) {
+        return OrderCreatedEventDto.builder()
+                .orderId(orderId)
+                .userId(1L)
+                .totalAmount(new BigDecimal("3000.00"))
+                .eventType("ORDER_CREATED")
+                .build();
+    }
+
+    private OrderOutboxEvent createOutboxEvent(Long orderId) throws Exception {
+        return OrderOutboxEvent.builder()
+                .id(orderId)
+                .orderId(orderId)
+                .eventType("ORDER_CREATED")
+                .payload(objectMapper.writeValueAsString(createEvent(orderId)))
+                .build();
+    }
+}
@@ -1,20 +1,34 @@
 package com.innowise.orderservice.service.impl;
 
+import com.innowise.orderservice.client.LastKnownUserStore;
+import com.innowise.orderservice.client.UnknownUserPolicy;
 import com.innowise.orderservice.client.UserServiceClient;
 import com.innowise.orderservice.client.dto.UserInfoDto;
+import com.innowise.orderservice.dto.order.OrderBatchEntryDto;
+import com.innowise.orderservice.dto.order.OrderBatchResponseDto;
+import com.innowise.orderservice.dto.order.OrderBatchResultDto;
+import com.innowise.orderservice.dto.order.OrderCreatedEventDto;
 import com.innowise.orderservice.dto.order.OrderItemRequestDto;
 import com.innowise.orderservice.dto.order.OrderRequestDto;
 import com.innowise.orderservice.dto.order.OrderResponseDto;
+import com.innowise.orderservice.dto.order.OrderScrollResponseDto;
+import com.innowise.orderservice.dto.order.OrderStatusUpdateResultDto;
 import com.innowise.orderservice.dto.order.OrderUpdateDto;
 import com.innowise.orderservice.entity.Item;
 import com.innowise.orderservice.entity.Order;
 import com.innowise.orderservice.entity.OrderItem;
 import com.innowise.orderservice.enums.OrderStatus;
+import com.innowise.orderservice.exception.InvalidCursorException;
 import com.innowise.orderservice.exception.InvalidOrderStateException;
 import com.innowise.orderservice.exception.ResourceNotFoundException;
+import com.innowise.orderservice.exception.ServiceUnavailableException;
+import com.innowise.orderservice.exception.UserNotFoundException;
 import com.innowise.orderservice.mapper.OrderMapper;
 import com.innowise.orderservice.repository.ItemRepository;
 import com.innowise.orderservice.repository.OrderRepository;
+import com.innowise.orderservice.service.OrderOutboxService;
+import com.innowise.orderservice.util.OrderCursorHelper;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -23,18 +37,29 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -57,9 +82,85 @@ class OrderServiceImplTest {
     @Mock
     private UserServiceClient userServiceClient;
 
+    @Mock
+    private UnknownUserPolicy unknownUserPolicy;
+
+    @Mock
+    private OrderOutboxService orderOutboxService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
     @InjectMocks
     private OrderServiceImpl orderService;
 
+    @BeforeEach
+    void setUpTransactions() {
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        ReflectionTestUtils.setField(orderService, "orderUserLookupExecutor", (Executor) Runnable::run);
+    }
+
+    @Nested
+    @DisplayName("scrollAllOrders tests")
+    class ScrollAllOrdersTests {
+
+        @Test
+        @DisplayName("should return next cursor when more orders exist")
+        void shouldReturnNextCursor_WhenMoreOrdersExist() {
+            Order first = createOrder(1L, 1L);
+            Order second = createOrder(2L, 1L);
+            Order third = createOrder(3L, 1L);
+
+            when(orderRepository.findBy(any(Specification.class), any()))
+                    .thenReturn(List.of(first, second, third));
+            when(orderRepository.findAllWithItemsByIdIn(List.of(1L, 2L)))
+                    .thenReturn(List.of(first, second));
+            when(userServiceClient.getUsersByIds(Set.of(1L)))
+                    .thenReturn(List.of(createUserInfoDto(true)));
+            when(orderMapper.orderToDto(any(Order.class), any(UserInfoDto.class)))
+                    .thenAnswer(invocation -> createOrderResponseDto(invocation.<Order>getArgument(0).getId()));
+
+            OrderScrollResponseDto result = orderService.scrollAllOrders(null, null, null, null, 2);
+
+            assertThat(result.content()).extracting(OrderResponseDto::id).containsExactly(1L, 2L);
+            assertThat(result.hasNext()).isTrue();
+            assertThat(result.nextCursor()).isEqualTo(OrderCursorHelper.encode(second));
+            verify(orderRepository, never()).count(any(Specification.class));
+        }
+
+        @Test
+        @DisplayName("should return no cursor on last page")
+        void shouldReturnNoCursor_OnLastPage() {
+            Order last = createOrder(3L, 1L);
+            String cursor = OrderCursorHelper.encode(createOrder(2L, 1L));
+
+            when(orderRepository.findBy(any(Specification.class), any()))
+                    .thenReturn(List.of(last));
+            when(orderRepository.findAllWithItemsByIdIn(List.of(3L)))
+                    .thenReturn(List.of(last));
+            when(userServiceClient.getUsersByIds(Set.of(1L)))
+                    .thenReturn(List.of(createUserInfoDto(true)));
+            when(orderMapper.orderToDto(any(Order.class), any(UserInfoDto.class)))
+                    .thenAnswer(invocation -> createOrderResponseDto(invocation.<Order>getArgument(0).getId()));
+
+            OrderScrollResponseDto result = orderService.scrollAllOrders(null, null, null, cursor, 2);
+
+            assertThat(result.content()).hasSize(1);
+            assertThat(result.hasNext()).isFalse();
+            assertThat(result.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("should throw exception when cursor is malformed")
+        void shouldThrowException_WhenCursorMalformed() {
+            assertThatThrownBy(() -> orderService.scrollAllOrders(null, null, null, "not-a-cursor", 20))
+                    .isInstanceOf(InvalidCursorException.class);
+
+            verifyNoInteractions(orderRepository);
+        }
+    }
+
     @Nested
     @DisplayName("getAllOrders tests")
     class GetAllOrdersTests {
@@ -80,8 +181,10 @@ class OrderServiceImplTest {
 
             when(orderRepository.findAll(any(Specification.class), eq(pageable)))
                     .thenReturn(orderPage);
-            when(userServiceClient.getUserById(anyLong()))
-                    .thenReturn(createUserInfoDto(true));
+            when(orderRepository.findAllWithItemsByIdIn(anyList()))
+                    .thenReturn(orderPage.getContent());
+            when(userServiceClient.getUsersByIds(Set.of(1L)))
+                    .thenReturn(List.of(createUserInfoDto(true)));
             when(orderMapper.orderToDto(any(Order.class), any(UserInfoDto.class)))
                     .thenAnswer(invocation -> {
                         Order order = invocation.getArgument(0);
@@ -129,8 +232,10 @@ class OrderServiceImplTest {
 
             when(orderRepository.findAll(any(Specification.class), eq(pageable)))
                     .thenReturn(orderPage);
-            when(userServiceClient.getUserById(anyLong()))
-                    .thenReturn(createUserInfoDto(true));
+            when(orderRepository.findAllWithItemsByIdIn(anyList()))
+                    .thenReturn(orderPage.getContent());
+            when(userServiceClient.getUsersByIds(Set.of(1L)))
+                    .thenReturn(List.of(createUserInfoDto(true)));
             when(orderMapper.orderToDto(any(Order.class), any(UserInfoDto.class)))
                     .thenAnswer(invocation -> {
                         Order order = invocation.getArgument(0);
@@ -147,6 +252,82 @@ class OrderServiceImplTest {
             assertThat(result.getTotalPages()).isEqualTo(5);
             assertThat(result.getNumber()).isEqualTo(1);
         }
+
+        @Test
+        @DisplayName("should fetch distinct page users with one batch call")
+        void shouldFetchPageUsersWithOneBatchCall() {
+            Pageable pageable = PageRequest.of(0, 10);
+            Page<Order> orderPage = new PageImpl<>(
+                    List.of(createOrder(1L, 1L), createOrder(2L, 2L), createOrder(3L, 1L)), pageable, 3
+            );
+            UserInfoDto secondUser = UserInfoDto.builder().id(2L).name("Jane").active(true).build();
+
+            when(orderRepository.findAll(any(Specification.class), eq(pageable)))
+                    .thenReturn(orderPage);
+            when(orderRepository.findAllWithItemsByIdIn(anyList()))
+                    .thenReturn(orderPage.getContent());
+            when(userServiceClient.getUsersByIds(Set.of(1L, 2L)))
+                    .thenReturn(List.of(createUserInfoDto(true), secondUser));
+            when(orderMapper.orderToDto(any(Order.class), any(UserInfoDto.class)))
+                    .thenAnswer(invocation -> createOrderResponseDto(invocation.<Order>getArgument(0).getId()));
+
+            Page<OrderResponseDto> result = orderService.getAllOrders(null, null, null, pageable);
+
+            assertThat(result.getContent()).hasSize(3);
+            verify(userServiceClient, times(1)).getUsersByIds(Set.of(1L, 2L));
+            verify(userServiceClient, never()).getUserById(any());
+            verify(orderRepository, times(1)).findAllWithItemsByIdIn(List.of(1L, 2L, 3L));
+            verify(orderMapper).orderToDto(orderPage.getContent().get(1), secondUser);
+        }
+
+        @Test
+        @DisplayName("should look up users missing from batch response one by one")
+        void shouldLookUpMissingUsersOneByOne() {
+            Pageable pageable = PageRequest.of(0, 10);
+            Page<Order> orderPage = new PageImpl<>(
+                    List.of(createOrder(1L, 1L), createOrder(2L, 2L)), pageable, 2
+            );
+            UserInfoDto secondUser = UserInfoDto.builder().id(2L).name("Unavailable").active(true).build();
+
+            when(orderRepository.findAll(any(Specification.class), eq(pageable)))
+                    .thenReturn(orderPage);
+            when(orderRepository.findAllWithItemsByIdIn(anyList()))
+                    .thenReturn(orderPage.getContent());
+            when(userServiceClient.getUsersByIds(Set.of(1L, 2L)))
+                    .thenReturn(List.of(createUserInfoDto(true)));
+            when(userServiceClient.getUserById(2L)).thenReturn(secondUser);
+            when(orderMapper.orderToDto(any(Order.class), any(UserInfoDto.class)))
+                    .thenAnswer(invocation -> createOrderResponseDto(invocation.<Order>getArgument(0).getId()));
+
+            orderService.getAllOrders(null, null, null, pageable);
+
+            verify(userServiceClient, never()).getUserById(1L);
+            verify(orderMapper).orderToDto(orderPage.getContent().get(1), secondUser);
+        }
+
+        @Test
+        @DisplayName("should list orders of a deleted user without user info")
+        void shouldListOrders_WhenUserDeleted() {
+            Pageable pageable = PageRequest.of(0, 10);
+            Page<Order> orderPage = new PageImpl<>(
+                    List.of(createOrder(1L, 1L), createOrder(2L, 2L)), pageable, 2
+            );
+
+            when(orderRepository.findAll(any(Specification.class), eq(pageable)))
+                    .thenReturn(orderPage);
+            when(orderRepository.findAllWithItemsByIdIn(anyList()))
+                    .thenReturn(orderPage.getContent());
+            when(userServiceClient.getUsersByIds(Set.of(1L, 2L)))
+                    .thenReturn(List.of(createUserInfoDto(true)));
+            when(userServiceClient.getUserById(2L)).thenThrow(new UserNotFoundException("User not found"));
+            when(orderMapper.orderToDto(any(Order.class), any()))
+                    .thenAnswer(invocation -> createOrderResponseDto(invocation.<Order>getArgument(0).getId()));
+
+            Page<OrderResponseDto> result = orderService.getAllOrders(null, null, null, pageable);
+
+            assertThat(result.getContent()).hasSize(2);
+            verify(orderMapper).orderToDto(orderPage.getContent().get(1), null);
+        }
     }
 
     @Nested
@@ -166,6 +347,8 @@ class OrderServiceImplTest {
 
             when(orderRepository.findByUserIdAndDeletedFalse(userId, pageable))
                     .thenReturn(orderPage);
+            when(orderRepository.findAllWithItemsByIdIn(anyList()))
+                    .thenReturn(orderPage.getContent());
             when(userServiceClient.getUserById(userId))
                     .thenReturn(createUserInfoDto(true));
             when(orderMapper.orderToDto(any(Order.class), any(UserInfoDto.class)))
@@ -220,8 +403,8 @@ class OrderServiceImplTest {
 
             when(orderRepository.findByIdAndDeletedFalse(orderId))
                     .thenReturn(Optional.of(existingOrder));
-            when(itemRepository.findById(2L))
-                    .thenReturn(Optional.of(newItem));
+            when(itemRepository.findAllById(Set.of(2L)))
+                    .thenReturn(List.of(newItem));
             when(orderRepository.save(existingOrder))
                     .thenReturn(existingOrder);
             when(userServiceClient.getUserById(1L))
@@ -259,9 +442,8 @@ class OrderServiceImplTest {
 
             when(orderRepository.findByIdAndDeletedFalse(orderId))
                     .thenReturn(Optional.of(existingOrder));
-            when(itemRepository.findById(1L)).thenReturn(Optional.of(item1));
-            when(itemRepository.findById(2L)).thenReturn(Optional.of(item2));
-            when(itemRepository.findById(3L)).thenReturn(Optional.of(item3));
+            when(itemRepository.findAllById(Set.of(1L, 2L, 3L)))
+                    .thenReturn(List.of(item1, item2, item3));
             when(orderRepository.save(existingOrder)).thenReturn(existingOrder);
             when(userServiceClient.getUserById(1L)).thenReturn(createUserInfoDto(true));
             when(orderMapper.orderToDto(any(Order.class), any(UserInfoDto.class)))
@@ -332,7 +514,7 @@ class OrderServiceImplTest {
 
             when(orderRepository.findByIdAndDeletedFalse(orderId))
                     .thenReturn(Optional.of(existingOrder));
-            when(itemRepository.findById(1L)).thenReturn(Optional.of(newItem));
+            when(itemRepository.findAllById(Set.of(1L))).thenReturn(List.of(newItem));
             when(orderRepository.save(existingOrder)).thenReturn(existingOrder);
             when(userServiceClient.getUserById(1L)).thenReturn(createUserInfoDto(true));
             when(orderMapper.orderToDto(any(Order.class), any(UserInfoDto.class)))
@@ -407,7 +589,7 @@ class OrderServiceImplTest {
             OrderResponseDto expected = createOrderResponseDto(1L);
 
             when(userServiceClient.getUserById(userId)).thenReturn(userInfo);
-            when(itemRepository.findById(1L)).thenReturn(Optional.of(item));
+            when(itemRepository.findAllById(Set.of(1L))).thenReturn(List.of(item));
             when(orderRepository.save(any(Order.class))).thenReturn(savedOrder);
             when(orderMapper.orderToDto(savedOrder, userInfo)).thenReturn(expected);
 
@@ -417,8 +599,9 @@ class OrderServiceImplTest {
             assertThat(result.id()).isEqualTo(1L);
 
             verify(userServiceClient, times(1)).getUserById(userId);
-            verify(itemRepository, times(1)).findById(1L);
+            verify(itemRepository, times(1)).findAllById(Set.of(1L));
             verify(orderRepository, times(1)).save(any(Order.class));
+            verify(orderOutboxService, times(1)).saveOrderCreatedEvent(any(OrderCreatedEventDto.class));
         }
 
         @Test
@@ -435,10 +618,89 @@ class OrderServiceImplTest {
                     .hasMessageContaining("inactive user");
 
             verify(userServiceClient, times(1)).getUserById(userId);
-            verify(itemRepository, never()).findById(any());
             verify(orderRepository, never()).save(any());
         }
 
+        @Test
+        @DisplayName("should report inactive user before missing items")
+        void shouldThrowInvalidOrderStateException_WhenUserInactiveAndItemMissing() {
+            Long userId = 1L;
+            when(userServiceClient.getUserById(userId)).thenReturn(createUserInfoDto(false));
+            when(itemRepository.findAllById(Set.of(1L))).thenReturn(List.of());
+
+            assertThatThrownBy(() -> orderService.createOrder(createOrderRequestDto(), userId))
+                    .isInstanceOf(InvalidOrderStateException.class);
+        }
+
+        @Test
+        @DisplayName("should load items while the user lookup is in flight")
+        void shouldLoadItemsDuringUserLookup() {
+            Long userId = 1L;
+            UserInfoDto userInfo = createUserInfoDto(true);
+            Order savedOrder = createOrder(1L, userId);
+            CountDownLatch itemsLoaded = new CountDownLatch(1);
+            ReflectionTestUtils.setField(orderService, "orderUserLookupExecutor",
+                    (Executor) task -> Thread.ofVirtual().start(task));
+
+            when(userServiceClient.getUserById(userId)).thenAnswer(invocation -> {
+                if (!itemsLoaded.await(5, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("items were not loaded during the user lookup");
+                }
+                return userInfo;
+            });
+            when(itemRepository.findAllById(Set.of(1L))).thenAnswer(invocation -> {
+                itemsLoaded.countDown();
+                return List.of(createItem(1L));
+            });
+            when(orderRepository.save(any(Order.class))).thenReturn(savedOrder);
+            when(orderMapper.orderToDto(savedOrder, userInfo)).thenReturn(createOrderResponseDto(1L));
+
+            assertThat(orderService.createOrder(createOrderRequestDto(), userId).id()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("should rethrow the user lookup failure unwrapped")
+        void shouldRethrowUserLookupFailure() {
+            Long userId = 1L;
+            when(userServiceClient.getUserById(userId)).thenThrow(new UserNotFoundException("User not found"));
+
+            assertThatThrownBy(() -> orderService.createOrder(createOrderRequestDto(), userId))
+                    .isInstanceOf(UserNotFoundException.class);
+
+            verify(orderRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("should reject unknown user while User Service is degraded when policy forbids it")
+        void shouldThrowServiceUnavailableException_WhenUnknownUserRejected() {
+            Long userId = 1L;
+            when(userServiceClient.getUserById(userId)).thenReturn(LastKnownUserStore.unknownUser(userId));
+            when(unknownUserPolicy.allowsOrders(userId)).thenReturn(false);
+
+            assertThatThrownBy(() -> orderService.createOrder(createOrderRequestDto(), userId))
+                    .isInstanceOf(ServiceUnavailableException.class)
+                    .hasMessageContaining("cannot verify user");
+
+            verify(orderRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("should create order for unknown user when policy allows it")
+        void shouldCreateOrder_WhenUnknownUserAllowed() {
+            Long userId = 1L;
+            UserInfoDto unknownUser = LastKnownUserStore.unknownUser(userId);
+            Order savedOrder = createOrder(1L, userId);
+            when(userServiceClient.getUserById(userId)).thenReturn(unknownUser);
+            when(unknownUserPolicy.allowsOrders(userId)).thenReturn(true);
+            when(itemRepository.findAllById(Set.of(1L))).thenReturn(List.of(createItem(1L)));
+            when(orderRepository.save(any(Order.class))).thenReturn(savedOrder);
+            when(orderMapper.orderToDto(savedOrder, unknownUser)).thenReturn(createOrderResponseDto(1L));
+
+            assertThat(orderService.createOrder(createOrderRequestDto(), userId).id()).isEqualTo(1L);
+
+            verify(orderOutboxService).saveOrderCreatedEvent(any(OrderCreatedEventDto.class));
+        }
+
         @Test
         @DisplayName("should throw ResourceNotFoundException when item not found")
         void shouldThrowResourceNotFoundException_WhenItemNotFound() {
@@ -447,7 +709,7 @@ class OrderServiceImplTest {
             UserInfoDto userInfo = createUserInfoDto(true);
 
             when(userServiceClient.getUserById(userId)).thenReturn(userInfo);
-            when(itemRepository.findById(1L)).thenReturn(Optional.empty());
+            when(itemRepository.findAllById(Set.of(1L))).thenReturn(List.of());
 
             assertThatThrownBy(() -> orderService.createOrder(requestDto, userId))
                     .isInstanceOf(ResourceNotFoundException.class)
@@ -455,6 +717,184 @@ class OrderServiceImplTest {
 
             verify(orderRepository, never()).save(any());
         }
+
+        @Test
+        @DisplayName("should report all missing items in one ResourceNotFoundException")
+        void shouldReportAllMissingItems_WhenSeveralItemsNotFound() {
+            Long userId = 1L;
+            OrderRequestDto requestDto = OrderRequestDto.builder()
+                    .items(List.of(
+                            new OrderItemRequestDto(1L, 1),
+                            new OrderItemRequestDto(2L, 1),
+                            new OrderItemRequestDto(3L, 1)
+                    ))
+                    .build();
+
+            when(userServiceClient.getUserById(userId)).thenReturn(createUserInfoDto(true));
+            when(itemRepository.findAllById(Set.of(1L, 2L, 3L))).thenReturn(List.of(createItem(2L)));
+
+            assertThatThrownBy(() -> orderService.createOrder(requestDto, userId))
+                    .isInstanceOf(ResourceNotFoundException.class)
+                    .hasMessageContaining("Item not found")
+                    .hasMessageContaining("[1, 3]");
+
+            verify(itemRepository, times(1)).findAllById(any());
+            verify(orderRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("should merge lines with duplicate item ids")
+        void shouldMergeDuplicateItemIds() {
+            Long userId = 1L;
+            OrderRequestDto requestDto = OrderRequestDto.builder()
+                    .items(List.of(
+                            new OrderItemRequestDto(1L, 2),
+                            new OrderItemRequestDto(2L, 1),
+                            new OrderItemRequestDto(1L, 3)
+                    ))
+                    .build();
+            Item laptop = createItem(1L, "Laptop", new BigDecimal("1500.00"));
+            Item mouse = createItem(2L, "Mouse", new BigDecimal("25.00"));
+
+            when(userServiceClient.getUserById(userId)).thenReturn(createUserInfoDto(true));
+            when(itemRepository.findAllById(Set.of(1L, 2L))).thenReturn(List.of(laptop, mouse));
+            when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            orderService.createOrder(requestDto, userId);
+
+            ArgumentCaptor<Order> orderCaptor = ArgumentCaptor.forClass(Order.class);
+            verify(orderRepository).save(orderCaptor.capture());
+
+            Order savedOrder = orderCaptor.getValue();
+            assertThat(savedOrder.getItems()).hasSize(2);
+            assertThat(savedOrder.getItems().get(0).getItem()).isEqualTo(laptop);
+            assertThat(savedOrder.getItems().get(0).getQuantity()).isEqualTo(5);
+            assertThat(savedOrder.getItems().get(1).getQuantity()).isEqualTo(1);
+            assertThat(savedOrder.getTotalPrice())
+                    .isEqualByComparingTo(new BigDecimal("7525.00"));
+        }
+    }
+
+    @Nested
+    @DisplayName("createOrders tests")
+    class CreateOrdersTests {
+
+        @BeforeEach
+        void setUp() {
+            ReflectionTestUtils.setField(orderService, "batchChunkSize", 10);
+        }
+
+        @Test
+        @DisplayName("should resolve users and items once and report result for every order")
+        void shouldCreateValidOrdersAndReportFailures() {
+            Item laptop = createItem(1L, "Laptop", new BigDecimal("1500.00"));
+            List<OrderBatchEntryDto> entries = List.of(
+                    createBatchEntry(1L, 1L, 1),
+                    createBatchEntry(1L, 1L, 2),
+                    createBatchEntry(2L, 1L, 1),
+                    createBatchEntry(1L, 99L, 1)
+            );
+
+            when(userServiceClient.getUsersByIds(Set.of(1L, 2L)))
+                    .thenReturn(List.of(createUserInfoDto(true), createUserInfoDto(2L, false)));
+            when(itemRepository.findAllById(Set.of(1L, 99L))).thenReturn(List.of(laptop));
+            when(orderRepository.saveAll(anyList())).thenAnswer(invocation -> assignIds(invocation.getArgument(0)));
+
+            OrderBatchResponseDto result = orderService.createOrders(entries);
+
+            assertThat(result.created()).isEqualTo(2);
+            assertThat(result.failed()).isEqualTo(2);
+            assertThat(result.results()).extracting(OrderBatchResultDto::success)
+                    .containsExactly(true, true, false, false);
+            assertThat(result.results().get(1).totalPrice()).isEqualByComparingTo(new BigDecimal("3000.00"));
+            assertThat(result.results().get(2).error()).contains("inactive user");
+            assertThat(result.results().get(3).error()).contains("Item not found");
+
+            verify(userServiceClient, times(1)).getUsersByIds(Set.of(1L, 2L));
+            verify(userServiceClient, never()).getUserById(any());
+            verify(itemRepository, times(1)).findAllById(any());
+            verify(orderRepository, times(1)).saveAll(anyList());
+            verify(orderOutboxService, times(1)).saveOrderCreatedEvents(anyList());
+        }
+
+        @Test
+        @DisplayName("should retry failed chunk one by one and keep successful orders")
+        void shouldRetryFailedChunkOneByOne() {
+            Item laptop = createItem(1L, "Laptop", new BigDecimal("1500.00"));
+            List<OrderBatchEntryDto> entries = List.of(
+                    createBatchEntry(1L, 1L, 1),
+                    createBatchEntry(1L, 1L, 2)
+            );
+
+            when(userServiceClient.getUsersByIds(Set.of(1L))).thenReturn(List.of(createUserInfoDto(true)));
+            when(itemRepository.findAllById(Set.of(1L))).thenReturn(List.of(laptop));
+            when(orderRepository.saveAll(anyList()))
+                    .thenThrow(new RuntimeException("constraint violation"))
+                    .thenAnswer(invocation -> assignIds(invocation.getArgument(0)))
+                    .thenThrow(new RuntimeException("constraint violation"));
+
+            OrderBatchResponseDto result = orderService.createOrders(entries);
+
+            assertThat(result.created()).isEqualTo(1);
+            assertThat(result.failed()).isEqualTo(1);
+            assertThat(result.results().get(0).success()).isTrue();
+            assertThat(result.results().get(1).error()).contains("constraint violation");
+            verify(orderRepository, times(3)).saveAll(anyList());
+        }
+
+        @Test
+        @DisplayName("should look up only users missing from the batch response one by one")
+        void shouldLookUpMissingUsersOneByOne() {
+            Item laptop = createItem(1L, "Laptop", new BigDecimal("1500.00"));
+            List<OrderBatchEntryDto> entries = List.of(
+                    createBatchEntry(1L, 1L, 1),
+                    createBatchEntry(2L, 1L, 1)
+            );
+
+            when(userServiceClient.getUsersByIds(Set.of(1L, 2L))).thenReturn(List.of(createUserInfoDto(true)));
+            when(userServiceClient.getUserById(2L)).thenThrow(new UserNotFoundException("User not found in User Service"));
+            when(itemRepository.findAllById(Set.of(1L))).thenReturn(List.of(laptop));
+            when(orderRepository.saveAll(anyList())).thenAnswer(invocation -> assignIds(invocation.getArgument(0)));
+
+            OrderBatchResponseDto result = orderService.createOrders(entries);
+
+            assertThat(result.created()).isEqualTo(1);
+            assertThat(result.results().get(1).error()).contains("User not found");
+            verify(userServiceClient, never()).getUserById(1L);
+        }
+
+        @Test
+        @DisplayName("should propagate an unexpected batch user lookup failure without saving orders")
+        void shouldPropagate_WhenBatchLookupFails() {
+            List<OrderBatchEntryDto> entries = List.of(
+                    createBatchEntry(1L, 1L, 1),
+                    createBatchEntry(2L, 1L, 1)
+            );
+
+            when(userServiceClient.getUsersByIds(Set.of(1L, 2L))).thenThrow(new ServiceUnavailableException("down"));
+
+            assertThatThrownBy(() -> orderService.createOrders(entries))
+                    .isInstanceOf(ServiceUnavailableException.class);
+
+            verify(userServiceClient, never()).getUserById(any());
+            verify(orderRepository, never()).saveAll(anyList());
+        }
+
+        private List<Order> assignIds(List<Order> orders) {
+            for (int i = 0; i < orders.size(); i++) {
+                orders.get(i).setId(100L + i);
+            }
+            return orders;
+        }
+
+        private OrderBatchEntryDto createBatchEntry(Long userId, Long itemId, int quantity) {
+            return OrderBatchEntryDto.builder()
+                    .userId(userId)
+                    .order(OrderRequestDto.builder()
+                            .items(List.of(new OrderItemRequestDto(itemId, quantity)))
+                            .build())
+                    .build();
+        }
     }
 
     @Nested
@@ -469,7 +909,7 @@ class OrderServiceImplTest {
             UserInfoDto userInfo = createUserInfoDto(true);
             OrderResponseDto expected = createOrderResponseDto(orderId);
 
-            when(orderRepository.findByIdAndDeletedFalse(orderId)).thenReturn(Optional.of(order));
+            when(orderRepository.findWithItemsByIdAndDeletedFalse(orderId)).thenReturn(Optional.of(order));
             when(userServiceClient.getUserById(order.getUserId())).thenReturn(userInfo);
             when(orderMapper.orderToDto(order, userInfo)).thenReturn(expected);
 
@@ -478,7 +918,7 @@ class OrderServiceImplTest {
             assertThat(result).isNotNull();
             assertThat(result.id()).isEqualTo(orderId);
 
-            verify(orderRepository, times(1)).findByIdAndDeletedFalse(orderId);
+            verify(orderRepository, times(1)).findWithItemsByIdAndDeletedFalse(orderId);
             verify(userServiceClient, times(1)).getUserById(order.getUserId());
             verify(orderMapper, times(1)).orderToDto(order, userInfo);
         }
@@ -488,15 +928,40 @@ class OrderServiceImplTest {
         void shouldThrowResourceNotFoundException_WhenOrderNotFound() {
             Long orderId = 999L;
 
-            when(orderRepository.findByIdAndDeletedFalse(orderId)).thenReturn(Optional.empty());
+            when(orderRepository.findWithItemsByIdAndDeletedFalse(orderId)).thenReturn(Optional.empty());
 
             assertThatThrownBy(() -> orderService.getOrderById(orderId))
                     .isInstanceOf(ResourceNotFoundException.class)
                     .hasMessageContaining("Order not found");
 
-            verify(orderRepository, times(1)).findByIdAndDeletedFalse(orderId);
+            verify(orderRepository, times(1)).findWithItemsByIdAndDeletedFalse(orderId);
             verify(userServiceClient, never()).getUserById(any());
         }
+
+        @Test
+        @DisplayName("should call User Service after read transaction is finished")
+        void shouldCallUserServiceOutsideTransaction() {
+            Order order = createOrder(1L, 1L);
+            AtomicBoolean inTransaction = new AtomicBoolean();
+
+            doAnswer(invocation -> {
+                inTransaction.set(true);
+                try {
+                    return invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null);
+                } finally {
+                    inTransaction.set(false);
+                }
+            }).when(transactionTemplate).execute(any());
+            when(orderRepository.findWithItemsByIdAndDeletedFalse(1L)).thenReturn(Optional.of(order));
+            when(userServiceClient.getUserById(1L)).thenAnswer(invocation -> {
+                assertThat(inTransaction).isFalse();
+                return createUserInfoDto(true);
+            });
+
+            orderService.getOrderById(1L);
+
+            verify(userServiceClient).getUserById(1L);
+        }
     }
 
     @Nested
@@ -540,6 +1005,148 @@ class OrderServiceImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("compareAndSetStatus tests")
+    class CompareAndSetStatusTests {
+
+        @Test
+        @DisplayName("should update status only from allowed predecessors")
+        void shouldApplyTransition_WhenOrderInAllowedStatus() {
+            when(orderRepository.updateStatus(eq(1L), eq(OrderStatus.CANCELLED),
+                    eq(Set.of(OrderStatus.PENDING, OrderStatus.PROCESSING)), any(LocalDateTime.class)))
+                    .thenReturn(1);
+
+            OrderStatusUpdateResultDto result = orderService.compareAndSetStatus(1L, OrderStatus.CANCELLED);
+
+            assertThat(result.applied()).isTrue();
+            assertThat(result.currentStatus()).isEqualTo(OrderStatus.CANCELLED);
+            verify(orderRepository, never()).findStatusById(any());
+            verifyNoInteractions(userServiceClient, orderMapper);
+        }
+
+        @Test
+        @DisplayName("should report current status when transition is not allowed")
+        void shouldReportCurrentStatus_WhenTransitionNotApplied() {
+            when(orderRepository.updateStatus(eq(1L), eq(OrderStatus.PROCESSING), any(), any(LocalDateTime.class)))
+                    .thenReturn(0);
+            when(orderRepository.findStatusById(1L)).thenReturn(Optional.of(OrderStatus.DELIVERED));
+
+            OrderStatusUpdateResultDto result = orderService.compareAndSetStatus(1L, OrderStatus.PROCESSING);
+
+            assertThat(result.applied()).isFalse();
+            assertThat(result.currentStatus()).isEqualTo(OrderStatus.DELIVERED);
+            verify(orderRepository, never()).findByIdAndDeletedFalse(any());
+            verifyNoInteractions(userServiceClient, orderMapper);
+        }
+
+        @Test
+        @DisplayName("should report missing order without current status")
+        void shouldReportNoStatus_WhenOrderNotFound() {
+            when(orderRepository.updateStatus(eq(999L), eq(OrderStatus.PROCESSING), any(), any(LocalDateTime.class)))
+                    .thenReturn(0);
+            when(orderRepository.findStatusById(999L)).thenReturn(Optional.empty());
+
+            OrderStatusUpdateResultDto result = orderService.compareAndSetStatus(999L, OrderStatus.PROCESSING);
+
+            assertThat(result.applied()).isFalse();
+            assertThat(result.currentStatus()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("transitionStatus tests")
+    class TransitionStatusTests {
+
+        @Test
+        @DisplayName("should apply transition without user lookup or mapping")
+        void shouldTransition_WithoutRemoteCall() {
+            when(orderRepository.updateStatus(eq(1L), eq(OrderStatus.PROCESSING),
+                    eq(Set.of(OrderStatus.PENDING)), any(LocalDateTime.class)))
+                    .thenReturn(1);
+
+            orderService.transitionStatus(1L, OrderStatus.PROCESSING);
+
+            verify(orderRepository, never()).findStatusById(any());
+            verify(orderRepository, never()).findByIdAndDeletedFalse(any());
+            verifyNoInteractions(userServiceClient, orderMapper);
+        }
+
+        @Test
+        @DisplayName("should throw InvalidOrderStateException when transition is not allowed")
+        void shouldThrow_WhenTransitionNotAllowed() {
+            when(orderRepository.updateStatus(eq(1L), eq(OrderStatus.PROCESSING), any(), any(LocalDateTime.class)))
+                    .thenReturn(0);
+            when(orderRepository.findStatusById(1L)).thenReturn(Optional.of(OrderStatus.CANCELLED));
+
+            assertThatThrownBy(() -> orderService.transitionStatus(1L, OrderStatus.PROCESSING))
+                    .isInstanceOf(InvalidOrderStateException.class)
+                    .hasMessageContaining("CANCELLED to PROCESSING");
+            verifyNoInteractions(userServiceClient, orderMapper);
+        }
+
+        @Test
+        @DisplayName("should throw ResourceNotFoundException when order does not exist")
+        void shouldThrow_WhenOrderNotFound() {
+            when(orderRepository.updateStatus(eq(999L), eq(OrderStatus.PROCESSING), any(), any(LocalDateTime.class)))
+                    .thenReturn(0);
+            when(orderRepository.findStatusById(999L)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> orderService.transitionStatus(999L, OrderStatus.PROCESSING))
+                    .isInstanceOf(ResourceNotFoundException.class);
+        }
+
+        @Test
+        @DisplayName("should skip when order is already in target status")
+        void shouldSkip_WhenAlreadyInTargetStatus() {
+            when(orderRepository.updateStatus(eq(1L), eq(OrderStatus.PROCESSING), any(), any(LocalDateTime.class)))
+                    .thenReturn(0);
+            when(orderRepository.findStatusById(1L)).thenReturn(Optional.of(OrderStatus.PROCESSING));
+
+            orderService.transitionStatus(1L, OrderStatus.PROCESSING);
+
+            verifyNoInteractions(userServiceClient, orderMapper);
+        }
+
+        @Test
+        @DisplayName("should throw ConcurrencyFailureException when a concurrent writer won the update")
+        void shouldThrow_WhenConcurrentWriterWon() {
+            when(orderRepository.updateStatus(eq(1L), eq(OrderStatus.PROCESSING), any(), any(LocalDateTime.class)))
+                    .thenReturn(0);
+            when(orderRepository.findStatusById(1L)).thenReturn(Optional.of(OrderStatus.PENDING));
+
+            assertThatThrownBy(() -> orderService.transitionStatus(1L, OrderStatus.PROCESSING))
+                    .isInstanceOf(ConcurrencyFailureException.class)
+                    .hasMessageContaining("changed concurrently");
+        }
+    }
+
+    @Nested
+    @DisplayName("compareAndSetStatuses tests")
+    class CompareAndSetStatusesTests {
+
+        @Test
+        @DisplayName("should run one update per target status")
+        void shouldRunOneUpdatePerTargetStatus() {
+            Map<Long, OrderStatus> statuses = new LinkedHashMap<>();
+            statuses.put(1L, OrderStatus.PROCESSING);
+            statuses.put(2L, OrderStatus.CANCELLED);
+            statuses.put(3L, OrderStatus.PROCESSING);
+
+            when(orderRepository.updateStatuses(eq(List.of(1L, 3L)), eq(OrderStatus.PROCESSING),
+                    eq(Set.of(OrderStatus.PENDING)), any(LocalDateTime.class)))
+                    .thenReturn(2);
+            when(orderRepository.updateStatuses(eq(List.of(2L)), eq(OrderStatus.CANCELLED),
+                    eq(Set.of(OrderStatus.PENDING, OrderStatus.PROCESSING)), any(LocalDateTime.class)))
+                    .thenReturn(0);
+
+            int updated = orderService.compareAndSetStatuses(statuses);
+
+            assertThat(updated).isEqualTo(2);
+            verify(orderRepository, times(2)).updateStatuses(any(), any(), any(), any());
+            verifyNoInteractions(userServiceClient, orderMapper);
+        }
+    }
+
     @Nested
     @DisplayName("deleteOrder tests")
     class DeleteOrderTests {
@@ -585,8 +1192,12 @@ class OrderServiceImplTest {
     }
 
     private UserInfoDto createUserInfoDto(boolean active) {
+        return createUserInfoDto(1L, active);
+    }
+
+    private UserInfoDto createUserInfoDto(Long id, boolean active) {
         return UserInfoDto.builder()
-                .id(1L)
+                .id(id)
                 .name("John")
                 .surname("Doe")
                 .birthDate(LocalDate.of(1990, 1, 1))
@@ -0,0 +1,91 @@
+package com.innowise.orderservice.service.impl;
+
+import com.innowise.orderservice.repository.ProcessedPaymentEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProcessedPaymentEventService unit tests")
+class ProcessedPaymentEventServiceImplTest {
+
+    @Mock
+    private ProcessedPaymentEventRepository processedPaymentEventRepository;
+
+    private ProcessedPaymentEventServiceImpl processedPaymentEventService;
+
+    @BeforeEach
+    void setUp() {
+        processedPaymentEventService = new ProcessedPaymentEventServiceImpl(
+                processedPaymentEventRepository, Duration.ofDays(7), 100);
+    }
+
+    @Nested
+    @DisplayName("findProcessed tests")
+    class FindProcessedTests {
+
+        @Test
+        @DisplayName("should query store only for payments not known in memory")
+        void shouldQueryOnlyUnknownPayments() {
+            when(processedPaymentEventRepository.findExistingPaymentIds(Set.of("payment-1", "payment-2")))
+                    .thenReturn(List.of("payment-1"));
+            when(processedPaymentEventRepository.findExistingPaymentIds(Set.of("payment-2")))
+                    .thenReturn(List.of());
+
+            assertThat(processedPaymentEventService.findProcessed(List.of("payment-1", "payment-2")))
+                    .containsExactly("payment-1");
+            assertThat(processedPaymentEventService.findProcessed(List.of("payment-1", "payment-2")))
+                    .containsExactly("payment-1");
+
+            verify(processedPaymentEventRepository).findExistingPaymentIds(Set.of("payment-2"));
+        }
+
+        @Test
+        @DisplayName("should answer from memory after payment was marked processed")
+        void shouldAnswerFromMemory_AfterMarkProcessed() {
+            when(processedPaymentEventRepository.insertIfAbsent(eq("payment-1"), eq(1L), any(LocalDateTime.class)))
+                    .thenReturn(1);
+
+            assertThat(processedPaymentEventService.markProcessed("payment-1", 1L)).isTrue();
+            assertThat(processedPaymentEventService.isProcessed("payment-1")).isTrue();
+
+            verify(processedPaymentEventRepository, never()).findExistingPaymentIds(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("markProcessed tests")
+    class MarkProcessedTests {
+
+        @Test
+        @DisplayName("should report duplicate when payment is already stored")
+        void shouldReturnFalse_WhenAlreadyStored() {
+            when(processedPaymentEventRepository.insertIfAbsent(eq("payment-1"), eq(1L), any(LocalDateTime.class)))
+                    .thenReturn(0);
+
+            assertThat(processedPaymentEventService.markProcessed("payment-1", 1L)).isFalse();
+        }
+
+        @Test
+        @DisplayName("should not store events without payment id")
+        void shouldSkipStore_WhenPaymentIdMissing() {
+            assertThat(processedPaymentEventService.markProcessed(null, 1L)).isTrue();
+
+            verifyNoInteractions(processedPaymentEventRepository);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.innowise.orderservice.service.impl;
+
+import com.innowise.orderservice.client.dto.UserInfoDto;
+import com.innowise.orderservice.dto.user.UserChangedEventDto;
+import com.innowise.orderservice.entity.UserProjection;
+import com.innowise.orderservice.mapper.UserProjectionMapperImpl;
+import com.innowise.orderservice.repository.UserProjectionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserProjectionService unit tests")
+class UserProjectionServiceImplTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @Mock
+    private UserProjectionRepository userProjectionRepository;
+
+    private UserProjectionServiceImpl userProjectionService;
+
+    @BeforeEach
+    void setUp() {
+        userProjectionService = new UserProjectionServiceImpl(
+                userProjectionRepository, new UserProjectionMapperImpl(), Duration.ofDays(1));
+    }
+
+    @Nested
+    @DisplayName("save tests")
+    class SaveTests {
+
+        @Test
+        @DisplayName("should upsert user with a fresh sync time")
+        void shouldUpsertUser() {
+            userProjectionService.save(createUser("john@example.com", UPDATED_AT));
+
+            ArgumentCaptor<LocalDateTime> syncedAt = ArgumentCaptor.forClass(LocalDateTime.class);
+            verify(userProjectionRepository).upsert(eq(1L), eq("John"), any(), any(), eq("john@example.com"),
+                    eq(true), any(), eq(UPDATED_AT), syncedAt.capture());
+            assertThat(syncedAt.getValue()).isAfter(UPDATED_AT);
+            verify(userProjectionRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("should ignore user without id")
+        void shouldIgnoreUserWithoutId() {
+            userProjectionService.save(UserInfoDto.builder().name("John").build());
+
+            verifyNoInteractions(userProjectionRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("apply tests")
+    class ApplyTests {
+
+        @Test
+        @DisplayName("should delete projected user on deletion event")
+        void shouldDelete_WhenUserDeleted() {
+            userProjectionService.apply(UserChangedEventDto.builder()
+                    .userId(1L)
+                    .eventType(UserChangedEventDto.EventType.USER_DELETED)
+                    .build());
+
+            verify(userProjectionRepository).deleteById(1L);
+        }
+
+        @Test
+        @DisplayName("should query only rows synced within max age")
+        void shouldFindFreshRows() {
+            when(userProjectionRepository.findSyncedSince(eq(List.of(1L)), any(LocalDateTime.class)))
+                    .thenReturn(List.of(createProjection("john@example.com", UPDATED_AT)));
+
+            assertThat(userProjectionService.findFresh(List.of(1L))).containsOnlyKeys(1L);
+        }
+    }
+
+    private static UserInfoDto createUser(String email, LocalDateTime updatedAt) {
+        return UserInfoDto.builder()
+                .id(1L)
+                .name("John")
+                .email(email)
+                .active(true)
+                .updatedAt(updatedAt)
+                .build();
+    }
+
+    private static UserProjection createProjection(String email, LocalDateTime updatedAt) {
+        return UserProjection.builder()
+                .id(1L)
+                .name("John")
+                .email(email)
+                .active(true)
+                .updatedAt(updatedAt)
+                .syncedAt(updatedAt)
+                .build();
+    }
+}